@@ -0,0 +1,55 @@
+package org.keglez;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  This benchmark measures <code>NimCanvas.paintComponent</code>, painting
+ *  into an off-screen image.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class CanvasBenchmark
+{
+    @Param({"10", "5", "0"})
+    public int matchSticks;
+
+    private NimCanvas canvas;
+    private BufferedImage image;
+
+
+    /**
+     *  Create the canvas and the image it is painted into.
+     */
+    @Setup
+    public void setup()
+    {
+        canvas = new NimCanvas(500, 400);
+        canvas.load(matchSticks);
+        canvas.setWinner(matchSticks == 0 ? "Human" : "");
+        image = new BufferedImage(500, 400, BufferedImage.TYPE_INT_RGB);
+    }
+
+
+    /**
+     *  Measure painting the canvas.
+     *
+     *  @return The painted image, so it is not optimised away.
+     */
+    @Benchmark
+    public BufferedImage paintComponent()
+    {
+        ReplayRenderer.renderFrame(canvas, image);
+        return image;
+    }
+}
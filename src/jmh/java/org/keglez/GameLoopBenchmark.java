@@ -0,0 +1,94 @@
+package org.keglez;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  This benchmark compares <code>Tournament.playGame</code>, whose calls to
+ *  <code>NextMove</code> have seen every strategy in a tournament, with a loop
+ *  specialised for the pairing by <code>GameLoopSpecializer</code>. Scores are
+ *  per game, from starting piles of 1 to 10.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameLoopBenchmark
+{
+    // Number of games in each batch.
+    private static final int BATCH_SIZE = 1024;
+
+    @Param({"shared", "specialized"})
+    public String loopName;
+
+    @Param({"Optimal", "Compiled"})
+    public String strategyName;
+
+    private GameLoop loop;
+    private final int[] startPiles = new int[BATCH_SIZE];
+
+
+    /**
+     *  Play every strategy through the shared loop, as a tournament would,
+     *  then create the loop being measured.
+     */
+    @Setup
+    public void setup()
+    {
+        MoveStrategy[] strategies = {new OptimalStrategy(), new ModuloStrategy(), new PreDefinedStrategy(),
+                new RandomStrategy(1), StrategyCompiler.compile(new OptimalStrategy(), 100)};
+
+        for (int i = 0; i < BATCH_SIZE; i++)
+        {
+            startPiles[i] = i % 10 + 1;
+        }
+
+        for (int round = 0; round < 20_000; round++)
+        {
+            for (MoveStrategy strategy : strategies)
+            {
+                Tournament.playGame(strategy, strategies[round % strategies.length], round % 10 + 1);
+            }
+        }
+
+        MoveStrategy first = strategyName.equals("Compiled") ? strategies[4] : strategies[0];
+        MoveStrategy second = new ModuloStrategy();
+
+        loop = switch (loopName)
+        {
+            case "shared" -> (piles, count) ->
+            {
+                long wins = 0;
+
+                for (int i = 0; i < count; i++)
+                {
+                    wins += Tournament.playGame(first, second, piles[i]) ? 1 : 0;
+                }
+
+                return wins;
+            };
+            case "specialized" -> GameLoopSpecializer.specialize(first, second);
+            default -> throw new IllegalStateException("Unexpected value: " + loopName);
+        };
+    }
+
+
+    /**
+     *  Measure a batch of games.
+     *
+     *  @return The first player's wins, so they are not optimised away.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public long playBatch()
+    {
+        return loop.play(startPiles, BATCH_SIZE);
+    }
+}
@@ -0,0 +1,85 @@
+package org.keglez;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  This benchmark measures the core <code>NimGame</code> operations: making a
+ *  move, undoing moves and resetting the game.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NimGameBenchmark
+{
+    private NimGame game;
+
+
+    /**
+     *  Create a game without a save file.
+     */
+    @Setup
+    public void setup()
+    {
+        game = new NimGame(
+                new Player("Human", new HumanUserStrategy()),
+                new Player("Computer", new RandomStrategy()),
+                null);
+    }
+
+
+    /**
+     *  Measure making a move, starting a new game whenever one finishes.
+     *
+     *  @return The pile size, so it is not optimised away.
+     */
+    @Benchmark
+    public int assignMove()
+    {
+        if (game.checkWinner())
+        {
+            game.resetGame();
+        }
+
+        game.assignMove(1);
+        return game.getMatchStickSize();
+    }
+
+
+    /**
+     *  Measure a human and computer move, followed by undoing them both.
+     *
+     *  @return The pile size, so it is not optimised away.
+     */
+    @Benchmark
+    public int assignMoveAndUndo()
+    {
+        game.assignMove(2);
+        game.assignMove(1);
+        game.undoLastMove();
+        return game.getMatchStickSize();
+    }
+
+
+    /**
+     *  Measure resetting a game which has had a few moves made.
+     *
+     *  @return The pile size, so it is not optimised away.
+     */
+    @Benchmark
+    public int resetGame()
+    {
+        game.assignMove(2);
+        game.assignMove(1);
+        game.resetGame();
+        return game.getMatchStickSize();
+    }
+}
@@ -0,0 +1,109 @@
+package org.keglez;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  This benchmark measures <code>SaveHandler</code> against save files of
+ *  1k, 100k and 1M saves. The save file is rebuilt before every iteration,
+ *  so appending does not slowly grow it during a run.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class SaveHandlerBenchmark
+{
+    @Param({"1000", "100000", "1000000"})
+    public int saves;
+
+    private Path file;
+    private SaveHandler handler;
+    private final String[] save = {"6", "true", "2121"};
+
+
+    /**
+     *  Write a save file holding the requested number of saves.
+     *
+     *  @throws IOException An issue writing the file.
+     */
+    @Setup(Level.Iteration)
+    public void setup() throws IOException
+    {
+        file = Files.createTempFile("nim-saves", ".csv");
+
+        try (BufferedWriter writer = Files.newBufferedWriter(file))
+        {
+            writer.write("ID,Date,Marble Size,Human Turn,Moves\n");
+
+            for (int i = 1; i <= saves; i++)
+            {
+                writer.write(i + ",2025-01-23-10-00-00,6,true,2121\n");
+            }
+        }
+
+        handler = new SaveHandler(file.toString());
+        handler.getSaveData();
+    }
+
+
+    /**
+     *  Remove the save file.
+     *
+     *  @throws IOException An issue deleting the file.
+     */
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException
+    {
+        Files.deleteIfExists(file);
+    }
+
+
+    /**
+     *  Measure appending a new save.
+     *
+     *  @throws IOException An issue writing the file.
+     */
+    @Benchmark
+    public void append() throws IOException
+    {
+        handler.append(save);
+    }
+
+
+    /**
+     *  Measure reading every save from the file.
+     *
+     *  @return The number of saves read, so it is not optimised away.
+     *  @throws IOException An issue reading the file.
+     */
+    @Benchmark
+    public int getSaveData() throws IOException
+    {
+        handler.getSaveData();
+        return handler.saveData.size();
+    }
+
+
+    /**
+     *  Measure loading a single save which has already been read.
+     *
+     *  @return The save, so it is not optimised away.
+     */
+    @Benchmark
+    public String[] loadGame()
+    {
+        return handler.loadGame(saves / 2);
+    }
+}
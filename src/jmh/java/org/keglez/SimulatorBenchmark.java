@@ -0,0 +1,73 @@
+package org.keglez;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  This benchmark compares the scalar <code>BatchSimulator</code> with the
+ *  simulator from <code>LaneSimulator.create</code>, which is the SIMD version
+ *  when run with the <code>vector</code> profile. Scores are per game, on a
+ *  single thread, so they are the throughput of one core.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimulatorBenchmark
+{
+    // Number of games in each batch.
+    private static final int BATCH_SIZE = 4096;
+
+    @Param({"scalar", "lanes"})
+    public String simulatorName;
+
+    @Param({"Optimal", "PreDefined"})
+    public String strategyName;
+
+    private LaneSimulator simulator;
+    private MoveStrategy first;
+    private final MoveStrategy second = new ModuloStrategy();
+    private final int[] startPiles = new int[BATCH_SIZE];
+
+
+    /**
+     *  Create the simulator and strategies being measured.
+     */
+    @Setup
+    public void setup()
+    {
+        simulator = switch (simulatorName)
+        {
+            case "scalar" -> new BatchSimulator(BATCH_SIZE);
+            case "lanes" -> LaneSimulator.create(BATCH_SIZE);
+            default -> throw new IllegalStateException("Unexpected value: " + simulatorName);
+        };
+
+        first = StrategyRegistry.getInstance().get(strategyName);
+
+        for (int i = 0; i < BATCH_SIZE; i++)
+        {
+            startPiles[i] = i % 10 + 1;
+        }
+    }
+
+
+    /**
+     *  Measure a batch of games, from starting piles of 1 to 10.
+     *
+     *  @return The first player's wins, so they are not optimised away.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public long playBatch()
+    {
+        return simulator.play(first, second, startPiles, BATCH_SIZE);
+    }
+}
@@ -0,0 +1,84 @@
+package org.keglez;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  This benchmark measures <code>MoveStrategy.NextMove</code> for every
+ *  computer strategy, over every pile size in a normal game.
+ *  <code>HumanUserStrategy</code> is left out, as it waits on the console.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StrategyBenchmark
+{
+    @Param({"Random", "Modulo", "PreDefined", "Optimal"})
+    public String strategyName;
+
+    // Number of piles in each batch call.
+    private static final int BATCH_SIZE = 1024;
+
+    private MoveStrategy strategy;
+    private int pile;
+    private final int[] piles = new int[BATCH_SIZE];
+    private final int[] moves = new int[BATCH_SIZE];
+
+
+    /**
+     *  Create the strategy being measured.
+     */
+    @Setup
+    public void setup()
+    {
+        strategy = switch (strategyName)
+        {
+            case "Random" -> new RandomStrategy();
+            case "Modulo" -> new ModuloStrategy();
+            case "PreDefined" -> new PreDefinedStrategy();
+            case "Optimal" -> new OptimalStrategy();
+            default -> throw new IllegalStateException("Unexpected value: " + strategyName);
+        };
+
+        for (int i = 0; i < BATCH_SIZE; i++)
+        {
+            piles[i] = i % 10 + 1;
+        }
+    }
+
+
+    /**
+     *  Measure a single move, cycling through pile sizes 1 to 10.
+     *
+     *  @return The move, so it is not optimised away.
+     */
+    @Benchmark
+    public int nextMove()
+    {
+        pile = pile == 10 ? 1 : pile + 1;
+        return strategy.NextMove(pile);
+    }
+
+
+    /**
+     *  Measure a batch of moves through <code>nextMoves</code>. The score is per
+     *  move, so it can be compared with <code>nextMove</code>.
+     *
+     *  @return The moves, so they are not optimised away.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int[] nextMovesBatch()
+    {
+        strategy.nextMoves(piles, moves, BATCH_SIZE);
+        return moves;
+    }
+}
@@ -0,0 +1,196 @@
+package org.keglez;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ *  This class represents a strategy which learns how its opponent plays. Every
+ *  move the opponent makes is counted by the pile it was made from, so the
+ *  strategy can predict how likely the opponent is to go wrong from any pile.
+ *
+ *  From a winning pile it plays the optimal move, as there is nothing better.
+ *  From a losing pile there is no winning move, so instead of always taking 1
+ *  it leaves whichever pile the opponent has most often misplayed from.
+ *
+ *  Small piles are counted one by one. Larger piles share a bucket with every
+ *  other large pile leaving the same remainder after dividing by 3, as those
+ *  all have the same correct move. Counts are kept in a primitive array per
+ *  opponent, so each update is a single increment.
+ *
+ *  In misère play the losing piles are one more than a multiple of 3, rather
+ *  than a multiple of 3, so every pile's remainder is shifted by 1.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+public class AdaptiveStrategy implements MoveStrategy
+{
+    // Piles below this are counted in their own bucket.
+    private static final int EXACT_PILES = 30;
+    private static final int BUCKETS = EXACT_PILES + 3;
+
+    // Class attributes.
+    private final Map<String, int[]> profiles = new HashMap<>();
+    private final boolean misere;
+    private String opponent;
+    private int[] counts;
+
+
+    /**
+     *  Construct a new adaptive strategy, which knows nothing about its opponents yet.
+     */
+    public AdaptiveStrategy()
+    {
+        this(false);
+    }
+
+
+    /**
+     *  Construct a new adaptive strategy, which knows nothing about its opponents yet.
+     *
+     *  @param misere Whether taking the last match stick loses.
+     */
+    public AdaptiveStrategy(boolean misere)
+    {
+        this.misere = misere;
+        selectOpponent("Human");
+    }
+
+
+    /**
+     * Play the optimal move from a winning pile, or leave the opponent the
+     * pile they are most likely to misplay from a losing one.
+     *
+     * @param currentPile The total number of match sticks left.
+     * @return The number of match sticks to remove.
+     */
+    @Override
+    public int NextMove(int currentPile)
+    {
+        if (currentPile <= 0)
+        {
+            return 0;
+        }
+
+        int remainder = correctMove(currentPile);
+
+        if (remainder != 0)
+        {
+            return remainder;
+        }
+
+        // Ties go to taking 1, to make the game last longer.
+        return getMistakeRate(currentPile - 2) > getMistakeRate(currentPile - 1) ? 2 : 1;
+    }
+
+
+    /**
+     * Count the opponent's move against the pile it was made from.
+     *
+     * @param opponent The name of the opponent.
+     * @param pile The number of match sticks before the move.
+     * @param move The number of match sticks removed.
+     */
+    @Override
+    public void observeOpponentMove(String opponent, int pile, int move)
+    {
+        if (move < 1 || move > 2 || pile <= 0)
+        {
+            return;
+        }
+
+        if (!opponent.equals(this.opponent))
+        {
+            selectOpponent(opponent);
+        }
+
+        counts[bucket(pile) * 2 + move - 1]++;
+    }
+
+
+    /**
+     *  Switch to the counts for another opponent, creating them on first sight.
+     *
+     *  @param opponent The name of the opponent.
+     */
+    private void selectOpponent(String opponent)
+    {
+        this.opponent = opponent;
+        this.counts = profiles.computeIfAbsent(opponent, name -> new int[BUCKETS * 2]);
+    }
+
+
+    /**
+     *  Predict how likely the current opponent is to misplay from a pile. With
+     *  nothing observed the prediction is one half, and it moves towards the
+     *  observed rate as moves are counted.
+     *
+     *  @param pile The number of match sticks the opponent faces.
+     *  @return Chance of a mistake, between 0 and 1.
+     */
+    public double getMistakeRate(int pile)
+    {
+        int correct = correctMove(pile);
+
+        // From a losing pile every move is as bad, and a pile of 1 can't be misplayed.
+        if (pile <= 1 || correct == 0)
+        {
+            return 0;
+        }
+
+        int offset = bucket(pile) * 2;
+        int right = counts[offset + correct - 1];
+        int wrong = counts[offset + 2 - correct];
+
+        return (wrong + 1.0) / (right + wrong + 2.0);
+    }
+
+
+    /**
+     *  Get the number of moves counted for the current opponent from a pile's bucket.
+     *
+     *  @param pile The number of match sticks.
+     *  @param move The number of match sticks removed.
+     *  @return Number of moves.
+     */
+    public int getCount(int pile, int move)
+    {
+        return counts[bucket(pile) * 2 + move - 1];
+    }
+
+
+    /**
+     *  Get the name of the opponent currently being modelled.
+     *
+     *  @return Opponent's name.
+     */
+    public String getOpponent()
+    {
+        return opponent;
+    }
+
+
+    /**
+     *  Work out the move which leaves the opponent a losing pile.
+     *
+     *  @param pile The number of match sticks, above 0.
+     *  @return 1 or 2, or 0 if the pile is already lost.
+     */
+    private int correctMove(int pile)
+    {
+        return (misere ? pile - 1 : pile) % 3;
+    }
+
+
+    /**
+     *  Work out which bucket a pile is counted in.
+     *
+     *  @param pile The number of match sticks, above 0.
+     *  @return Bucket index.
+     */
+    private static int bucket(int pile)
+    {
+        return pile < EXACT_PILES ? pile : EXACT_PILES + pile % 3;
+    }
+}
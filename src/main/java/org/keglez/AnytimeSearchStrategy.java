@@ -0,0 +1,351 @@
+package org.keglez;
+
+import java.util.Arrays;
+
+/**
+ *  This class represents a search strategy which always answers in time. It
+ *  searches the game tree to a depth of 1, then 2, then 3 and so on, keeping
+ *  the best move from the last search which finished. When the deadline
+ *  passes, the search in progress is abandoned and that move is played, so
+ *  a move never takes much longer than its time budget however large the pile.
+ *
+ *  Positions beyond the search depth are scored as unknown. A position only
+ *  depends on its pile, so results are remembered by pile: a proven win or
+ *  loss never changes, so later moves skip it, and a pile already searched
+ *  as deep without a result is not searched again. This keeps each depth
+ *  close to linear in the pile, rather than growing exponentially.
+ *
+ *  Each move records the depth it reached and the number of positions it
+ *  searched, so the time budget can be tuned for strength or for speed.
+ *
+ *  A strategy is not thread-safe, as it holds its proven positions between moves.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+public class AnytimeSearchStrategy implements MoveStrategy
+{
+    // The default time budget for a move, 50 milliseconds.
+    public static final long DEFAULT_BUDGET_NANOS = 50_000_000L;
+
+    // The default deepest search, which keeps the recursion well within the stack.
+    public static final int DEFAULT_MAX_DEPTH = 1000;
+
+    // The number of positions searched between checks of the clock.
+    private static final int CLOCK_INTERVAL = 256;
+
+    // Scores, for the player to move.
+    private static final byte UNKNOWN = 0;
+    private static final byte WIN = 1;
+    private static final byte LOSS = -1;
+
+    // Class attributes.
+    private final NimRules rules;
+    private final long budgetNanos;
+    private final int maxDepth;
+    private byte[] proven = new byte[64];
+    private int[] searched = new int[64];
+
+    private long deadline;
+    private long nodes;
+    private boolean aborted;
+
+    private int lastDepth;
+    private long lastNodes;
+    private long lastNanos;
+    private byte lastScore;
+
+
+    /**
+     *  Construct a new search strategy for the standard rules, with the default budget.
+     */
+    public AnytimeSearchStrategy()
+    {
+        this(NimRules.STANDARD, DEFAULT_BUDGET_NANOS, DEFAULT_MAX_DEPTH);
+    }
+
+
+    /**
+     *  Construct a new search strategy.
+     *
+     *  @param rules The rules of the game.
+     *  @param budgetNanos The time a move may take, in nanoseconds.
+     *  @param maxDepth The deepest search, in moves.
+     */
+    public AnytimeSearchStrategy(NimRules rules, long budgetNanos, int maxDepth)
+    {
+        if (budgetNanos <= 0 || maxDepth < 1)
+        {
+            throw new IllegalArgumentException("The time budget and the depth must be above 0");
+        }
+
+        this.rules = rules;
+        this.budgetNanos = budgetNanos;
+        this.maxDepth = maxDepth;
+    }
+
+
+    /**
+     * Deepen the search until the deadline passes, the result is proven, or
+     * the whole game has been searched, then play the best move found.
+     *
+     * @param currentPile The total number of match sticks left.
+     * @return The number of match sticks to remove, or 0 if no move can be made.
+     */
+    @Override
+    public int NextMove(int currentPile)
+    {
+        int legal = rules.getLegalMoveCount(currentPile);
+
+        if (legal == 0)
+        {
+            return 0;
+        }
+
+        long start = System.nanoTime();
+        deadline = start + budgetNanos;
+        nodes = 0;
+        aborted = false;
+
+        ensureCapacity(currentPile);
+
+        // Until a search finishes, the smallest move is ready to play.
+        int best = 0;
+        lastDepth = 0;
+        lastScore = UNKNOWN;
+
+        // Every game is over after this many moves, so searching deeper finds nothing new.
+        int gameLength = currentPile / rules.getMove(0) + 1;
+
+        for (int depth = 1; depth <= Math.min(maxDepth, gameLength); depth++)
+        {
+            int index = searchRoot(currentPile, legal, depth, best);
+
+            if (aborted)
+            {
+                break;
+            }
+
+            best = index;
+            lastDepth = depth;
+
+            if (lastScore != UNKNOWN)
+            {
+                break;
+            }
+        }
+
+        lastNodes = nodes;
+        lastNanos = System.nanoTime() - start;
+
+        return rules.getMove(best);
+    }
+
+
+    /**
+     *  Search every move from the current pile to a depth.
+     *
+     *  @param pile The number of match sticks left.
+     *  @param legal The number of legal moves.
+     *  @param depth The depth to search to.
+     *  @param previous The best move from the last depth, which is searched first.
+     *  @return The index of the best move.
+     */
+    private int searchRoot(int pile, int legal, int depth, int previous)
+    {
+        int best = previous;
+        byte bestScore = (byte) -negamax(pile - rules.getMove(previous), depth - 1);
+
+        for (int i = 0; i < legal && bestScore != WIN && !aborted; i++)
+        {
+            if (i == previous)
+            {
+                continue;
+            }
+
+            byte score = (byte) -negamax(pile - rules.getMove(i), depth - 1);
+
+            if (score > bestScore)
+            {
+                best = i;
+                bestScore = score;
+            }
+        }
+
+        if (!aborted)
+        {
+            lastScore = bestScore;
+        }
+
+        return best;
+    }
+
+
+    /**
+     *  Score a position for the player to move, looking a number of moves ahead.
+     *  The search stops at the first winning move, as nothing scores higher.
+     *
+     *  @param pile The number of match sticks left.
+     *  @param depth The number of moves left to search.
+     *  @return <code>WIN</code>, <code>LOSS</code> or <code>UNKNOWN</code>.
+     */
+    private int negamax(int pile, int depth)
+    {
+        if (++nodes % CLOCK_INTERVAL == 0 && System.nanoTime() - deadline > 0)
+        {
+            aborted = true;
+        }
+
+        if (aborted)
+        {
+            return UNKNOWN;
+        }
+
+        if (proven[pile] != UNKNOWN)
+        {
+            return proven[pile];
+        }
+
+        int legal = rules.getLegalMoveCount(pile);
+
+        // The player who can't move loses, unless it's misère play.
+        if (legal == 0)
+        {
+            proven[pile] = rules.isMisere() ? WIN : LOSS;
+            return proven[pile];
+        }
+
+        // Beyond the search depth, or already searched at least this deep without a result.
+        if (depth == 0 || searched[pile] >= depth)
+        {
+            return UNKNOWN;
+        }
+
+        int best = LOSS;
+
+        for (int i = 0; i < legal; i++)
+        {
+            int score = -negamax(pile - rules.getMove(i), depth - 1);
+
+            if (aborted)
+            {
+                return UNKNOWN;
+            }
+
+            if (score == WIN)
+            {
+                proven[pile] = WIN;
+                return WIN;
+            }
+
+            best = Math.max(best, score);
+        }
+
+        // Every move loses.
+        if (best == LOSS)
+        {
+            proven[pile] = LOSS;
+        }
+        else
+        {
+            searched[pile] = depth;
+        }
+
+        return best;
+    }
+
+
+    /**
+     *  Make sure there is room to remember every pile up to the current one.
+     *
+     *  @param pile The largest pile.
+     */
+    private void ensureCapacity(int pile)
+    {
+        if (pile >= proven.length)
+        {
+            int length = Math.max(pile + 1, proven.length * 2);
+            proven = Arrays.copyOf(proven, length);
+            searched = Arrays.copyOf(searched, length);
+        }
+    }
+
+
+    /**
+     *  Get the depth reached by the last move's deepest finished search.
+     *
+     *  @return Depth, in moves.
+     */
+    public int getLastDepth()
+    {
+        return lastDepth;
+    }
+
+
+    /**
+     *  Get the number of positions searched by the last move.
+     *
+     *  @return Number of positions.
+     */
+    public long getLastNodes()
+    {
+        return lastNodes;
+    }
+
+
+    /**
+     *  Get the time the last move took.
+     *
+     *  @return Time, in nanoseconds.
+     */
+    public long getLastNanos()
+    {
+        return lastNanos;
+    }
+
+
+    /**
+     *  Get the rate the last move searched positions at.
+     *
+     *  @return Positions a second.
+     */
+    public double getNodesPerSecond()
+    {
+        return lastNanos == 0 ? 0 : lastNodes * 1e9 / lastNanos;
+    }
+
+
+    /**
+     *  Check whether the last move was proven to win or to lose.
+     *
+     *  @return <code>true</code> or <code>false</code>
+     */
+    public boolean isLastMoveProven()
+    {
+        return lastScore != UNKNOWN;
+    }
+
+
+    /**
+     *  Print the depth reached and the search rate for a range of time budgets.
+     *
+     *  @param args Optionally, the pile to search from.
+     */
+    public static void main(String[] args)
+    {
+        int pile = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+        NimRules rules = new NimRules(1, 3, 4);
+
+        for (long millis : new long[]{1, 10, 100})
+        {
+            AnytimeSearchStrategy strategy = new AnytimeSearchStrategy(rules, millis * 1_000_000, DEFAULT_MAX_DEPTH);
+            int move = strategy.NextMove(pile);
+
+            System.out.printf("%4d ms: move %d, depth %d, %,d nodes in %.2f ms (%,.0f nodes/sec)%s%n",
+                    millis, move, strategy.getLastDepth(), strategy.getLastNodes(),
+                    strategy.getLastNanos() / 1e6, strategy.getNodesPerSecond(),
+                    strategy.isLastMoveProven() ? ", proven" : "");
+        }
+    }
+}
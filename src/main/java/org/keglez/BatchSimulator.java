@@ -0,0 +1,120 @@
+package org.keglez;
+
+/**
+ *  This class plays many games between two strategies in lock-step. Every game
+ *  in the batch has the same player to move, so each step is a single
+ *  <code>nextMoves</code> call covering every game still running. Finished
+ *  games are removed by packing the remaining piles to the front of the array.
+ *
+ *  The rules are the same as <code>NimGame</code>: the player who takes the
+ *  last match stick wins, and a player who tries to take anything other than
+ *  1 or 2 match sticks forfeits. A simulator is not thread-safe, so each
+ *  thread should use its own.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+public class BatchSimulator implements LaneSimulator
+{
+    // Class attributes.
+    private final int[] piles;
+    private final int[] moves;
+
+
+    /**
+     *  Construct a new batch simulator.
+     *
+     *  @param capacity The most games played in one batch.
+     */
+    public BatchSimulator(int capacity)
+    {
+        this.piles = new int[capacity];
+        this.moves = new int[capacity];
+    }
+
+
+    /**
+     *  Play a batch of games to the end.
+     *
+     *  @param first The strategy which moves first in every game.
+     *  @param second The strategy which moves second in every game.
+     *  @param startPiles The starting pile size of each game.
+     *  @param count The number of games.
+     *  @return The number of games the first strategy won.
+     */
+    @Override
+    public long play(MoveStrategy first, MoveStrategy second, int[] startPiles, int count)
+    {
+        if (count > piles.length)
+        {
+            throw new IllegalArgumentException("A batch of " + count + " games is over the capacity of " + piles.length);
+        }
+
+        // Games which start without any match sticks are lost by the first player.
+        int active = 0;
+
+        for (int i = 0; i < count; i++)
+        {
+            if (startPiles[i] > 0)
+            {
+                piles[active++] = startPiles[i];
+            }
+        }
+
+        long firstWins = 0;
+        boolean firstToMove = true;
+
+        while (active > 0)
+        {
+            (firstToMove ? first : second).nextMoves(piles, moves, active);
+
+            int running = 0;
+            long moverWins = 0;
+
+            for (int i = 0; i < active; i++)
+            {
+                int pile = piles[i];
+                int move = moves[i];
+
+                // The same correction as NimGame.assignMove.
+                if (pile - move == -1)
+                {
+                    move = 1;
+                }
+
+                // An illegal move forfeits the game.
+                if (move < 1 || move > 2)
+                {
+                    continue;
+                }
+
+                pile -= move;
+
+                if (pile == 0)
+                {
+                    moverWins++;
+                }
+                else
+                {
+                    piles[running++] = pile;
+                }
+            }
+
+            if (firstToMove)
+            {
+                firstWins += moverWins;
+            }
+            else
+            {
+                // The first player wins every game the second player forfeited.
+                firstWins += active - running - moverWins;
+            }
+
+            active = running;
+            firstToMove = !firstToMove;
+        }
+
+        return firstWins;
+    }
+}
@@ -0,0 +1,186 @@
+package org.keglez;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ *  This class represents a strategy compiled into a table by
+ *  <code>StrategyCompiler</code>. Entry <code>i</code> of the table is the move
+ *  from a pile of <code>i</code>, so a move is a single lookup with no
+ *  branching on the pile. Negative piles use the move for a pile of 0.
+ *
+ *  Piles beyond the table use a formula instead. When the compiler found the
+ *  moves repeating, such as every 3 piles for <code>OptimalStrategy</code>, the
+ *  repeating part of the table is wrapped around. Otherwise 1 is taken.
+ *
+ *  The table lives in a <code>ByteBuffer</code>, which is either on the heap or
+ *  mapped straight from a saved file, so a large table loads without reading
+ *  it. The table never changes, so one instance can be shared by any number
+ *  of threads.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+public class CompiledStrategy implements MoveStrategy
+{
+    // The first bytes of a saved table, "NIMT".
+    private static final int MAGIC = 0x4E494D54;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 20;
+
+    // Class attributes.
+    private final ByteBuffer table;
+    private final int maxPile;
+    private final int periodStart;
+    private final int period;
+
+
+    /**
+     *  Construct a new compiled strategy.
+     *
+     *  @param table The move from each pile, starting at a pile of 0.
+     *  @param periodStart The first pile of the repeating part of the table.
+     *  @param period The length of the repeating part, or 0 if the moves don't repeat.
+     */
+    public CompiledStrategy(ByteBuffer table, int periodStart, int period)
+    {
+        if (table.limit() == 0 || period < 0 || (period > 0 && periodStart + period > table.limit()))
+        {
+            throw new IllegalArgumentException("The repeating part must be within the table");
+        }
+
+        this.table = table;
+        this.maxPile = table.limit() - 1;
+        this.periodStart = periodStart;
+        this.period = period;
+    }
+
+
+    /**
+     * Look the move up in the table, or work it out from the repeating part.
+     *
+     * @param currentPile The total number of match sticks left.
+     * @return The number of match sticks to remove.
+     */
+    @Override
+    public int NextMove(int currentPile)
+    {
+        if (currentPile <= maxPile)
+        {
+            return table.get(Math.max(currentPile, 0));
+        }
+
+        if (period == 0)
+        {
+            return 1;
+        }
+
+        return table.get(periodStart + (currentPile - periodStart) % period);
+    }
+
+
+    /**
+     * The table never changes, so the move only depends on the pile.
+     *
+     * @return <code>true</code>
+     */
+    @Override
+    public boolean isDeterministic()
+    {
+        return true;
+    }
+
+
+    /**
+     * Get the largest pile in the table.
+     *
+     * @return Largest pile.
+     */
+    public int getMaxPile()
+    {
+        return maxPile;
+    }
+
+
+    /**
+     * Get the length of the repeating part of the table.
+     *
+     * @return Period, or 0 if the moves don't repeat.
+     */
+    public int getPeriod()
+    {
+        return period;
+    }
+
+
+    /**
+     * Get the first pile of the repeating part of the table.
+     *
+     * @return First pile.
+     */
+    public int getPeriodStart()
+    {
+        return periodStart;
+    }
+
+
+    /**
+     *  Save the table to a file.
+     *
+     *  @param path The file to write.
+     *  @throws IOException An issue writing the file.
+     */
+    public void save(Path path) throws IOException
+    {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(maxPile).putInt(periodStart).putInt(period).flip();
+
+        // Duplicate, so saving doesn't move a buffer other threads are reading.
+        ByteBuffer moves = table.duplicate().clear();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING))
+        {
+            while (header.hasRemaining() || moves.hasRemaining())
+            {
+                channel.write(new ByteBuffer[]{header, moves});
+            }
+        }
+    }
+
+
+    /**
+     *  Map a table saved by <code>save</code> into memory. The file is not read
+     *  up front; the operating system pages it in as moves are looked up.
+     *
+     *  @param path The file to map.
+     *  @return The compiled strategy.
+     *  @throws IOException An issue reading the file, or the file is not a saved table.
+     */
+    public static CompiledStrategy load(Path path) throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+        {
+            // The mapping stays valid after the channel is closed.
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+
+            if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION)
+            {
+                throw new IOException("Not a compiled strategy: " + path);
+            }
+
+            int maxPile = buffer.getInt(8);
+
+            if (buffer.limit() - HEADER_SIZE != maxPile + 1L)
+            {
+                throw new IOException("The compiled strategy is the wrong size: " + path);
+            }
+
+            return new CompiledStrategy(buffer.slice(HEADER_SIZE, maxPile + 1), buffer.getInt(12), buffer.getInt(16));
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package org.keglez;
+
+import java.awt.event.ActionListener;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *  This class records frame-time and event metrics for the GUI. It is opt-in,
+ *  and is only created when the game is started with <code>-Dnim.metrics=true</code>.
+ *
+ *  <ul>Recorded metrics:</ul>
+ *  <ul>
+ *      <li>How long each <code>NimCanvas.paintComponent</code> call takes.</li>
+ *      <li>How long each action listener takes to handle its event.</li>
+ *      <li>The latency from an action event being created to it being handled.</li>
+ *      <li>The number of repaints requested and performed, and the current FPS.</li>
+ *  </ul>
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+public class FrameMetrics
+{
+    // Class attributes.
+    private final LatencyHistogram paintTimes;
+    private final LatencyHistogram eventHandlingTimes;
+    private final LatencyHistogram eventLatencies;
+    private final LongAdder repaintRequests;
+    private final LongAdder paints;
+
+    // FPS window, only ever touched from the event dispatch thread.
+    private long fpsWindowStart;
+    private int fpsWindowPaints;
+    private int framesPerSecond;
+
+
+    /**
+     *  Construct a new, empty set of frame metrics.
+     */
+    public FrameMetrics()
+    {
+        this.paintTimes = new LatencyHistogram();
+        this.eventHandlingTimes = new LatencyHistogram();
+        this.eventLatencies = new LatencyHistogram();
+        this.repaintRequests = new LongAdder();
+        this.paints = new LongAdder();
+        this.fpsWindowStart = System.nanoTime();
+    }
+
+
+    /**
+     *  Check whether the metrics have been switched on with the
+     *  <code>nim.metrics</code> system property.
+     *
+     *  @return <code>true</code> or <code>false</code>
+     */
+    public static boolean isEnabled()
+    {
+        return Boolean.getBoolean("nim.metrics");
+    }
+
+
+    /**
+     *  Record a single paint of the canvas.
+     *
+     *  @param nanos How long the paint took.
+     */
+    public void recordPaint(long nanos)
+    {
+        paintTimes.record(nanos);
+        paints.increment();
+
+        // Roll the FPS window over once a second has passed.
+        fpsWindowPaints++;
+        long now = System.nanoTime();
+
+        if (now - fpsWindowStart >= TimeUnit.SECONDS.toNanos(1))
+        {
+            framesPerSecond = fpsWindowPaints;
+            fpsWindowPaints = 0;
+            fpsWindowStart = now;
+        }
+    }
+
+
+    /**
+     *  Record that a repaint of the canvas has been requested.
+     */
+    public void recordRepaintRequest()
+    {
+        repaintRequests.increment();
+    }
+
+
+    /**
+     *  Wrap an action listener so that the time taken to handle its events,
+     *  and the latency from each event being created, are recorded.
+     *
+     *  @param listener The listener to time.
+     *  @return Timed listener.
+     */
+    public ActionListener timed(ActionListener listener)
+    {
+        return event ->
+        {
+            long start = System.nanoTime();
+
+            try
+            {
+                listener.actionPerformed(event);
+            }
+            finally
+            {
+                eventHandlingTimes.record(System.nanoTime() - start);
+                eventLatencies.record(TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis() - event.getWhen()));
+            }
+        };
+    }
+
+
+    /**
+     *  Get the lines of text shown in the canvas overlay.
+     *
+     *  @return Overlay lines.
+     */
+    public String[] getOverlayLines()
+    {
+        return new String[]
+        {
+            String.format("FPS: %d  Paints: %d  Repaints: %d", framesPerSecond, paints.sum(), repaintRequests.sum()),
+            String.format("Paint p50/p99: %.2f/%.2f ms", paintTimes.getValueAtPercentile(50) / 1e6, paintTimes.getValueAtPercentile(99) / 1e6),
+            String.format("Event p50/p99: %.2f/%.2f ms", eventHandlingTimes.getValueAtPercentile(50) / 1e6, eventHandlingTimes.getValueAtPercentile(99) / 1e6),
+            String.format("Latency p99: %.2f ms", eventLatencies.getValueAtPercentile(99) / 1e6)
+        };
+    }
+
+
+    /**
+     *  Write all the recorded metrics to a stream.
+     *
+     *  @param out The stream to write to.
+     */
+    public void dump(PrintStream out)
+    {
+        out.println("Frame metrics:");
+        out.println("  Paint time:     " + paintTimes.summary());
+        out.println("  Event handling: " + eventHandlingTimes.summary());
+        out.println("  Event latency:  " + eventLatencies.summary());
+        out.println("  Repaints requested: " + repaintRequests.sum() + ", performed: " + paints.sum());
+    }
+
+
+    /**
+     *  Dump the metrics to the console when the application exits.
+     */
+    public void dumpOnExit()
+    {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> dump(System.out), "frame-metrics-dump"));
+    }
+
+
+    /**
+     *  Get the paint time histogram.
+     *
+     *  @return Paint times.
+     */
+    public LatencyHistogram getPaintTimes()
+    {
+        return paintTimes;
+    }
+
+
+    /**
+     *  Get the event handling time histogram.
+     *
+     *  @return Event handling times.
+     */
+    public LatencyHistogram getEventHandlingTimes()
+    {
+        return eventHandlingTimes;
+    }
+
+
+    /**
+     *  Get the event latency histogram.
+     *
+     *  @return Event latencies.
+     */
+    public LatencyHistogram getEventLatencies()
+    {
+        return eventLatencies;
+    }
+}
@@ -0,0 +1,89 @@
+package org.keglez;
+
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.MethodHandles;
+
+/**
+ *  This class is the template for the loops made by
+ *  <code>GameLoopSpecializer</code>. It is never loaded as it is. Instead, its
+ *  bytecode is defined again as a new hidden class for every pairing, with the
+ *  pairing's strategies as the class data.
+ *
+ *  The strategies are read into static final fields, which the JIT treats as
+ *  constants, and every hidden class has its own copy of <code>play</code>, so
+ *  each call to <code>NextMove</code> only ever sees one strategy and can be
+ *  inlined, however many other pairings are played.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+final class FusedGameLoop implements GameLoop
+{
+    // The pairing, from the hidden class's data.
+    private static final MoveStrategy FIRST;
+    private static final MoveStrategy SECOND;
+
+    static
+    {
+        try
+        {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            FIRST = MethodHandles.classDataAt(lookup, ConstantDescs.DEFAULT_NAME, MoveStrategy.class, 0);
+            SECOND = MethodHandles.classDataAt(lookup, ConstantDescs.DEFAULT_NAME, MoveStrategy.class, 1);
+        }
+        catch (IllegalAccessException error)
+        {
+            throw new ExceptionInInitializerError(error);
+        }
+    }
+
+
+    /**
+     * Play a batch of games between the pairing.
+     *
+     * @param startPiles The starting pile size of each game.
+     * @param count The number of games.
+     * @return The number of games the first strategy won.
+     */
+    @Override
+    public long play(int[] startPiles, int count)
+    {
+        long firstWins = 0;
+
+        for (int i = 0; i < count; i++)
+        {
+            int pile = startPiles[i];
+            boolean firstToMove = true;
+
+            while (pile > 0)
+            {
+                // Two call sites, so each only sees its own strategy.
+                int move = firstToMove ? FIRST.NextMove(pile) : SECOND.NextMove(pile);
+
+                // The same correction as NimGame.assignMove.
+                if (pile - move == -1)
+                {
+                    move = 1;
+                }
+
+                // A forfeit ends the game with the mover still to move, so they lose.
+                if (move < 1 || move > 2)
+                {
+                    break;
+                }
+
+                pile -= move;
+                firstToMove = !firstToMove;
+            }
+
+            // The player who isn't next won.
+            if (!firstToMove)
+            {
+                firstWins++;
+            }
+        }
+
+        return firstWins;
+    }
+}
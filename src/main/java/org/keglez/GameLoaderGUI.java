@@ -4,6 +4,7 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 
 /**
@@ -17,6 +18,9 @@ import java.util.ArrayList;
  */
 public class GameLoaderGUI extends JDialog
 {
+    // Thumbnails are shared between loaders, so they stay cached between uses.
+    private static final ThumbnailCache THUMBNAILS = new ThumbnailCache(Paths.get("src/main/resources/thumbnails"), 64);
+
     // Class attributes.
     public SaveHandler saveData;
     private int save = 0;
@@ -34,7 +38,7 @@ public class GameLoaderGUI extends JDialog
 
             // Set up the frame options.
             setTitle("Game Loader");
-            setPreferredSize(new Dimension(400, 300));
+            setPreferredSize(new Dimension(560, 400));
             setDefaultCloseOperation(JDialog.DISPOSE_ON_CLOSE);
             setResizable(false);
 
@@ -43,7 +47,9 @@ public class GameLoaderGUI extends JDialog
 
             // Add the GUI content.
             add(generateHeader(), BorderLayout.NORTH);
-            add(generateSaveData(), BorderLayout.CENTER);
+            JScrollPane scrollPane = new JScrollPane(generateSaveData());
+            scrollPane.getVerticalScrollBar().setUnitIncrement(16);
+            add(scrollPane, BorderLayout.CENTER);
 
             // Display the frame.
             pack();
@@ -103,21 +109,25 @@ public class GameLoaderGUI extends JDialog
 
             // Setup new panel and layout.
             JPanel panel = new JPanel();
-            panel.setLayout(new GridLayout(data.size(), 5));
+            panel.setLayout(new GridLayout(data.size(), 7));
 
             // Set headings from save file.
+            panel.add(new JLabel("")); // No label for the thumbnail.
             panel.add(new JLabel(data.getFirst()[1]));
             panel.add(new JLabel(data.getFirst()[2]));
             panel.add(new JLabel(data.getFirst()[3]));
             panel.add(new JLabel(data.getFirst()[4]));
+            panel.add(new JLabel("Misère"));
             panel.add(new JLabel("")); // No label for load game.
 
             // Generate all save data items.
             for (int i = 1; i < data.size(); i++) {
+                panel.add(generateThumbnail(data.get(i)));
                 panel.add(new JLabel(data.get(i)[1]));
                 panel.add(new JLabel(data.get(i)[2]));
                 panel.add(new JLabel(data.get(i)[3]));
                 panel.add(new JLabel(data.get(i)[4]));
+                panel.add(new JLabel(String.valueOf(NimGame.isMisereSave(data.get(i)))));
 
                 int id = Integer.parseInt(data.get(i)[0]);
                 JButton button = new JButton("Load");
@@ -137,6 +147,28 @@ public class GameLoaderGUI extends JDialog
     }
 
 
+    /**
+     *  This method generates the thumbnail label for a save. The thumbnail is
+     *  rendered in the background, and set on the label once it is ready.
+     *
+     *  @param save The save data row.
+     *  @return Thumbnail label.
+     */
+    private JLabel generateThumbnail(String[] save)
+    {
+        JLabel label = new JLabel("...", SwingConstants.CENTER);
+        label.setPreferredSize(new Dimension(ThumbnailCache.WIDTH, ThumbnailCache.HEIGHT));
+
+        THUMBNAILS.request(save, thumbnail ->
+        {
+            label.setText(null);
+            label.setIcon(new ImageIcon(thumbnail));
+        });
+
+        return label;
+    }
+
+
     /**
      * This method gives each save an ID, so that an action listener can refer to it
      * when a user tries to load the save.
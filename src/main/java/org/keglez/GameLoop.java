@@ -0,0 +1,23 @@
+package org.keglez;
+
+/**
+ *  This interface plays games between a fixed pair of strategies. Loops are
+ *  made by <code>GameLoopSpecializer</code>, which gives every pairing its own
+ *  class, so the strategies' moves can be inlined into the loop.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+public interface GameLoop
+{
+    /**
+     *  Play a batch of games to the end, under the same rules as
+     *  <code>Tournament</code>.
+     *
+     *  @param startPiles The starting pile size of each game.
+     *  @param count The number of games.
+     *  @return The number of games the first strategy won.
+     */
+    long play(int[] startPiles, int count);
+}
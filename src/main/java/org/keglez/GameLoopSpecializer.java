@@ -0,0 +1,93 @@
+package org.keglez;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+
+/**
+ *  This class makes a game loop specialised for one pairing of strategies.
+ *  When one loop plays many different strategies, such as
+ *  <code>Tournament.playGame</code>, its calls to <code>NextMove</code> see too
+ *  many classes for the JIT to inline any of them. Each specialised loop is a
+ *  new hidden class, defined from the bytecode of <code>FusedGameLoop</code>
+ *  with the pairing as its class data, so its calls only ever see one
+ *  strategy each and the strategy's moves are compiled into the loop.
+ *
+ *  A table strategy, such as <code>TableStrategy</code> or
+ *  <code>CompiledStrategy</code>, or a formula, such as
+ *  <code>OptimalStrategy</code>, is inlined in the same way. Hidden classes are
+ *  unloaded once their loop is no longer used.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+public final class GameLoopSpecializer
+{
+    /**
+     *  Not to be constructed.
+     */
+    private GameLoopSpecializer()
+    {
+    }
+
+
+    /**
+     *  Make a game loop for a pairing.
+     *
+     *  @param first The strategy which moves first in every game.
+     *  @param second The strategy which moves second in every game.
+     *  @return The specialised loop.
+     */
+    public static GameLoop specialize(MoveStrategy first, MoveStrategy second)
+    {
+        try
+        {
+            MethodHandles.Lookup lookup = MethodHandles.lookup()
+                    .defineHiddenClassWithClassData(Template.BYTES, List.of(first, second), true);
+
+            return (GameLoop) lookup.findConstructor(lookup.lookupClass(), MethodType.methodType(void.class)).invoke();
+        }
+        catch (Throwable error)
+        {
+            System.out.println("An error occurred while specialising a game loop:");
+            throw new RuntimeException(error);
+        }
+    }
+
+
+    /**
+     *  Holds the template's bytecode, read the first time a loop is made.
+     */
+    private static class Template
+    {
+        private static final byte[] BYTES = read();
+
+
+        /**
+         *  Read the template's class file, which sits beside this class. It is read
+         *  as a resource of this class, so the template itself is never loaded.
+         *
+         *  @return Bytecode.
+         */
+        private static byte[] read()
+        {
+            try (InputStream stream = GameLoopSpecializer.class.getResourceAsStream("FusedGameLoop.class"))
+            {
+                if (stream == null)
+                {
+                    throw new IOException("The game loop template is missing");
+                }
+
+                return stream.readAllBytes();
+            }
+            catch (IOException error)
+            {
+                System.out.println("An error occurred while reading the game loop template:");
+                throw new RuntimeException(error);
+            }
+        }
+    }
+}
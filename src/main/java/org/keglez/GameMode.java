@@ -0,0 +1,16 @@
+package org.keglez;
+
+/**
+ *  This enumerator defines the available game modes. Each strategy provider
+ *  declares the game mode it is suited to.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+public enum GameMode
+{
+    EASY,
+    MEDIUM,
+    HARD
+}
@@ -0,0 +1,245 @@
+package org.keglez;
+
+/**
+ *  This class holds the full move journal of a game, so that any position in
+ *  its history can be shown. Every <code>KEYFRAME_INTERVAL</code> moves, the pile
+ *  size is stored as a keyframe. Seeking to a move starts from the nearest
+ *  keyframe and only replays the moves after it, so jumping anywhere in a game
+ *  of a million moves takes at most a thousand additions.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+public class GameReplay
+{
+    // Number of moves between keyframes.
+    public static final int KEYFRAME_INTERVAL = 1024;
+
+    // Class attributes.
+    private final int startPile;
+    private final boolean startHumanTurn;
+    private final boolean misere;
+    private final byte[] moves;
+    private final int[] keyframes;
+
+
+    /**
+     *  Construct a new replay from the start of a game.
+     *
+     *  @param startPile The number of match sticks at the start.
+     *  @param startHumanTurn Whether the human made the first move.
+     *  @param moves Every move made, in order.
+     */
+    public GameReplay(int startPile, boolean startHumanTurn, int[] moves)
+    {
+        this(startPile, startHumanTurn, moves, false);
+    }
+
+
+    /**
+     *  Construct a new replay from the start of a game.
+     *
+     *  @param startPile The number of match sticks at the start.
+     *  @param startHumanTurn Whether the human made the first move.
+     *  @param moves Every move made, in order.
+     *  @param misere Whether the game was played in misère mode, where taking the last match stick loses.
+     */
+    public GameReplay(int startPile, boolean startHumanTurn, int[] moves, boolean misere)
+    {
+        this.startPile = startPile;
+        this.startHumanTurn = startHumanTurn;
+        this.misere = misere;
+        this.moves = new byte[moves.length];
+        this.keyframes = new int[moves.length / KEYFRAME_INTERVAL + 1];
+
+        // Store the moves, and the pile size at every keyframe.
+        int pile = startPile;
+
+        for (int i = 0; i < moves.length; i++)
+        {
+            if (i % KEYFRAME_INTERVAL == 0)
+            {
+                keyframes[i / KEYFRAME_INTERVAL] = pile;
+            }
+
+            this.moves[i] = (byte) moves[i];
+            pile -= moves[i];
+        }
+
+        if (moves.length % KEYFRAME_INTERVAL == 0)
+        {
+            keyframes[moves.length / KEYFRAME_INTERVAL] = pile;
+        }
+    }
+
+
+    /**
+     *  Construct a replay from the end of a game, as it is stored in a save.
+     *  The starting position is worked out from the final position and moves.
+     *
+     *  @param finalPile The number of match sticks at the end.
+     *  @param finalHumanTurn Whether it was the human's turn at the end.
+     *  @param moves Every move made, in order. Moves of 0 are ignored.
+     *  @return The replay.
+     */
+    public static GameReplay fromEnd(int finalPile, boolean finalHumanTurn, int[] moves)
+    {
+        return fromEnd(finalPile, finalHumanTurn, moves, false);
+    }
+
+
+    /**
+     *  Construct a replay from the end of a game, as it is stored in a save.
+     *  The starting position is worked out from the final position and moves.
+     *
+     *  @param finalPile The number of match sticks at the end.
+     *  @param finalHumanTurn Whether it was the human's turn at the end.
+     *  @param moves Every move made, in order. Moves of 0 are ignored.
+     *  @param misere Whether the game was played in misère mode.
+     *  @return The replay.
+     */
+    public static GameReplay fromEnd(int finalPile, boolean finalHumanTurn, int[] moves, boolean misere)
+    {
+        // Saves without any moves store a single 0.
+        int count = 0;
+        int total = 0;
+
+        for (int move : moves)
+        {
+            if (move > 0)
+            {
+                count++;
+                total += move;
+            }
+        }
+
+        int[] played = new int[count];
+        int index = 0;
+
+        for (int move : moves)
+        {
+            if (move > 0)
+            {
+                played[index++] = move;
+            }
+        }
+
+        // Every move flips the turn, so an odd number of moves means it started on the other player.
+        return new GameReplay(finalPile + total, finalHumanTurn ^ (count % 2 == 1), played, misere);
+    }
+
+
+    /**
+     *  Construct a replay of a game's history so far.
+     *
+     *  @param game The game to replay.
+     *  @return The replay.
+     */
+    public static GameReplay fromGame(NimGame game)
+    {
+        return fromEnd(game.getMatchStickSize(), game.getIsHumanTurn(), game.getMoves(), game.isMisere());
+    }
+
+
+    /**
+     *  Get the number of moves in the replay.
+     *
+     *  @return Number of moves.
+     */
+    public int getMoveCount()
+    {
+        return moves.length;
+    }
+
+
+    /**
+     *  Get a single move.
+     *
+     *  @param index The move number, starting at 0.
+     *  @return Number of match sticks removed.
+     */
+    public int getMove(int index)
+    {
+        return moves[index];
+    }
+
+
+    /**
+     *  Get the number of match sticks left after a number of moves.
+     *
+     *  @param position The number of moves made, between 0 and the move count.
+     *  @return Match sticks left.
+     */
+    public int getPileAt(int position)
+    {
+        checkPosition(position);
+
+        // Start from the keyframe, then replay the moves after it.
+        int keyframe = position / KEYFRAME_INTERVAL;
+        int pile = keyframes[keyframe];
+
+        for (int i = keyframe * KEYFRAME_INTERVAL; i < position; i++)
+        {
+            pile -= moves[i];
+        }
+
+        return pile;
+    }
+
+
+    /**
+     *  Check whether it is the human's turn after a number of moves.
+     *
+     *  @param position The number of moves made.
+     *  @return <code>true</code> or <code>false</code>
+     */
+    public boolean isHumanTurnAt(int position)
+    {
+        checkPosition(position);
+        return startHumanTurn ^ (position % 2 == 1);
+    }
+
+
+    /**
+     *  Get the name of the winner after a number of moves, if the game has finished.
+     *
+     *  @param position The number of moves made.
+     *  @return "Human", "Computer", or an empty string if there is no winner yet.
+     */
+    public String getWinnerAt(int position)
+    {
+        if (position == 0 || getPileAt(position) > 0)
+        {
+            return "";
+        }
+
+        // The player who took the last match stick wins, or loses in misère mode.
+        return isHumanTurnAt(position - 1) != misere ? "Human" : "Computer";
+    }
+
+
+    /**
+     *  Get the number of match sticks at the start of the game.
+     *
+     *  @return Starting pile size.
+     */
+    public int getStartPile()
+    {
+        return startPile;
+    }
+
+
+    /**
+     *  Make sure a position is inside the replay.
+     *
+     *  @param position The number of moves made.
+     */
+    private void checkPosition(int position)
+    {
+        if (position < 0 || position > moves.length)
+        {
+            throw new IndexOutOfBoundsException("Position " + position + " is outside the replay of " + moves.length + " moves");
+        }
+    }
+}
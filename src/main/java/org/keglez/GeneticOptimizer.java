@@ -0,0 +1,373 @@
+package org.keglez;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ *  This class evolves lookup tables for <code>TableStrategy</code>. Each genome
+ *  is a table of moves for piles 1 to <code>maxPile</code>. Every generation,
+ *  each genome plays every opponent from every starting pile, in both seats,
+ *  and the fraction of games it wins is its fitness. The next generation is
+ *  bred from the fittest by tournament selection, uniform crossover and
+ *  mutation, and the two best genomes are kept as they are.
+ *
+ *  Against random opponents each score is a noisy sample, so the best genome
+ *  is taken from the final generation's scores rather than the highest score
+ *  ever measured, which would keep the luckiest draw and overstate its fitness.
+ *
+ *  The whole population lives in two flat <code>byte[]</code> arrays which are
+ *  swapped each generation. Fitness is evaluated in parallel, in one chunk of
+ *  the population per core, with each chunk playing its own copies of the
+ *  opponents. Playing a game only reads the genome and calls the opponent, so
+ *  evaluating fitness does not allocate.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+public class GeneticOptimizer
+{
+    // Number of genomes which pass to the next generation unchanged.
+    private static final int ELITES = 2;
+
+    // Number of genomes compared when selecting a parent.
+    private static final int SELECTION_SIZE = 3;
+
+    // Class attributes.
+    private final NimRules rules;
+    private final int maxPile;
+    private final int populationSize;
+    private final int gamesPerStart;
+    private final MoveStrategy[][] opponents;
+    private final SplittableRandom random;
+
+    private byte[] population;
+    private byte[] nextPopulation;
+    private final double[] fitness;
+    private final byte[] best;
+    private double bestFitness = -1;
+    private int generation;
+    private double mutationRate = 0.02;
+
+
+    /**
+     *  Construct a new optimizer, with a random starting population.
+     *
+     *  @param rules The rules of the game.
+     *  @param maxPile The largest pile in each table.
+     *  @param populationSize The number of genomes in each generation.
+     *  @param opponents The strategies each genome is played against.
+     *  @param gamesPerStart The games played against each opponent from each pile, per seat.
+     *  @param seed The seed for breeding, and for any random opponents.
+     */
+    public GeneticOptimizer(NimRules rules, int maxPile, int populationSize, List<MoveStrategy> opponents, int gamesPerStart, long seed)
+    {
+        if (populationSize <= ELITES)
+        {
+            throw new IllegalArgumentException("The population must be larger than " + ELITES);
+        }
+
+        this.rules = rules;
+        this.maxPile = maxPile;
+        this.populationSize = populationSize;
+        this.gamesPerStart = gamesPerStart;
+        this.random = new SplittableRandom(seed);
+        this.population = new byte[populationSize * maxPile];
+        this.nextPopulation = new byte[populationSize * maxPile];
+        this.fitness = new double[populationSize];
+        this.best = new byte[maxPile];
+
+        // Give each chunk its own opponents, as a seeded strategy is not thread-safe.
+        int chunks = Math.min(populationSize, Runtime.getRuntime().availableProcessors());
+        this.opponents = new MoveStrategy[chunks][opponents.size()];
+
+        for (int chunk = 0; chunk < chunks; chunk++)
+        {
+            for (int i = 0; i < opponents.size(); i++)
+            {
+                this.opponents[chunk][i] = opponents.get(i).withSeed(random.nextLong());
+            }
+        }
+
+        for (int i = 0; i < population.length; i++)
+        {
+            population[i] = randomGene(i % maxPile + 1);
+        }
+    }
+
+
+    /**
+     *  Set the chance of each gene being replaced by a random move when breeding.
+     *
+     *  @param mutationRate Between 0 and 1.
+     */
+    public void setMutationRate(float mutationRate)
+    {
+        this.mutationRate = mutationRate;
+    }
+
+
+    /**
+     *  Run a number of generations.
+     *
+     *  @param generations The number of generations.
+     *  @return The best genome of the final generation, as a strategy.
+     */
+    public TableStrategy evolve(int generations)
+    {
+        for (int i = 0; i < generations; i++)
+        {
+            evaluatePopulation();
+            breed();
+            generation++;
+        }
+
+        // Score the final generation, and keep its best genome.
+        evaluatePopulation();
+
+        int fittest = fittest(-1);
+        bestFitness = fitness[fittest];
+        System.arraycopy(population, fittest * maxPile, best, 0, maxPile);
+
+        return getBest();
+    }
+
+
+    /**
+     *  Work out the fitness of every genome, a chunk per core.
+     */
+    private void evaluatePopulation()
+    {
+        int chunks = opponents.length;
+
+        IntStream.range(0, chunks)
+                .parallel()
+                .forEach(chunk ->
+                {
+                    for (int genome = chunk; genome < populationSize; genome += chunks)
+                    {
+                        fitness[genome] = evaluate(population, genome * maxPile, opponents[chunk]);
+                    }
+                });
+    }
+
+
+    /**
+     *  Work out the fitness of one genome: the fraction of games it wins against
+     *  the opponents, from every pile and in both seats.
+     *
+     *  @param genomes The array holding the genome.
+     *  @param offset The index of the genome's move for a pile of 1.
+     *  @param against The opponents to play.
+     *  @return Fitness, between 0 and 1.
+     */
+    double evaluate(byte[] genomes, int offset, MoveStrategy[] against)
+    {
+        long wins = 0;
+
+        for (MoveStrategy opponent : against)
+        {
+            for (int pile = 1; pile <= maxPile; pile++)
+            {
+                for (int game = 0; game < gamesPerStart; game++)
+                {
+                    wins += playGame(genomes, offset, opponent, pile, true) ? 1 : 0;
+                    wins += playGame(genomes, offset, opponent, pile, false) ? 1 : 0;
+                }
+            }
+        }
+
+        return wins / (2.0 * against.length * maxPile * gamesPerStart);
+    }
+
+
+    /**
+     *  Play a single game between a genome and an opponent. The player who takes
+     *  the last match stick wins, or loses in misère play, and a player who makes
+     *  an illegal move loses.
+     *
+     *  @param genomes The array holding the genome.
+     *  @param offset The index of the genome's move for a pile of 1.
+     *  @param opponent The opponent.
+     *  @param pile The starting pile.
+     *  @param genomeFirst Whether the genome moves first.
+     *  @return Whether the genome won.
+     */
+    private boolean playGame(byte[] genomes, int offset, MoveStrategy opponent, int pile, boolean genomeFirst)
+    {
+        boolean genomeToMove = genomeFirst;
+
+        while (rules.getLegalMoveCount(pile) > 0)
+        {
+            int move = genomeToMove ? genomes[offset + pile - 1] : opponent.NextMove(pile);
+
+            // The same correction as NimGame.assignMove.
+            if (pile - move == -1)
+            {
+                move = 1;
+            }
+
+            if (!rules.isLegal(pile, move))
+            {
+                return !genomeToMove;
+            }
+
+            pile -= move;
+            genomeToMove = !genomeToMove;
+        }
+
+        // The player who can't move loses, unless it's misère play.
+        return rules.isMisere() == genomeToMove;
+    }
+
+
+    /**
+     *  Breed the next generation into the spare array, then swap the arrays.
+     */
+    private void breed()
+    {
+        // Keep the two fittest genomes as they are.
+        int first = fittest(-1);
+        int second = fittest(first);
+        System.arraycopy(population, first * maxPile, nextPopulation, 0, maxPile);
+        System.arraycopy(population, second * maxPile, nextPopulation, maxPile, maxPile);
+
+        for (int child = ELITES; child < populationSize; child++)
+        {
+            int mother = select() * maxPile;
+            int father = select() * maxPile;
+            int offset = child * maxPile;
+
+            for (int gene = 0; gene < maxPile; gene++)
+            {
+                byte value = random.nextBoolean() ? population[mother + gene] : population[father + gene];
+
+                if (random.nextDouble() < mutationRate)
+                {
+                    value = randomGene(gene + 1);
+                }
+
+                nextPopulation[offset + gene] = value;
+            }
+        }
+
+        byte[] old = population;
+        population = nextPopulation;
+        nextPopulation = old;
+    }
+
+
+    /**
+     *  Choose a parent, as the fittest of a few random genomes.
+     *
+     *  @return The chosen genome.
+     */
+    private int select()
+    {
+        int chosen = random.nextInt(populationSize);
+
+        for (int i = 1; i < SELECTION_SIZE; i++)
+        {
+            int other = random.nextInt(populationSize);
+
+            if (fitness[other] > fitness[chosen])
+            {
+                chosen = other;
+            }
+        }
+
+        return chosen;
+    }
+
+
+    /**
+     *  Find the fittest genome, skipping one.
+     *
+     *  @param skip The genome to skip, or -1 to skip none.
+     *  @return The genome.
+     */
+    private int fittest(int skip)
+    {
+        int chosen = skip == 0 ? 1 : 0;
+
+        for (int genome = chosen + 1; genome < populationSize; genome++)
+        {
+            if (genome != skip && fitness[genome] > fitness[chosen])
+            {
+                chosen = genome;
+            }
+        }
+
+        return chosen;
+    }
+
+
+    /**
+     *  Choose a random legal move for a pile.
+     *
+     *  @param pile The number of match sticks left.
+     *  @return The move.
+     */
+    private byte randomGene(int pile)
+    {
+        int legal = rules.getLegalMoveCount(pile);
+        return (byte) (legal == 0 ? 0 : rules.getMove(random.nextInt(legal)));
+    }
+
+
+    /**
+     *  Get the best genome of the last generation evolved, as a strategy.
+     *
+     *  @return The strategy.
+     */
+    public TableStrategy getBest()
+    {
+        return new TableStrategy(best);
+    }
+
+
+    /**
+     *  Get the fitness of the best genome of the last generation evolved.
+     *
+     *  @return Fitness, between 0 and 1.
+     */
+    public double getBestFitness()
+    {
+        return bestFitness;
+    }
+
+
+    /**
+     *  Get the number of generations run.
+     *
+     *  @return Number of generations.
+     */
+    public int getGeneration()
+    {
+        return generation;
+    }
+
+
+    /**
+     *  Evolve a table for piles 1 to 10 against the built in strategies, and print it.
+     *
+     *  @param args Optionally, the largest pile, the population size and the number of generations.
+     */
+    public static void main(String[] args)
+    {
+        int maxPile = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        int populationSize = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        int generations = args.length > 2 ? Integer.parseInt(args[2]) : 50;
+
+        List<MoveStrategy> opponents = List.of(new RandomStrategy(), new ModuloStrategy(), new PreDefinedStrategy());
+        GeneticOptimizer optimizer = new GeneticOptimizer(NimRules.STANDARD, maxPile, populationSize, opponents, 10, 1);
+
+        long start = System.nanoTime();
+        TableStrategy strategy = optimizer.evolve(generations);
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.println(strategy);
+        System.out.printf("Fitness %.3f after %d generations in %d ms.%n", optimizer.getBestFitness(), generations, elapsed);
+    }
+}
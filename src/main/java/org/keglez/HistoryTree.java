@@ -0,0 +1,330 @@
+package org.keglez;
+
+/**
+ *  This class records the full history of a game as a tree. Undoing moves and
+ *  then playing a different move starts a new branch, rather than throwing the
+ *  old moves away, so any earlier line can be returned to with redo or by
+ *  jumping straight to one of its nodes.
+ *
+ *  Each node only points to its parent, its first child and its next sibling,
+ *  so every branch shares the moves before it with the line it came from. A
+ *  new move costs a single node, no matter how many branches exist.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+public class HistoryTree
+{
+    // Class attributes.
+    private final Node root;
+    private Node current;
+
+
+    /**
+     *  Construct a new history tree.
+     *
+     *  @param startPile The number of match sticks at the start of the game.
+     *  @param startHumanTurn Whether the human makes the first move.
+     */
+    public HistoryTree(int startPile, boolean startHumanTurn)
+    {
+        // The root node has no move. It is stored as if the other player moved into it.
+        this.root = new Node(null, 0, startPile, !startHumanTurn);
+        this.current = root;
+    }
+
+
+    /**
+     *  Record a move from the current node. If the same move has been played
+     *  from here before, that branch is followed instead of creating a new one.
+     *
+     *  @param move The number of match sticks removed.
+     *  @param humanMoved Whether the human made the move.
+     *  @param pile The number of match sticks left after the move.
+     *  @return The node for the move.
+     */
+    public Node record(int move, boolean humanMoved, int pile)
+    {
+        Node child = current.firstChild;
+
+        // Follow an existing branch if this exact move has already been played.
+        while (child != null)
+        {
+            if (child.move == move && child.humanMoved == humanMoved && child.pile == pile)
+            {
+                break;
+            }
+
+            child = child.nextSibling;
+        }
+
+        // Otherwise, start a new branch.
+        if (child == null)
+        {
+            child = new Node(current, move, pile, humanMoved);
+            child.nextSibling = current.firstChild;
+            current.firstChild = child;
+        }
+
+        current.redoChild = child;
+        current = child;
+        return child;
+    }
+
+
+    /**
+     *  Check whether there is a move to undo.
+     *
+     *  @return <code>true</code> or <code>false</code>
+     */
+    public boolean canUndo()
+    {
+        return current.parent != null;
+    }
+
+
+    /**
+     *  Undo the current move, moving back to its parent. The undone move is
+     *  remembered, so it can be redone.
+     *
+     *  @return The node which was undone.
+     */
+    public Node undo()
+    {
+        if (!canUndo())
+        {
+            throw new IllegalStateException("There are no moves to undo");
+        }
+
+        Node undone = current;
+        current = undone.parent;
+        current.redoChild = undone;
+        return undone;
+    }
+
+
+    /**
+     *  Check whether there is a move to redo.
+     *
+     *  @return <code>true</code> or <code>false</code>
+     */
+    public boolean canRedo()
+    {
+        return current.redoChild != null;
+    }
+
+
+    /**
+     *  Redo the most recently visited move from the current node.
+     *
+     *  @return The node which was redone.
+     */
+    public Node redo()
+    {
+        if (!canRedo())
+        {
+            throw new IllegalStateException("There are no moves to redo");
+        }
+
+        current = current.redoChild;
+        return current;
+    }
+
+
+    /**
+     *  Jump straight to any node in the tree. The path to the node becomes the
+     *  redo path, so redo will follow it again after undoing.
+     *
+     *  @param node The node to jump to.
+     */
+    public void jumpTo(Node node)
+    {
+        // Walk up to the root, making sure the node belongs to this tree.
+        Node walker = node;
+
+        while (walker.parent != null)
+        {
+            walker = walker.parent;
+        }
+
+        if (walker != root)
+        {
+            throw new IllegalArgumentException("The node is not part of this history");
+        }
+
+        // Point the redo path down to the node.
+        for (walker = node; walker.parent != null; walker = walker.parent)
+        {
+            walker.parent.redoChild = walker;
+        }
+
+        current = node;
+    }
+
+
+    /**
+     *  Get every move from the start of the game to the current node.
+     *
+     *  @return Array of moves.
+     */
+    public int[] getMoves()
+    {
+        int[] moves = new int[current.depth];
+        Node walker = current;
+
+        for (int i = moves.length - 1; i >= 0; i--)
+        {
+            moves[i] = walker.move;
+            walker = walker.parent;
+        }
+
+        return moves;
+    }
+
+
+    /**
+     *  Get the current node.
+     *
+     *  @return Current node.
+     */
+    public Node getCurrent()
+    {
+        return current;
+    }
+
+
+    /**
+     *  Get the root node, which is the start of the game.
+     *
+     *  @return Root node.
+     */
+    public Node getRoot()
+    {
+        return root;
+    }
+
+
+    /**
+     *  This inner class is a single position in the history tree.
+     *
+     *  @author Keegan Hinnigan
+     *  @since 19/10/2026
+     *  @version 1.0
+     */
+    public static class Node
+    {
+        // Class attributes.
+        private final Node parent;
+        private final int move;
+        private final int pile;
+        private final boolean humanMoved;
+        private final int depth;
+
+        private Node firstChild;
+        private Node nextSibling;
+        private Node redoChild;
+
+
+        /**
+         *  Construct a new node.
+         *
+         *  @param parent The previous position, or <code>null</code> for the root.
+         *  @param move The move which led here.
+         *  @param pile The match sticks left after the move.
+         *  @param humanMoved Whether the human made the move.
+         */
+        private Node(Node parent, int move, int pile, boolean humanMoved)
+        {
+            this.parent = parent;
+            this.move = move;
+            this.pile = pile;
+            this.humanMoved = humanMoved;
+            this.depth = parent == null ? 0 : parent.depth + 1;
+        }
+
+
+        /**
+         *  Get the previous position.
+         *
+         *  @return Parent node, or <code>null</code> for the root.
+         */
+        public Node getParent()
+        {
+            return parent;
+        }
+
+
+        /**
+         *  Get the move which led to this position.
+         *
+         *  @return Match sticks removed.
+         */
+        public int getMove()
+        {
+            return move;
+        }
+
+
+        /**
+         *  Get the number of match sticks left at this position.
+         *
+         *  @return Match sticks left.
+         */
+        public int getPile()
+        {
+            return pile;
+        }
+
+
+        /**
+         *  Check whether the human made the move which led here.
+         *
+         *  @return <code>true</code> or <code>false</code>
+         */
+        public boolean getHumanMoved()
+        {
+            return humanMoved;
+        }
+
+
+        /**
+         *  Check whether it is the human's turn at this position.
+         *
+         *  @return <code>true</code> or <code>false</code>
+         */
+        public boolean getIsHumanTurn()
+        {
+            return !humanMoved;
+        }
+
+
+        /**
+         *  Get the number of moves from the start of the game.
+         *
+         *  @return Depth of the node.
+         */
+        public int getDepth()
+        {
+            return depth;
+        }
+
+
+        /**
+         *  Get the number of branches from this position.
+         *
+         *  @return Number of children.
+         */
+        public int getChildCount()
+        {
+            int count = 0;
+
+            for (Node child = firstChild; child != null; child = child.nextSibling)
+            {
+                count++;
+            }
+
+            return count;
+        }
+    }
+}
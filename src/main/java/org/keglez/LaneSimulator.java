@@ -0,0 +1,59 @@
+package org.keglez;
+
+/**
+ *  This interface plays batches of games between two strategies in lock-step.
+ *  <code>BatchSimulator</code> is the scalar version. When the game is built
+ *  with the <code>vector</code> profile and run with
+ *  <code>--add-modules jdk.incubator.vector</code>, <code>create</code> returns a
+ *  SIMD version instead, which steps a whole vector of games per instruction
+ *  for the arithmetic strategies.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+public interface LaneSimulator
+{
+    // The SIMD simulator, which is only compiled by the vector profile.
+    String VECTOR_SIMULATOR = "org.keglez.VectorLaneSimulator";
+
+
+    /**
+     *  Play a batch of games to the end.
+     *
+     *  @param first The strategy which moves first in every game.
+     *  @param second The strategy which moves second in every game.
+     *  @param startPiles The starting pile size of each game.
+     *  @param count The number of games.
+     *  @return The number of games the first strategy won.
+     */
+    long play(MoveStrategy first, MoveStrategy second, int[] startPiles, int count);
+
+
+    /**
+     *  Create the fastest simulator available. The SIMD simulator is used when it
+     *  was compiled in and the Vector API module is loaded, and the scalar
+     *  simulator otherwise.
+     *
+     *  @param capacity The most games played in one batch.
+     *  @return The simulator.
+     */
+    static LaneSimulator create(int capacity)
+    {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent())
+        {
+            try
+            {
+                return (LaneSimulator) Class.forName(VECTOR_SIMULATOR)
+                        .getConstructor(int.class)
+                        .newInstance(capacity);
+            }
+            catch (ReflectiveOperationException | LinkageError error)
+            {
+                // Not compiled in, so fall back to the scalar simulator.
+            }
+        }
+
+        return new BatchSimulator(capacity);
+    }
+}
@@ -0,0 +1,209 @@
+package org.keglez;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *  This class records latencies (in nanoseconds) into log-linear buckets,
+ *  in the same way as an HdrHistogram. Each power of two is split into
+ *  16 sub-buckets, so any recorded value is accurate to roughly 6%, while
+ *  the whole histogram stays a fixed size and recording never allocates.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+public class LatencyHistogram
+{
+    // Number of sub-buckets per power of two (2 ^ SUB_BUCKET_BITS).
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = 64 * SUB_BUCKETS;
+
+    // Class attributes.
+    private final AtomicLongArray counts;
+    private final LongAdder totalCount;
+    private final LongAdder totalSum;
+    private final AtomicLong max;
+
+
+    /**
+     *  Construct a new, empty latency histogram.
+     */
+    public LatencyHistogram()
+    {
+        this.counts = new AtomicLongArray(BUCKETS);
+        this.totalCount = new LongAdder();
+        this.totalSum = new LongAdder();
+        this.max = new AtomicLong();
+    }
+
+
+    /**
+     *  Record a single latency. Negative values are recorded as zero.
+     *
+     *  @param nanos The latency in nanoseconds.
+     */
+    public void record(long nanos)
+    {
+        if (nanos < 0)
+        {
+            nanos = 0;
+        }
+
+        counts.incrementAndGet(bucketIndex(nanos));
+        totalCount.increment();
+        totalSum.add(nanos);
+
+        // Only attempt to update the maximum when it has actually been exceeded.
+        if (nanos > max.get())
+        {
+            max.accumulateAndGet(nanos, Math::max);
+        }
+    }
+
+
+    /**
+     *  Get the total number of recorded values.
+     *
+     *  @return Number of values.
+     */
+    public long getCount()
+    {
+        return totalCount.sum();
+    }
+
+
+    /**
+     *  Get the largest recorded value.
+     *
+     *  @return Maximum latency in nanoseconds.
+     */
+    public long getMax()
+    {
+        return max.get();
+    }
+
+
+    /**
+     *  Get the mean of all recorded values.
+     *
+     *  @return Mean latency in nanoseconds, or 0 if nothing has been recorded.
+     */
+    public double getMean()
+    {
+        long count = totalCount.sum();
+        return count == 0 ? 0 : (double) totalSum.sum() / count;
+    }
+
+
+    /**
+     *  Get the value at a given percentile. The returned value is the upper
+     *  bound of the bucket the percentile falls into, capped at the maximum.
+     *
+     *  @param percentile Percentile between 0 and 100.
+     *  @return Latency in nanoseconds.
+     */
+    public long getValueAtPercentile(double percentile)
+    {
+        long count = totalCount.sum();
+
+        if (count == 0)
+        {
+            return 0;
+        }
+
+        // Find the bucket which holds the requested rank.
+        long rank = Math.max(1, (long) Math.ceil(count * Math.min(percentile, 100.0) / 100.0));
+        long seen = 0;
+
+        for (int i = 0; i < BUCKETS; i++)
+        {
+            seen += counts.get(i);
+
+            if (seen >= rank)
+            {
+                return Math.min(bucketUpperBound(i), max.get());
+            }
+        }
+
+        return max.get();
+    }
+
+
+    /**
+     *  Clear all recorded values.
+     */
+    public void reset()
+    {
+        for (int i = 0; i < BUCKETS; i++)
+        {
+            counts.set(i, 0);
+        }
+
+        totalCount.reset();
+        totalSum.reset();
+        max.set(0);
+    }
+
+
+    /**
+     *  Summarise the histogram in milliseconds, for example
+     *  <code>n=10 mean=1.20 p50=1.00 p99=3.10 max=3.40 ms</code>.
+     *
+     *  @return Summary string.
+     */
+    public String summary()
+    {
+        return String.format("n=%d mean=%.2f p50=%.2f p90=%.2f p99=%.2f max=%.2f ms",
+                getCount(),
+                getMean() / 1e6,
+                getValueAtPercentile(50) / 1e6,
+                getValueAtPercentile(90) / 1e6,
+                getValueAtPercentile(99) / 1e6,
+                getMax() / 1e6);
+    }
+
+
+    /**
+     *  Calculate which bucket a value belongs in. Values below 16 get a bucket
+     *  each, after that every power of two is split into 16 sub-buckets.
+     *
+     *  @param value The value to place.
+     *  @return Bucket index.
+     */
+    static int bucketIndex(long value)
+    {
+        if (value < SUB_BUCKETS)
+        {
+            return (int) value;
+        }
+
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+
+    /**
+     *  Calculate the largest value which falls into a bucket.
+     *
+     *  @param index Bucket index.
+     *  @return Highest value in the bucket.
+     */
+    static long bucketUpperBound(int index)
+    {
+        if (index < SUB_BUCKETS)
+        {
+            return index;
+        }
+
+        int shift = index / SUB_BUCKETS - 1;
+        long subBucket = index % SUB_BUCKETS;
+
+        return ((SUB_BUCKETS + subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,315 @@
+package org.keglez;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ *  This class represents a strategy learnt by self-play, rather than written by
+ *  hand. It plays the move with the highest value in a Q-table, which is a
+ *  primitive <code>float[]</code> indexed by pile size and move. The table is
+ *  filled by <code>QLearningTrainer</code>.
+ *
+ *  Tables are saved as a small binary file: a header holding the rules,
+ *  including whether they are misère, and the largest pile, followed by the
+ *  raw floats. Loading is a single read into a
+ *  buffer, so even large tables load in milliseconds.
+ *
+ *  Piles larger than the table are played by finding where the won and lost
+ *  piles start repeating in it, as <code>StrategyCompiler</code> does, and
+ *  wrapping around that part. A table with no repeating part refuses them.
+ *
+ *  The table is never changed once the strategy is made, so one instance can
+ *  be shared by any number of threads.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+public class LearnedStrategy implements MoveStrategy
+{
+    // The first bytes of a saved table, "NIMQ".
+    private static final int MAGIC = 0x4E494D51;
+    private static final int FORMAT_VERSION = 2;
+
+    // Class attributes.
+    private final NimRules rules;
+    private final int maxPile;
+    private final float[] table;
+    private final int periodStart;
+    private final int period;
+
+
+    /**
+     *  Construct a new learned strategy from a Q-table.
+     *
+     *  @param rules The rules the table was learnt under.
+     *  @param maxPile The largest pile in the table.
+     *  @param table The value of each move, at index <code>pile * moves + move index</code>.
+     */
+    public LearnedStrategy(NimRules rules, int maxPile, float[] table)
+    {
+        if (table.length != (maxPile + 1) * rules.getMoves().length)
+        {
+            throw new IllegalArgumentException("The table does not match the rules and largest pile");
+        }
+
+        this.rules = rules;
+        this.maxPile = maxPile;
+        this.table = table;
+
+        // Find the repeating part, starting where every move is legal.
+        int[] pattern = StrategyCompiler.findPeriod(outcomes());
+        int start = Math.max(pattern[0], rules.getMaxMove());
+        boolean fits = pattern[1] > 0 && start + pattern[1] <= maxPile + 1;
+
+        this.periodStart = fits ? start : 0;
+        this.period = fits ? pattern[1] : 0;
+    }
+
+
+    /**
+     *  Get the learnt move from each won pile in the table, and 0 for each lost
+     *  one. Lost piles are left out, as every move from them is as bad.
+     *
+     *  @return Move from each pile.
+     */
+    private byte[] outcomes()
+    {
+        int moves = rules.getMoves().length;
+        byte[] outcomes = new byte[maxPile + 1];
+
+        for (int pile = 1; pile <= maxPile; pile++)
+        {
+            int legal = rules.getLegalMoveCount(pile);
+            int best = bestMoveIndex(table, pile * moves, legal);
+
+            if (legal > 0 && table[pile * moves + best] > 0)
+            {
+                outcomes[pile] = (byte) rules.getMove(best);
+            }
+        }
+
+        return outcomes;
+    }
+
+
+    /**
+     * Play the legal move with the highest learnt value. Piles larger than the
+     * table are played as the pile in the repeating part of the table they match.
+     *
+     * @param currentPile The total number of match sticks left.
+     * @return The number of match sticks to remove, or 0 if no move can be made.
+     * @throws IllegalArgumentException If the pile is larger than the table, and the table doesn't repeat.
+     */
+    @Override
+    public int NextMove(int currentPile)
+    {
+        int legal = rules.getLegalMoveCount(currentPile);
+
+        if (legal == 0)
+        {
+            return 0;
+        }
+
+        if (currentPile > maxPile)
+        {
+            if (period == 0)
+            {
+                throw new IllegalArgumentException("The table only covers piles up to " + maxPile + ", and doesn't repeat, so it can't play a pile of " + currentPile);
+            }
+
+            currentPile = periodStart + (currentPile - periodStart) % period;
+        }
+
+        return rules.getMove(bestMoveIndex(table, currentPile * rules.getMoves().length, legal));
+    }
+
+
+    /**
+     *  Find the move with the highest value. Ties go to the smaller move.
+     *
+     *  @param table The Q-table.
+     *  @param offset The index of the pile's first move.
+     *  @param legal The number of legal moves.
+     *  @return The index of the best move.
+     */
+    static int bestMoveIndex(float[] table, int offset, int legal)
+    {
+        int best = 0;
+
+        for (int i = 1; i < legal; i++)
+        {
+            if (table[offset + i] > table[offset + best])
+            {
+                best = i;
+            }
+        }
+
+        return best;
+    }
+
+
+    /**
+     *  Get the learnt value of a move, between -1 for a certain loss and 1 for a certain win.
+     *
+     *  @param pile The number of match sticks left.
+     *  @param moveIndex The index of the move in the rules.
+     *  @return Value of the move.
+     */
+    public float getValue(int pile, int moveIndex)
+    {
+        return table[pile * rules.getMoves().length + moveIndex];
+    }
+
+
+    /**
+     *  Get the rules the table was learnt under.
+     *
+     *  @return Rules.
+     */
+    public NimRules getRules()
+    {
+        return rules;
+    }
+
+
+    /**
+     *  Get the largest pile in the table.
+     *
+     *  @return Largest pile.
+     */
+    public int getMaxPile()
+    {
+        return maxPile;
+    }
+
+
+    /**
+     *  Get the length of the repeating part of the table, used for larger piles.
+     *
+     *  @return Length, or 0 if the table doesn't repeat.
+     */
+    public int getPeriod()
+    {
+        return period;
+    }
+
+
+    /**
+     *  Save the table to a file.
+     *
+     *  @param path The file to write.
+     *  @throws IOException An issue writing the file.
+     */
+    public void save(Path path) throws IOException
+    {
+        int[] moves = rules.getMoves();
+        ByteBuffer buffer = ByteBuffer.allocate(20 + 4 * moves.length + 4 * table.length).order(ByteOrder.LITTLE_ENDIAN);
+
+        buffer.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(moves.length).putInt(maxPile).putInt(rules.isMisere() ? 1 : 0);
+
+        for (int move : moves)
+        {
+            buffer.putInt(move);
+        }
+
+        buffer.asFloatBuffer().put(table);
+        buffer.position(buffer.capacity()).flip();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING))
+        {
+            while (buffer.hasRemaining())
+            {
+                channel.write(buffer);
+            }
+        }
+    }
+
+
+    /**
+     *  Load a table saved by <code>save</code>. Tables saved before misère play
+     *  was added have no misère flag, and were learnt under normal play.
+     *
+     *  @param path The file to read.
+     *  @return The learned strategy.
+     *  @throws IOException An issue reading the file, or the file is not a saved table.
+     */
+    public static LearnedStrategy load(Path path) throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+        {
+            ByteBuffer buffer = ByteBuffer.allocate((int) channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0)
+            {
+                // Keep reading until the buffer is full.
+            }
+
+            buffer.flip();
+
+            if (buffer.remaining() < 8 || buffer.getInt() != MAGIC)
+            {
+                throw new IOException("Not a saved Q-table: " + path);
+            }
+
+            int version = buffer.getInt();
+
+            if (version < 1 || version > FORMAT_VERSION)
+            {
+                throw new IOException("Not a saved Q-table: " + path);
+            }
+
+            // Version 1 had no misère flag after the largest pile.
+            if (buffer.remaining() < (version >= 2 ? 12 : 8))
+            {
+                throw new IOException("The saved Q-table is the wrong size: " + path);
+            }
+
+            int moveCount = buffer.getInt();
+            int maxPile = buffer.getInt();
+            boolean misere = version >= 2 && buffer.getInt() != 0;
+
+            // Check the counts against the file before allocating anything from them.
+            if (moveCount < 1 || maxPile < 0 || moveCount > buffer.remaining() / 4
+                    || buffer.remaining() - 4L * moveCount != 4L * moveCount * (maxPile + 1L))
+            {
+                throw new IOException("The saved Q-table is the wrong size: " + path);
+            }
+
+            int[] moves = new int[moveCount];
+
+            for (int i = 0; i < moves.length; i++)
+            {
+                moves[i] = buffer.getInt();
+            }
+
+            float[] table = new float[(maxPile + 1) * moves.length];
+            buffer.asFloatBuffer().get(table);
+
+            try
+            {
+                return new LearnedStrategy(new NimRules(misere, moves), maxPile, table);
+            }
+            catch (IllegalArgumentException error)
+            {
+                throw new IOException("The saved Q-table has invalid rules: " + path, error);
+            }
+        }
+    }
+
+
+    /**
+     * The table never changes, so the move only depends on the pile.
+     *
+     * @return <code>true</code>
+     */
+    @Override
+    public boolean isDeterministic()
+    {
+        return true;
+    }
+}
@@ -0,0 +1,767 @@
+package org.keglez;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ *  This class represents a Monte Carlo tree search strategy. Rather than
+ *  following a formula, it plays thousands of random games from the current
+ *  pile and grows a search tree towards the moves which win most often, so
+ *  it plays strongly under any <code>NimRules</code>.
+ *
+ *  Searching is root parallel. Each thread grows its own tree on the
+ *  <code>ForkJoinPool</code>, and the visit counts of the root moves are added
+ *  together to choose the move. Trees live in fixed size node pools made of
+ *  primitive arrays, so expanding a node never allocates. A position only
+ *  depends on its pile, so moves which reach the same pile share one node, and
+ *  everything learnt about smaller piles is reused on later moves. When a pool
+ *  fills up, the nodes which are still reachable are copied into a second pool
+ *  and the pools are swapped, recycling the rest.
+ *
+ *  Positions whose result is certain are marked as proven and passed up the
+ *  tree, so the search stops spending playouts on them, and playouts always
+ *  take a move which wins straight away. In misère play, where the player who
+ *  can't move wins, the same proofs are made the other way round.
+ *
+ *  A strategy is not thread-safe, as it holds the trees between moves.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+public class MCTSStrategy implements MoveStrategy
+{
+    // The number of nodes in each tree.
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    // Proven results, for the player who moved into a node.
+    private static final byte UNPROVEN = 0;
+    private static final byte PROVEN_WIN = 1;
+    private static final byte PROVEN_LOSS = -1;
+
+    // The UCT exploration constant.
+    private static final double EXPLORATION = Math.sqrt(2);
+
+    // Class attributes.
+    private final NimRules rules;
+    private final int iterations;
+    private final long timeBudgetMillis;
+    private final int threads;
+    private final long seed;
+    private final ForkJoinPool pool;
+    private final Worker[] workers;
+
+    private long lastPlayouts;
+    private long lastNanos;
+
+
+    /**
+     *  Construct a new search strategy for the standard rules, with a budget of
+     *  1000 playouts a move on a single thread.
+     */
+    public MCTSStrategy()
+    {
+        this(NimRules.STANDARD, 1000, 0, 1);
+    }
+
+
+    /**
+     *  Construct a new search strategy. A move stops searching when either the
+     *  playout or the time budget is used up. A budget of 0 has no limit, but at
+     *  least one budget must be set.
+     *
+     *  @param rules The rules of the game.
+     *  @param iterations The number of playouts a move, shared between the threads.
+     *  @param timeBudgetMillis The time a move may take, in milliseconds.
+     *  @param threads The number of trees searched in parallel.
+     */
+    public MCTSStrategy(NimRules rules, int iterations, long timeBudgetMillis, int threads)
+    {
+        this(rules, iterations, timeBudgetMillis, threads, System.nanoTime());
+    }
+
+
+    /**
+     *  Construct a new seeded search strategy. On a single thread with only a
+     *  playout budget, strategies with the same seed make the same moves.
+     *
+     *  @param rules The rules of the game.
+     *  @param iterations The number of playouts a move, shared between the threads.
+     *  @param timeBudgetMillis The time a move may take, in milliseconds.
+     *  @param threads The number of trees searched in parallel.
+     *  @param seed The seed for the random playouts.
+     */
+    public MCTSStrategy(NimRules rules, int iterations, long timeBudgetMillis, int threads, long seed)
+    {
+        this(rules, iterations, timeBudgetMillis, threads, seed, DEFAULT_CAPACITY);
+    }
+
+
+    /**
+     *  Construct a new seeded search strategy with trees of a chosen size.
+     *
+     *  @param rules The rules of the game.
+     *  @param iterations The number of playouts a move, shared between the threads.
+     *  @param timeBudgetMillis The time a move may take, in milliseconds.
+     *  @param threads The number of trees searched in parallel.
+     *  @param seed The seed for the random playouts.
+     *  @param capacity The number of nodes in each tree.
+     */
+    MCTSStrategy(NimRules rules, int iterations, long timeBudgetMillis, int threads, long seed, int capacity)
+    {
+        if (iterations <= 0 && timeBudgetMillis <= 0)
+        {
+            throw new IllegalArgumentException("A playout or time budget must be set");
+        }
+
+        if (threads < 1)
+        {
+            throw new IllegalArgumentException("At least one thread is needed");
+        }
+
+        this.rules = rules;
+        this.iterations = iterations;
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.threads = threads;
+        this.seed = seed;
+        this.pool = ForkJoinPool.commonPool();
+        this.workers = new Worker[threads];
+
+        // Give every tree its own stream of random numbers.
+        SplittableRandom random = new SplittableRandom(seed);
+
+        for (int i = 0; i < threads; i++)
+        {
+            workers[i] = new Worker(rules, capacity, random.split());
+        }
+    }
+
+
+    /**
+     * Search for the move which wins most often from the current pile.
+     * A move stops early if its pile is proven to be won or lost.
+     *
+     * @param currentPile The total number of match sticks left.
+     * @return The number of match sticks to remove, or 0 if no move can be made.
+     */
+    @Override
+    public int NextMove(int currentPile)
+    {
+        if (rules.getLegalMoveCount(currentPile) == 0)
+        {
+            return 0;
+        }
+
+        long start = System.nanoTime();
+        long deadline = timeBudgetMillis > 0 ? start + timeBudgetMillis * 1_000_000 : 0;
+        long share = iterations > 0 ? Math.max(1, iterations / threads) : Long.MAX_VALUE;
+
+        // Reuse whatever each tree already knows about this position.
+        for (Worker worker : workers)
+        {
+            worker.prepare(currentPile);
+        }
+
+        long playouts = 0;
+
+        try
+        {
+            if (threads == 1)
+            {
+                playouts = workers[0].search(share, deadline);
+            }
+            else
+            {
+                ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[threads];
+
+                for (int i = 0; i < threads; i++)
+                {
+                    Worker worker = workers[i];
+                    tasks[i] = pool.submit(() -> worker.search(share, deadline));
+                }
+
+                for (ForkJoinTask<?> task : tasks)
+                {
+                    playouts += (Long) task.join();
+                }
+            }
+        }
+        catch (Exception error)
+        {
+            System.out.println("An error occurred while searching for a move:");
+            throw new RuntimeException(error);
+        }
+
+        // Choose the root move with the most visits across every tree.
+        long[] visits = new long[rules.getLegalMoveCount(currentPile)];
+
+        for (Worker worker : workers)
+        {
+            worker.addRootVisits(visits);
+        }
+
+        int best = 0;
+
+        for (int i = 1; i < visits.length; i++)
+        {
+            if (visits[i] > visits[best])
+            {
+                best = i;
+            }
+        }
+
+        this.lastPlayouts = playouts;
+        this.lastNanos = System.nanoTime() - start;
+        return rules.getMove(best);
+    }
+
+
+    /**
+     * Create a seeded copy of this strategy, with the same rules and budget.
+     *
+     * @param seed The seed.
+     * @return A new seeded strategy.
+     */
+    @Override
+    public MoveStrategy withSeed(long seed)
+    {
+        return new MCTSStrategy(rules, iterations, timeBudgetMillis, threads, seed);
+    }
+
+
+    /**
+     *  Get the number of playouts made for the last move.
+     *
+     *  @return Number of playouts.
+     */
+    public long getLastPlayouts()
+    {
+        return lastPlayouts;
+    }
+
+
+    /**
+     *  Get the playout rate of the last move, across every thread. This can be
+     *  used to size the budget for the machine the game is running on.
+     *
+     *  @return Playouts per second.
+     */
+    public double getPlayoutsPerSecond()
+    {
+        return lastNanos == 0 ? 0 : lastPlayouts * 1e9 / lastNanos;
+    }
+
+
+    /**
+     *  Get the seed the strategy was created with.
+     *
+     *  @return Seed.
+     */
+    public long getSeed()
+    {
+        return seed;
+    }
+
+
+    /**
+     *  This inner class is a single search, and the random numbers for its
+     *  playouts. Only one thread uses a worker at a time.
+     */
+    private static class Worker
+    {
+        // Class attributes.
+        private final NimRules rules;
+        private final SplittableRandom random;
+        private final int[] path;
+
+        private NodePool tree;
+        private NodePool spare;
+        private int root = -1;
+
+
+        /**
+         *  Construct a new worker.
+         *
+         *  @param rules The rules of the game.
+         *  @param capacity The number of nodes in the tree.
+         *  @param random The random numbers for playouts.
+         */
+        private Worker(NimRules rules, int capacity, SplittableRandom random)
+        {
+            this.rules = rules;
+            this.random = random;
+            this.path = new int[capacity + 1];
+            this.tree = new NodePool(capacity);
+            this.spare = new NodePool(capacity);
+        }
+
+
+        /**
+         *  Move the root to the current pile. Every node for a pile no larger than
+         *  the current one is still reachable, so they are kept. Once the pool is
+         *  half full, those nodes are copied into the spare pool and the pools are
+         *  swapped, which recycles the nodes that can't be reached any more. If
+         *  every node is still reachable and there is no room for the new root,
+         *  the tree is cleared and the search starts again from the root.
+         *
+         *  @param pile The number of match sticks left.
+         */
+        private void prepare(int pile)
+        {
+            if (tree.size > tree.capacity() / 2)
+            {
+                spare.clear();
+
+                for (int node = 0; node < tree.size; node++)
+                {
+                    if (tree.pile[node] <= pile)
+                    {
+                        spare.copyFrom(tree, node);
+                    }
+                }
+
+                NodePool old = tree;
+                tree = spare;
+                spare = old;
+            }
+
+            root = tree.find(pile);
+
+            if (root < 0)
+            {
+                root = create(pile);
+            }
+
+            if (root < 0)
+            {
+                tree.clear();
+                root = create(pile);
+            }
+        }
+
+
+        /**
+         *  Grow the tree until the budget is used up.
+         *
+         *  @param budget The number of playouts to make.
+         *  @param deadline The time to stop at, from <code>System.nanoTime</code>, or 0 for no limit.
+         *  @return The number of playouts made.
+         */
+        private long search(long budget, long deadline)
+        {
+            long playouts = 0;
+
+            while (playouts < budget)
+            {
+                // Only check the clock every 64 playouts.
+                if (deadline != 0 && (playouts & 63) == 0 && System.nanoTime() >= deadline)
+                {
+                    break;
+                }
+
+                // A proven root needs no more searching.
+                if (tree.proven[root] != UNPROVEN)
+                {
+                    break;
+                }
+
+                iterate();
+                playouts++;
+            }
+
+            return playouts;
+        }
+
+
+        /**
+         *  Make a single playout: select a leaf, expand it, play randomly to the
+         *  end, then record the result on the path back to the root. If the
+         *  pool is full, the playout starts from the leaf instead.
+         */
+        private void iterate()
+        {
+            int depth = 0;
+            int node = root;
+            path[depth++] = node;
+
+            while (tree.proven[node] == UNPROVEN)
+            {
+                int pile = tree.pile[node];
+
+                // Expand the next untried move, unless it reaches a pile already in the pool.
+                if (tree.nextMoveIndex[node] < rules.getLegalMoveCount(pile))
+                {
+                    int childPile = pile - rules.getMove(tree.nextMoveIndex[node]);
+                    int child = tree.find(childPile);
+                    boolean expanded = child < 0;
+
+                    if (expanded)
+                    {
+                        child = create(childPile);
+
+                        if (child < 0)
+                        {
+                            break;
+                        }
+                    }
+
+                    tree.nextMoveIndex[node]++;
+                    node = child;
+                    path[depth++] = node;
+
+                    if (expanded)
+                    {
+                        break;
+                    }
+                }
+                else
+                {
+                    int child = selectChild(node);
+
+                    // Every reply was proven to lose by another route, so this node wins.
+                    if (child < 0)
+                    {
+                        prove(node);
+                        break;
+                    }
+
+                    node = child;
+                    path[depth++] = node;
+                }
+            }
+
+            // Each node stores wins for the player who moved into it.
+            boolean moverWins = tree.proven[node] == UNPROVEN
+                    ? !playout(tree.pile[node])
+                    : tree.proven[node] == PROVEN_WIN;
+
+            while (depth > 0)
+            {
+                int walker = path[--depth];
+                tree.visits[walker]++;
+
+                if (moverWins)
+                {
+                    tree.wins[walker]++;
+                }
+
+                moverWins = !moverWins;
+
+                if (tree.proven[walker] == UNPROVEN)
+                {
+                    prove(walker);
+                }
+            }
+        }
+
+
+        /**
+         *  Add a node for a pile. A pile with no legal move is proven, as the
+         *  player who moved into it won, or lost in misère play.
+         *
+         *  @param pile The number of match sticks left.
+         *  @return The new node, or -1 if the pool is full.
+         */
+        private int create(int pile)
+        {
+            int node = tree.allocate(pile);
+
+            if (node >= 0 && rules.getLegalMoveCount(pile) == 0)
+            {
+                tree.proven[node] = rules.isMisere() ? PROVEN_LOSS : PROVEN_WIN;
+            }
+
+            return node;
+        }
+
+
+        /**
+         *  Try to prove a node from its children. If any reply wins, the move into
+         *  the node loses. If every reply has been tried and loses, it wins.
+         *
+         *  @param node The node to prove.
+         */
+        private void prove(int node)
+        {
+            int pile = tree.pile[node];
+            int tried = tree.nextMoveIndex[node];
+            boolean allLose = tried == rules.getLegalMoveCount(pile);
+
+            for (int i = 0; i < tried; i++)
+            {
+                byte child = tree.proven[tree.find(pile - rules.getMove(i))];
+
+                if (child == PROVEN_WIN)
+                {
+                    tree.proven[node] = PROVEN_LOSS;
+                    return;
+                }
+
+                allLose &= child == PROVEN_LOSS;
+            }
+
+            if (allLose)
+            {
+                tree.proven[node] = PROVEN_WIN;
+            }
+        }
+
+
+        /**
+         *  Choose the child with the best upper confidence bound.
+         *
+         *  @param node The node to choose from.
+         *  @return The chosen child, or -1 if every child is proven to lose.
+         */
+        private int selectChild(int node)
+        {
+            int pile = tree.pile[node];
+            double logVisits = Math.log(tree.visits[node]);
+            double bestScore = Double.NEGATIVE_INFINITY;
+            int best = -1;
+
+            for (int i = 0; i < tree.nextMoveIndex[node]; i++)
+            {
+                int child = tree.find(pile - rules.getMove(i));
+
+                // Never choose a move which is proven to lose.
+                if (tree.proven[child] == PROVEN_LOSS)
+                {
+                    continue;
+                }
+
+                double visits = Math.max(1, tree.visits[child]);
+                double score = tree.wins[child] / visits + EXPLORATION * Math.sqrt(logVisits / visits);
+
+                if (score > bestScore)
+                {
+                    bestScore = score;
+                    best = child;
+                }
+            }
+
+            return best;
+        }
+
+
+        /**
+         *  Play random moves until the game ends.
+         *
+         *  @param pile The number of match sticks left.
+         *  @return Whether the player to move at the start won.
+         */
+        private boolean playout(int pile)
+        {
+            boolean startingPlayerToMove = true;
+
+            while (true)
+            {
+                int legal = rules.getLegalMoveCount(pile);
+
+                // The player who can't move loses, unless it's misère play.
+                if (legal == 0)
+                {
+                    return rules.isMisere() == startingPlayerToMove;
+                }
+
+                // Always take the last match sticks when possible, unless that loses.
+                if (!rules.isMisere() && rules.isLegal(pile, pile))
+                {
+                    return startingPlayerToMove;
+                }
+
+                pile -= rules.getMove(random.nextInt(legal));
+                startingPlayerToMove = !startingPlayerToMove;
+            }
+        }
+
+
+        /**
+         *  Add the visits of each root move to a total.
+         *
+         *  @param totals The visits of each move, by its index in the rules.
+         */
+        private void addRootVisits(long[] totals)
+        {
+            int pile = tree.pile[root];
+
+            for (int i = 0; i < tree.nextMoveIndex[root]; i++)
+            {
+                int child = tree.find(pile - rules.getMove(i));
+
+                // A proven win is always chosen, and a proven loss only if nothing else is left.
+                totals[i] += switch (tree.proven[child])
+                {
+                    case PROVEN_WIN -> Integer.MAX_VALUE;
+                    case PROVEN_LOSS -> 0;
+                    default -> tree.visits[child];
+                };
+            }
+        }
+    }
+
+
+    /**
+     *  This inner class holds the nodes of a search in primitive arrays. Each
+     *  node is an index. Nim positions only depend on the pile, so there is one
+     *  node per pile, found through an open addressing hash table. Moves which
+     *  reach the same pile share its node.
+     */
+    private static class NodePool
+    {
+        // Class attributes.
+        private final int[] pile;
+        private final int[] nextMoveIndex;
+        private final int[] visits;
+        private final int[] wins;
+        private final byte[] proven;
+        private final int[] slots;
+        private int size;
+
+
+        /**
+         *  Construct a new node pool.
+         *
+         *  @param capacity The number of nodes.
+         */
+        private NodePool(int capacity)
+        {
+            this.pile = new int[capacity];
+            this.nextMoveIndex = new int[capacity];
+            this.visits = new int[capacity];
+            this.wins = new int[capacity];
+            this.proven = new byte[capacity];
+
+            // Keep the table at most half full, so probes stay short.
+            this.slots = new int[Integer.highestOneBit(capacity) * 4];
+            Arrays.fill(slots, -1);
+        }
+
+
+        /**
+         *  Get the number of nodes the pool holds.
+         *
+         *  @return Capacity.
+         */
+        private int capacity()
+        {
+            return pile.length;
+        }
+
+
+        /**
+         *  Find the node for a pile.
+         *
+         *  @param pileLeft The number of match sticks left.
+         *  @return The node, or -1 if there is no node for the pile.
+         */
+        private int find(int pileLeft)
+        {
+            int mask = slots.length - 1;
+
+            for (int slot = hash(pileLeft) & mask; slots[slot] >= 0; slot = (slot + 1) & mask)
+            {
+                if (pile[slots[slot]] == pileLeft)
+                {
+                    return slots[slot];
+                }
+            }
+
+            return -1;
+        }
+
+
+        /**
+         *  Take a node from the pool for a pile which has no node yet.
+         *
+         *  @param pileLeft The number of match sticks left.
+         *  @return The new node, or -1 if the pool is full.
+         */
+        private int allocate(int pileLeft)
+        {
+            if (size == pile.length)
+            {
+                return -1;
+            }
+
+            int node = size++;
+            pile[node] = pileLeft;
+            nextMoveIndex[node] = 0;
+            visits[node] = 0;
+            wins[node] = 0;
+            proven[node] = UNPROVEN;
+
+            int mask = slots.length - 1;
+            int slot = hash(pileLeft) & mask;
+
+            while (slots[slot] >= 0)
+            {
+                slot = (slot + 1) & mask;
+            }
+
+            slots[slot] = node;
+            return node;
+        }
+
+
+        /**
+         *  Copy a node from another pool.
+         *
+         *  @param other The pool to copy from.
+         *  @param node The node to copy.
+         */
+        private void copyFrom(NodePool other, int node)
+        {
+            int copy = allocate(other.pile[node]);
+            nextMoveIndex[copy] = other.nextMoveIndex[node];
+            visits[copy] = other.visits[node];
+            wins[copy] = other.wins[node];
+            proven[copy] = other.proven[node];
+        }
+
+
+        /**
+         *  Return every node to the pool.
+         */
+        private void clear()
+        {
+            size = 0;
+            Arrays.fill(slots, -1);
+        }
+
+
+        /**
+         *  Spread pile sizes across the hash table.
+         *
+         *  @param pileLeft The number of match sticks left.
+         *  @return Hash.
+         */
+        private static int hash(int pileLeft)
+        {
+            return pileLeft * 0x9E3779B9 >>> 7;
+        }
+    }
+
+
+    /**
+     *  Measure the playout rate on this machine for 1 thread up to every core,
+     *  to help size budgets.
+     *
+     *  @param args Optionally, the pile size and the time per move in milliseconds.
+     */
+    public static void main(String[] args)
+    {
+        int pile = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        long millis = args.length > 1 ? Long.parseLong(args[1]) : 1000;
+
+        for (int threads = 1; threads <= Runtime.getRuntime().availableProcessors(); threads *= 2)
+        {
+            MCTSStrategy strategy = new MCTSStrategy(NimRules.STANDARD, 0, millis, threads);
+            int move = strategy.NextMove(pile);
+
+            System.out.printf("%2d threads: %,12.0f playouts/sec (took %d from %d)%n", threads, strategy.getPlayoutsPerSecond(), move, pile);
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package org.keglez;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *  This class wraps another strategy and remembers its moves, so a move which
+ *  is expensive to work out is only worked out once for each pile. Only
+ *  strategies which say they are deterministic are cached; for any other
+ *  strategy, such as <code>RandomStrategy</code> or
+ *  <code>HumanUserStrategy</code>, every call is passed straight through.
+ *
+ *  The cache is a fixed number of slots in an <code>AtomicLongArray</code>,
+ *  split into sets of 4. A pile can only be stored in its own set, and each
+ *  slot packs the pile and its move into one <code>long</code>, so a reader
+ *  always sees a whole entry without locking. When a set is full, an entry is
+ *  evicted with the CLOCK algorithm: a hand sweeps the set, giving entries
+ *  used since its last pass a second chance, and replacing the first entry
+ *  which was not.
+ *
+ *  Any number of threads may read and fill the cache at once. Two threads
+ *  filling the same set may replace each other's entries, which only costs a
+ *  later miss, as long as the wrapped strategy is also thread-safe.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+public class MemoizingStrategy implements MoveStrategy
+{
+    // The default number of cached piles.
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    // The number of slots in each set.
+    private static final int WAYS = 4;
+
+    // An empty slot. Pile -1 with a move of -1 is never cached.
+    private static final long EMPTY = -1L;
+
+    // Class attributes.
+    private final MoveStrategy strategy;
+    private final boolean enabled;
+    private final int capacity;
+    private final int setMask;
+    private final int setShift;
+    private final AtomicLongArray slots;
+
+    // Written without synchronisation, as a lost update only costs a second chance.
+    private final boolean[] referenced;
+    private final byte[] hands;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+
+    /**
+     *  Construct a new memoizing strategy, with the default capacity.
+     *
+     *  @param strategy The strategy to cache.
+     */
+    public MemoizingStrategy(MoveStrategy strategy)
+    {
+        this(strategy, DEFAULT_CAPACITY);
+    }
+
+
+    /**
+     *  Construct a new memoizing strategy.
+     *
+     *  @param strategy The strategy to cache.
+     *  @param capacity The number of piles to cache, rounded up to a power of 2 of at least 4.
+     */
+    public MemoizingStrategy(MoveStrategy strategy, int capacity)
+    {
+        if (capacity < 1)
+        {
+            throw new IllegalArgumentException("The capacity must be above 0");
+        }
+
+        this.strategy = strategy;
+        this.enabled = strategy.isDeterministic();
+        this.capacity = Math.max(WAYS, Integer.highestOneBit(capacity - 1) << 1);
+        this.setMask = this.capacity / WAYS - 1;
+        this.setShift = 32 - Integer.numberOfTrailingZeros(this.capacity / WAYS);
+
+        // A strategy which isn't cached doesn't need the space.
+        int slotCount = enabled ? this.capacity : 0;
+        this.slots = new AtomicLongArray(slotCount);
+        this.referenced = new boolean[slotCount];
+        this.hands = new byte[slotCount / WAYS];
+
+        for (int i = 0; i < slotCount; i++)
+        {
+            slots.set(i, EMPTY);
+        }
+    }
+
+
+    /**
+     * Look the move up in the cache, or work it out and cache it.
+     *
+     * @param currentPile The total number of match sticks left.
+     * @return The number of match sticks to remove.
+     */
+    @Override
+    public int NextMove(int currentPile)
+    {
+        if (!enabled)
+        {
+            return strategy.NextMove(currentPile);
+        }
+
+        int set = setIndex(currentPile) * WAYS;
+
+        for (int way = 0; way < WAYS; way++)
+        {
+            long entry = slots.get(set + way);
+
+            if (entry != EMPTY && (int) (entry >>> 32) == currentPile)
+            {
+                referenced[set + way] = true;
+                hits.increment();
+                return (int) entry;
+            }
+        }
+
+        misses.increment();
+        int move = strategy.NextMove(currentPile);
+        long entry = ((long) currentPile << 32) | (move & 0xFFFFFFFFL);
+
+        if (entry != EMPTY)
+        {
+            slots.set(set + victim(set), entry);
+        }
+
+        return move;
+    }
+
+
+    /**
+     *  Choose the slot in a set to replace, with the CLOCK algorithm.
+     *
+     *  @param set The index of the set's first slot.
+     *  @return The way within the set.
+     */
+    private int victim(int set)
+    {
+        int hand = hands[set / WAYS];
+
+        // Each pass clears a reference bit, so the sweep always ends within two passes.
+        while (true)
+        {
+            int slot = set + hand;
+            hand = (hand + 1) & (WAYS - 1);
+
+            if (slots.get(slot) == EMPTY || !referenced[slot])
+            {
+                hands[set / WAYS] = (byte) hand;
+                referenced[slot] = false;
+                return slot - set;
+            }
+
+            referenced[slot] = false;
+        }
+    }
+
+
+    /**
+     *  Work out which set a pile is stored in. Piles are mixed with a
+     *  multiplicative hash, and the top bits chosen, so neighbouring piles
+     *  spread across the sets.
+     *
+     *  @param pile The number of match sticks.
+     *  @return The set.
+     */
+    private int setIndex(int pile)
+    {
+        // The mask covers a single set, where the shift would be a whole word.
+        return ((pile * 0x9E3779B9) >>> setShift) & setMask;
+    }
+
+
+    /**
+     * Seed the wrapped strategy, keeping it cached.
+     *
+     * @param seed The seed.
+     * @return This strategy, or a cached copy of the seeded strategy.
+     */
+    @Override
+    public MoveStrategy withSeed(long seed)
+    {
+        MoveStrategy seeded = strategy.withSeed(seed);
+        return seeded == strategy ? this : new MemoizingStrategy(seeded, capacity);
+    }
+
+
+    /**
+     * Pass the opponent's move on to the wrapped strategy.
+     *
+     * @param opponent The name of the opponent.
+     * @param pile The number of match sticks before the move.
+     * @param move The number of match sticks removed.
+     */
+    @Override
+    public void observeOpponentMove(String opponent, int pile, int move)
+    {
+        strategy.observeOpponentMove(opponent, pile, move);
+    }
+
+
+    /**
+     * A cached strategy is as deterministic as the one it wraps.
+     *
+     * @return <code>true</code> or <code>false</code>
+     */
+    @Override
+    public boolean isDeterministic()
+    {
+        return strategy.isDeterministic();
+    }
+
+
+    /**
+     *  Check whether moves are being cached. Strategies which aren't
+     *  deterministic are never cached.
+     *
+     *  @return <code>true</code> or <code>false</code>
+     */
+    public boolean isEnabled()
+    {
+        return enabled;
+    }
+
+
+    /**
+     *  Get the wrapped strategy.
+     *
+     *  @return Strategy.
+     */
+    public MoveStrategy getStrategy()
+    {
+        return strategy;
+    }
+
+
+    /**
+     *  Get the number of piles the cache can hold.
+     *
+     *  @return Capacity.
+     */
+    public int getCapacity()
+    {
+        return capacity;
+    }
+
+
+    /**
+     *  Get the number of moves found in the cache.
+     *
+     *  @return Number of hits.
+     */
+    public long getHits()
+    {
+        return hits.sum();
+    }
+
+
+    /**
+     *  Get the number of moves which had to be worked out.
+     *
+     *  @return Number of misses.
+     */
+    public long getMisses()
+    {
+        return misses.sum();
+    }
+}
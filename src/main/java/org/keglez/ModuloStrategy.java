@@ -38,5 +38,40 @@ public class ModuloStrategy implements MoveStrategy
             }
         }
     }
-}
 
+
+    /**
+     * Works out the moves for many piles without branching. This gives the same
+     * moves as <code>NextMove</code>, including for a pile of 1.
+     *
+     * @param piles The number of match sticks left in each game.
+     * @param out The array to write each game's move to.
+     * @param count The number of games.
+     */
+    @Override
+    public void nextMoves(int[] piles, int[] out, int count)
+    {
+        for (int i = 0; i < count; i++)
+        {
+            int pile = piles[i];
+
+            // 1 when the pile is exactly 1, otherwise 0.
+            int other = pile ^ 1;
+            int isOne = 1 - ((other | -other) >>> 31);
+
+            out[i] = (pile % 2) + 1 - isOne;
+        }
+    }
+
+
+    /**
+     * The move only depends on the pile.
+     *
+     * @return <code>true</code>
+     */
+    @Override
+    public boolean isDeterministic()
+    {
+        return true;
+    }
+}
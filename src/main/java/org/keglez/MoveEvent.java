@@ -0,0 +1,35 @@
+package org.keglez;
+
+import jdk.jfr.*;
+
+/**
+ *  This Java Flight Recorder event is emitted for every move made in a
+ *  <code>NimGame</code>. When no recording is running, the event costs almost
+ *  nothing, as its fields are only filled in when it will be committed.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+@Name("org.keglez.Move")
+@Label("Move")
+@Category({"Nim", "Game"})
+@Description("A move made in a game of nim")
+@StackTrace(false)
+public class MoveEvent extends Event
+{
+    @Label("Pile Before")
+    public int pileBefore;
+
+    @Label("Removed")
+    public int removed;
+
+    @Label("Pile After")
+    public int pileAfter;
+
+    @Label("Human")
+    public boolean human;
+
+    @Label("Strategy")
+    public Class<?> strategy;
+}
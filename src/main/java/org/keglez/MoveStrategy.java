@@ -19,4 +19,61 @@ public interface MoveStrategy
      * @return The number of match sticks removed.
      */
     int NextMove(int currentPile);
+
+
+    /**
+     * This method works out the next move for many piles at once, so that
+     * simulations can step thousands of games per call. Strategies which
+     * are pure arithmetic override it with a branch-free loop.
+     *
+     * @param piles The number of match sticks left in each game.
+     * @param out The array to write each game's move to.
+     * @param count The number of games.
+     */
+    default void nextMoves(int[] piles, int[] out, int count)
+    {
+        for (int i = 0; i < count; i++)
+        {
+            out[i] = NextMove(piles[i]);
+        }
+    }
+
+
+    /**
+     * This method gives a copy of the strategy which makes reproducible moves
+     * from a seed. Strategies without randomness just return themselves.
+     *
+     * @param seed The seed.
+     * @return The seeded strategy.
+     */
+    default MoveStrategy withSeed(long seed)
+    {
+        return this;
+    }
+
+
+    /**
+     * This method is told about every move the opponent makes, so strategies
+     * can learn how they play. Most strategies ignore it.
+     *
+     * @param opponent The name of the opponent.
+     * @param pile The number of match sticks before the move.
+     * @param move The number of match sticks removed.
+     */
+    default void observeOpponentMove(String opponent, int pile, int move)
+    {
+    }
+
+
+    /**
+     * This method tells whether the strategy always makes the same move from
+     * the same pile, so its moves can be cached. Strategies are assumed not to
+     * be, unless they say otherwise.
+     *
+     * @return <code>true</code> or <code>false</code>
+     */
+    default boolean isDeterministic()
+    {
+        return false;
+    }
 }
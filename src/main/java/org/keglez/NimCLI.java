@@ -17,6 +17,7 @@ public class NimCLI
     // Global Attributes
     private NimGame game;
     private Scanner reader;
+    private String strategyName;
 
 
     /**
@@ -59,7 +60,12 @@ public class NimCLI
             System.out.println("The Game of 1-2 Nim Assessment!");
             System.out.println("------------------------------");
             System.out.println("Choose a computer strategy:");
-            System.out.println("[R] Random\n" + "[Y] Your Strategy");
+
+            // List every registered strategy.
+            for (StrategyProvider provider : StrategyRegistry.getInstance().getProviders())
+            {
+                System.out.println("[" + provider.getKey() + "] " + provider.getName());
+            }
 
             return reader.nextLine().toUpperCase();
         }
@@ -81,25 +87,19 @@ public class NimCLI
     private MoveStrategy setStrategy(String gameMode)
     {
         try {
-            // Instantiate a new computer strategy.
-            MoveStrategy computerStrategy;
+            // Find the chosen strategy.
+            StrategyProvider provider = StrategyRegistry.getInstance().getProviderByKey(gameMode);
 
-            // Select the game mode.
-            switch (gameMode) {
-                case "R":
-                    computerStrategy = new RandomStrategy();
-                    System.out.println("You selected Random Computer strategy.");
-                    break;
-                case "Y":
-                    computerStrategy = new PreDefinedStrategy();
-                    System.out.println("You selected Your Computer strategy.");
-                    break;
-                default:
-                    computerStrategy = null;
-                    System.out.println("Invalid option. Exiting.");
-                    System.exit(0);
+            if (provider == null)
+            {
+                System.out.println("Invalid option. Exiting.");
+                System.exit(0);
             }
 
+            MoveStrategy computerStrategy = StrategyRegistry.getInstance().get(provider.getName());
+            System.out.println("You selected " + provider.getName() + " Computer strategy.");
+            this.strategyName = provider.getName();
+
             // This will return the set strategy.
             return computerStrategy;
         }
@@ -158,7 +158,9 @@ public class NimCLI
                 + "[S] Save game\n"
                 + "[L] Load saved game\n"
                 + "[U] Undo move\n"
+                + "[R] Redo move\n"
                 + "[C] Clear game\n"
+                + "[T] Toggle misère mode (" + (game.isMisere() ? "on" : "off") + ")\n"
                 + "[Q] Quit game\n");
 
             String choice = reader.nextLine().toUpperCase();
@@ -179,6 +181,9 @@ public class NimCLI
                     int scanId = new Scanner(System.in).nextInt();
                     System.out.println(game.loadGame(scanId));
 
+                    // The save may use the other rules.
+                    updateStrategy();
+
                     // Display number of marbles.
                     System.out.println();
                     displayMatchSticks();
@@ -187,10 +192,17 @@ public class NimCLI
                     System.out.println(game.undoLastMove());
                     displayMatchSticks();
                     break;
+                case "R":
+                    System.out.println(game.redoLastMove());
+                    displayMatchSticks();
+                    break;
                 case "C":
                     System.out.println(game.resetGame());
                     displayMatchSticks();
                     break;
+                case "T":
+                    toggleMisere();
+                    break;
                 case "Q":
                     System.out.println("Thank you for playing! Exiting game...");
                     System.exit(0);
@@ -207,6 +219,56 @@ public class NimCLI
     }
 
 
+    /**
+     *  This method switches between normal and misère play, where taking the
+     *  last marble loses.
+     */
+    private void toggleMisere()
+    {
+        if (game.canUndo())
+        {
+            System.out.println("The rules can't be changed during a game. Reset the game first.");
+            return;
+        }
+
+        game.setMisere(!game.isMisere());
+        updateStrategy();
+
+        if (game.isMisere())
+        {
+            System.out.println("Misère mode is on: taking the last marble loses.");
+        }
+        else
+        {
+            System.out.println("Misère mode is off: taking the last marble wins.");
+        }
+    }
+
+
+    /**
+     *  This method gives the computer the chosen strategy for the game's
+     *  current rules. Strategies are kept for each set of rules, so switching
+     *  back and forth is free.
+     */
+    private void updateStrategy()
+    {
+        StrategyRegistry registry = StrategyRegistry.getInstance();
+        StrategyProvider playing = registry.getProviderFor(registry.getProvider(strategyName), game.getRules());
+
+        if (playing == null)
+        {
+            throw new IllegalStateException("No strategy supports the rules: " + game.getRules());
+        }
+
+        if (!playing.getName().equals(strategyName))
+        {
+            System.out.println(strategyName + " can't play these rules, so " + playing.getName() + " will play instead.");
+        }
+
+        game.setComputerPlayerStrategy(registry.get(playing.getName(), game.getRules()));
+    }
+
+
     /**
      *  Handle making a move for the human or computer player.<br>
      *
@@ -306,8 +368,8 @@ public class NimCLI
      * Announce the winner at the end of the game.
      * <u>Method:</u>
      * <ul>
-     *     <li>If it is the humans turn, the computer wins.</li>
-     *     <li>if it is the computers turn, the human wins.</li>
+     *     <li>If it is the humans turn, the computer wins, or the human in misère mode.</li>
+     *     <li>if it is the computers turn, the human wins, or the computer in misère mode.</li>
      * </ul>
      */
     public void announceWinner()
@@ -316,13 +378,13 @@ public class NimCLI
 
 
         // Winner method.
-        if (game.getIsHumanTurn())
+        if (game.isHumanWinner())
         {
-            winnerName = game.getComputerPlayer().getName(); //Computer Wins
+            winnerName = game.getHumanPlayer().getName(); //Human Wins
         }
         else
         {
-            winnerName = game.getHumanPlayer().getName(); //Human Wins
+            winnerName = game.getComputerPlayer().getName(); //Computer Wins
         }
 
 
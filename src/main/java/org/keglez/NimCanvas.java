@@ -1,5 +1,7 @@
 package org.keglez;
 
+import jdk.jfr.EventType;
+
 import javax.swing.*;
 import java.awt.*;
 import java.util.ArrayList;
@@ -14,11 +16,15 @@ import java.util.ArrayList;
  */
 public class NimCanvas extends JComponent
 {
+    // Checked before creating paint events, so paints never allocate one when JFR is off.
+    private static final EventType PAINT_EVENT = EventType.getEventType(PaintEvent.class);
+
     // Class attributes.
     private int width, height;
     private String winner = "";
     private Graphics2D graphics;
     private ArrayList<MatchStick> matchSticks;
+    private FrameMetrics metrics; // Only set when frame metrics are enabled.
 
 
     /**
@@ -105,6 +111,14 @@ public class NimCanvas extends JComponent
     {
         try
         {
+            long start = System.nanoTime();
+            PaintEvent event = PAINT_EVENT.isEnabled() ? new PaintEvent() : null;
+
+            if (event != null)
+            {
+                event.begin();
+            }
+
             // Cast swing graphics to graphics 2D.
             super.paintComponent(g);
             this.graphics = (Graphics2D) g;
@@ -130,6 +144,21 @@ public class NimCanvas extends JComponent
             for (MatchStick stick : this.matchSticks) {
                 drawMatchStick(stick.getXPosition(), stick.getYPosition());
             }
+
+            if (event != null && event.shouldCommit())
+            {
+                event.matchSticks = this.matchSticks.size();
+                event.width = this.width;
+                event.height = this.height;
+                event.commit();
+            }
+
+            // Record the paint time, then draw the metrics overlay on top.
+            if (this.metrics != null)
+            {
+                this.metrics.recordPaint(System.nanoTime() - start);
+                drawMetricsOverlay();
+            }
         }
         catch (Exception error)
         {
@@ -139,6 +168,44 @@ public class NimCanvas extends JComponent
     }
 
 
+    /**
+     *  This method draws the frame metrics overlay in the top right
+     *  corner of the canvas.
+     */
+    private void drawMetricsOverlay()
+    {
+        String[] lines = this.metrics.getOverlayLines();
+
+        this.graphics.setFont(new Font("Monospaced", Font.PLAIN, 11));
+        FontMetrics fontMetrics = this.graphics.getFontMetrics();
+
+        for (int i = 0; i < lines.length; i++)
+        {
+            int x = width - fontMetrics.stringWidth(lines[i]) - 10;
+            int y = 20 + i * fontMetrics.getHeight();
+
+            this.graphics.setColor(Color.WHITE);
+            this.graphics.drawString(lines[i], x, y);
+        }
+    }
+
+
+    /**
+     *  Count every repaint request when frame metrics are enabled. All the
+     *  other <code>repaint</code> overloads end up calling this one.
+     */
+    @Override
+    public void repaint(long time, int x, int y, int width, int height)
+    {
+        if (this.metrics != null)
+        {
+            this.metrics.recordRepaintRequest();
+        }
+
+        super.repaint(time, x, y, width, height);
+    }
+
+
     /**
      * This method removes a specified quantity of match sticks
      * from the pile.
@@ -309,6 +376,17 @@ public class NimCanvas extends JComponent
     }
 
 
+    /**
+     *  Set the frame metrics that paints and repaints are recorded to.
+     *
+     *  @param metrics The frame metrics, or <code>null</code> to stop recording.
+     */
+    public void setFrameMetrics(FrameMetrics metrics)
+    {
+        this.metrics = metrics;
+    }
+
+
     /**
      *  When a winner has been chosen in the nim game, this method can be
      *  called to display their name on the screen.
@@ -1,9 +1,12 @@
 package org.keglez;
 
 import java.awt.*;
+import java.awt.event.ActionListener;
 import javax.swing.*;
 import javax.swing.border.Border;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 
 /**
@@ -23,12 +26,18 @@ public class NimGUI extends JFrame
     // ToolBar Features
     private final JToolBar toolBar;
     private JButton undoButton;
+    private JButton redoButton;
     private JButton removeOneButton;
     private JButton removeTwoButton;
+    private JCheckBoxMenuItem misereItem;
+    private JComboBox<String> gameModeBox;
+    private final List<StrategyProvider> strategies = new ArrayList<>(); // In the same order as the game mode box.
 
 
     private NimCanvas nim; // Game graphics
     private NimGame game;
+    private StrategyProvider strategyProvider;
+    private FrameMetrics metrics; // Only set when frame metrics are enabled.
 
 
     /**
@@ -49,6 +58,14 @@ public class NimGUI extends JFrame
         nim = new NimCanvas(500, 400);
         nim.setBorder(padding);
 
+        // Setup the opt-in frame metrics overlay.
+        if (FrameMetrics.isEnabled())
+        {
+            this.metrics = new FrameMetrics();
+            this.metrics.dumpOnExit();
+            nim.setFrameMetrics(this.metrics);
+        }
+
         // Setup game log.
         this.gameLog = new TextArea("Welcome to 1-2 nim!");
         this.gameLog.setPreferredSize(new Dimension(500, 100));
@@ -67,11 +84,11 @@ public class NimGUI extends JFrame
         frame.add(nim, BorderLayout.CENTER);
         frame.add(gameLog, BorderLayout.SOUTH);
 
-        // Disable the undo button on fresh launch.
+        // Disable the undo and redo buttons on fresh launch.
         setUndoButton();
 
-        // Set the default game mode to easy.
-        setGameMode(GameMode.EASY);
+        // Set the default game mode to the first easy strategy.
+        setGameMode(strategies.getFirst());
 
         // Frame settings.
         frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
@@ -98,7 +115,7 @@ public class NimGUI extends JFrame
     /**
      *  Generates all the toolbar options for the game. Users
      *  can create new game, load a game, save a game, undo
-     *  a move, and exit the game.
+     *  or redo a move, and exit the game.
      */
     public void createToolbarOptions()
     {
@@ -106,7 +123,7 @@ public class NimGUI extends JFrame
         JPanel optionPanel = new JPanel();
         optionPanel.setBorder(this.padding);
         optionPanel.setLayout(new GridLayout(2,1));
-        optionPanel.setPreferredSize(new Dimension(350, 60));
+        optionPanel.setPreferredSize(new Dimension(400, 60));
 
         JLabel optionLabel = new JLabel("Game Options");
         optionLabel.setBorder(this.padding);
@@ -120,22 +137,28 @@ public class NimGUI extends JFrame
 
         // Remove one match stick button.
         this.removeOneButton = new JButton("Remove 1");
-        this.removeOneButton.addActionListener(e -> makeMove(1));
+        this.removeOneButton.addActionListener(listen(e -> makeMove(1)));
         buttonContainer.add(this.removeOneButton);
 
 
         // Remove two match sticks button.
         this.removeTwoButton = new JButton("Remove 2");
-        this.removeTwoButton.addActionListener(e -> makeMove(2));
+        this.removeTwoButton.addActionListener(listen(e -> makeMove(2)));
         buttonContainer.add(this.removeTwoButton);
 
 
         // Undo move button.
         this.undoButton = new JButton("Undo");
-        this.undoButton.addActionListener(e -> undoLastMove());
+        this.undoButton.addActionListener(listen(e -> undoLastMove()));
         buttonContainer.add(this.undoButton);
 
 
+        // Redo move button.
+        this.redoButton = new JButton("Redo");
+        this.redoButton.addActionListener(listen(e -> redoLastMove()));
+        buttonContainer.add(this.redoButton);
+
+
         // Setup option panel & add to toolbar.
         optionPanel.add(optionLabel);
         optionPanel.add(buttonContainer);
@@ -145,7 +168,7 @@ public class NimGUI extends JFrame
 
     /**
      * Generates a game mode combo box. Allows the user to choose
-     * between different game modes.
+     * between different game modes, and every strategy within them.
      */
     public void createGameModeSelector()
     {
@@ -154,35 +177,42 @@ public class NimGUI extends JFrame
         gameModeSelector.setLayout(new GridLayout(2,1));
 
         gameModeSelector.setBorder(this.padding);
-        gameModeSelector.setPreferredSize(new Dimension(150, 60));
+        gameModeSelector.setPreferredSize(new Dimension(200, 60));
 
         // Game mode selection.
         JLabel textPane = new JLabel("Game Mode");
         textPane.setBorder(this.padding);
 
-        // Setup Combo Box
+        // Setup Combo Box, listing every strategy under its game mode.
         JComboBox<String> gameMode = new JComboBox<>();
-        gameMode.addItem("Easy");
-        gameMode.addItem("Hard");
 
-        gameMode.addActionListener(e ->
+        for (GameMode mode : GameMode.values())
         {
-            String s = (String) gameMode.getSelectedItem();
+            String modeName = mode.name().charAt(0) + mode.name().substring(1).toLowerCase();
 
-            switch (s)
+            for (StrategyProvider provider : StrategyRegistry.getInstance().getProviders(mode))
             {
-                case "Easy":
-                    setGameMode(GameMode.EASY);
-                    break;
-                case "Hard":
-                    setGameMode(GameMode.HARD);
-                    break;
-                case null:
-                    break;
-                default:
-                    throw new IllegalStateException("Unexpected value: " + s);
+                this.strategies.add(provider);
+                gameMode.addItem(modeName + ": " + provider.getName());
             }
-        });
+        }
+
+        if (this.strategies.isEmpty())
+        {
+            throw new IllegalStateException("No strategies were found");
+        }
+
+        gameMode.addActionListener(listen(e ->
+        {
+            int index = gameMode.getSelectedIndex();
+
+            if (index >= 0)
+            {
+                setGameMode(this.strategies.get(index));
+            }
+        }));
+
+        this.gameModeBox = gameMode;
 
         gameModeSelector.add(textPane);
         gameModeSelector.add(gameMode);
@@ -207,13 +237,15 @@ public class NimGUI extends JFrame
         JMenuItem newGameItem = new JMenuItem("New Game");
         JMenuItem loadGameItem = new JMenuItem("Load Game");
         JMenuItem saveItem = new JMenuItem("Save");
+        JMenuItem replayItem = new JMenuItem("Replay");
         JMenuItem exitItem = new JMenuItem("Exit");
 
 
         // Add action listeners to each menu item.
-        newGameItem.addActionListener(e -> startNewGame());
-        loadGameItem.addActionListener(e -> loadGame());
-        saveItem.addActionListener(e -> saveGame());
+        newGameItem.addActionListener(listen(e -> startNewGame()));
+        loadGameItem.addActionListener(listen(e -> loadGame()));
+        saveItem.addActionListener(listen(e -> saveGame()));
+        replayItem.addActionListener(listen(e -> replayGame()));
         exitItem.addActionListener(e -> exitGame());  // Exit the application
 
 
@@ -221,17 +253,38 @@ public class NimGUI extends JFrame
         fileMenu.add(newGameItem);
         fileMenu.add(loadGameItem);
         fileMenu.add(saveItem);
+        fileMenu.add(replayItem);
         fileMenu.addSeparator();  // Adds a separator line
         fileMenu.add(exitItem);
 
+        // Create options menu.
+        JMenu optionsMenu = new JMenu("Options");
+        this.misereItem = new JCheckBoxMenuItem("Misère (last marble loses)");
+        this.misereItem.addActionListener(listen(e -> setMisere(this.misereItem.isSelected())));
+        optionsMenu.add(this.misereItem);
+
         // Add the menus to the menu bar.
         menuBar.add(fileMenu);
+        menuBar.add(optionsMenu);
 
         // Return the menu bar.
         return menuBar;
     }
 
 
+    /**
+     *  Wrap an action listener so its events are timed when frame metrics
+     *  are enabled. Otherwise, the listener is returned unchanged.
+     *
+     *  @param listener The listener to wrap.
+     *  @return The (possibly timed) listener.
+     */
+    private ActionListener listen(ActionListener listener)
+    {
+        return this.metrics == null ? listener : this.metrics.timed(listener);
+    }
+
+
     /**
      *  Allow either the human or player to make a move.
      *
@@ -255,10 +308,10 @@ public class NimGUI extends JFrame
                 this.removeTwoButton.setEnabled(false);
             }
 
-            // Check if human is a winner.
+            // Check if the game is over.
             if(game.checkWinner())
             {
-                nim.setWinner("Human");
+                nim.setWinner(game.getWinnerName());
                 this.removeOneButton.setEnabled(false);
                 this.removeTwoButton.setEnabled(false);
             }
@@ -287,10 +340,10 @@ public class NimGUI extends JFrame
 
             setGameLog("\n" + game.getCurrentPlayerName() + " takes " + move + " marbles.");
 
-            // Check if human is a winner.
+            // Check if the game is over.
             if (game.checkWinner())
             {
-                nim.setWinner("Computer");
+                nim.setWinner(game.getWinnerName());
                 this.removeOneButton.setEnabled(false);
                 this.removeTwoButton.setEnabled(false);
             }
@@ -310,7 +363,7 @@ public class NimGUI extends JFrame
         {
             // Reset the game and manage graphics.
             game.resetGame();
-            setGameMode(GameMode.EASY);
+            this.gameModeBox.setSelectedIndex(0); // Back to the first easy strategy.
             nim.load(10);
             nim.setWinner("");
 
@@ -347,15 +400,15 @@ public class NimGUI extends JFrame
                 int id = loader.getSave();
                 this.game.loadGame(id);
 
-                // Manage canvas.
-                int matchsticks = game.getMatchStickSize();
-                this.nim.load(matchsticks);
-
                 // Notify of loaded save to the game log.
-                setGameLog("\nLoaded save " + id + ".");
+                setGameLog("\nLoaded save " + id + (game.isMisere() ? " (misère)." : "."));
 
-                // Set the undo button to its correct state.
-                this.setUndoButton();
+                // The save may use the other rules, so match the menu and the computer to it.
+                this.misereItem.setSelected(game.isMisere());
+                setGameMode(this.strategyProvider);
+
+                // Manage canvas, and set the buttons to their correct state.
+                this.refreshBoard();
             }
             else
             {
@@ -389,27 +442,35 @@ public class NimGUI extends JFrame
     }
 
     /**
-     * This method manages the undo button, and disables it where necessary.
+     *  This method opens the replay viewer for the current game's history.
+     */
+    private void replayGame()
+    {
+        try
+        {
+            new ReplayViewer(this.frame, GameReplay.fromGame(this.game)).setVisible(true);
+        }
+        catch (Exception error)
+        {
+            System.out.println("Error replaying the game:");
+            System.out.println(error.getMessage());
+        }
+    }
+
+
+    /**
+     * This method manages the undo and redo buttons, and disables them where necessary.
      *
      * <ul>Method:</ul>
      * <ul>
-     *     <li>If there are 10 piles, disable the undo button.</li>
-     *     <li>If there are less than 10 piles, enable the undo button.</li>
-     *     <li>If there are 0 piles, disable the undo button.</li>
+     *     <li>If there are moves in the history before this point, enable the undo button.</li>
+     *     <li>If moves have been undone and can be played again, enable the redo button.</li>
      * </ul>
      */
     private void setUndoButton()
     {
-        int pileSize = game.getMatchStickSize();
-
-        switch (pileSize)
-        {
-            case 0, 10:
-                this.undoButton.setEnabled(false);
-                break;
-            default:
-                this.undoButton.setEnabled(true);
-        }
+        this.undoButton.setEnabled(game.canUndo());
+        this.redoButton.setEnabled(game.canRedo());
     }
 
     /**
@@ -419,57 +480,110 @@ public class NimGUI extends JFrame
     {
         try
         {
-            // Call undo function and get new matchstick size.
-            game.undoLastMove();
-            int pileSize = game.getMatchStickSize();
+            // Call undo function and update the board.
+            setGameLog("\n" + game.undoLastMove());
+            refreshBoard();
+        }
+        catch (Exception error)
+        {
+            System.out.println("Error undoing last move:");
+            System.out.println(error.getMessage());
+        }
+    }
 
-            // Enable the undo button if the pile size is less than 10.
-            setUndoButton();
 
-            // Update the game graphics.
-            nim.load(pileSize);
+    /**
+     *  This method redoes the last moves undone by the user.
+     */
+    private void redoLastMove()
+    {
+        try
+        {
+            // Call redo function and update the board.
+            setGameLog("\n" + game.redoLastMove());
+            refreshBoard();
         }
         catch (Exception error)
         {
-            System.out.println("Error undoing last move:");
+            System.out.println("Error redoing last move:");
             System.out.println(error.getMessage());
         }
     }
 
 
+    /**
+     *  This method updates the game graphics and buttons after moving
+     *  through the game's history.
+     */
+    private void refreshBoard()
+    {
+        int pileSize = game.getMatchStickSize();
+
+        // Update the game graphics.
+        nim.load(pileSize);
+
+        // Empty until the game is over.
+        nim.setWinner(game.getWinnerName());
+
+        // Only allow moves which are still possible.
+        this.removeOneButton.setEnabled(!game.checkWinner());
+        this.removeTwoButton.setEnabled(pileSize > 1);
+        setUndoButton();
+    }
+
+
     /**
      *  Sets the game mode/computer strategy based on user input.
      *
-     *  @param gameMode The <code>GameMode</code> to set.
+     *  @param provider The provider of the strategy to set.
      */
-    private void setGameMode(GameMode gameMode)
+    private void setGameMode(StrategyProvider provider)
     {
-        // Initialize a new strategy.
-        MoveStrategy strategy;
+        // Strategies are kept for each set of rules, so switching back and forth is free.
+        StrategyProvider playing = StrategyRegistry.getInstance().getProviderFor(provider, game.getRules());
 
-        // Check game mode, and set appropriate strategy.
-        switch (gameMode)
+        if (playing == null)
         {
-            case GameMode.EASY:
-                strategy = new RandomStrategy();
-                setGameLog("\nSet game mode to easy. (Random Moves)");
-                break;
-            case MEDIUM:
-                strategy = new ModuloStrategy();
-                setGameLog("\nSet game mode to medium (Modulo).");
-                break;
-            case HARD:
-                strategy = new PreDefinedStrategy();
-                setGameLog("\nSet game mode to hard. (Pre-Defined Path)");
-                break;
-            default:
-                throw new IllegalStateException("Unexpected value: " + gameMode);
+            throw new IllegalStateException("No strategy supports the rules: " + game.getRules());
+        }
+
+        MoveStrategy strategy = StrategyRegistry.getInstance().get(playing.getName(), game.getRules());
+        setGameLog("\nSet game mode to " + provider.getDifficulty().name().toLowerCase() + ". (" + provider.getName() + ")");
+
+        if (playing != provider)
+        {
+            setGameLog("\n" + provider.getName() + " can't play these rules, so " + playing.getName() + " will play instead.");
         }
 
         // Set the new computer player strategy.
+        this.strategyProvider = provider;
         game.setComputerPlayerStrategy(strategy);
     }
 
+
+    /**
+     *  Switches between normal and misère play, where taking the last
+     *  marble loses, and gives the computer a strategy for the new rules.
+     *  The rules can only be changed before the first move.
+     *
+     *  @param misere Whether taking the last marble loses.
+     */
+    private void setMisere(boolean misere)
+    {
+        if (game.canUndo())
+        {
+            setGameLog("\nThe rules can't be changed during a game. Start a new game first.");
+            this.misereItem.setSelected(game.isMisere());
+            return;
+        }
+
+        game.setMisere(misere);
+        setGameLog(misere ? "\nMisère mode: taking the last marble loses." : "\nNormal mode: taking the last marble wins.");
+
+        setGameMode(this.strategyProvider);
+        refreshBoard();
+    }
+
     /**
      * Append a new message to the game log.
      *
@@ -1,7 +1,8 @@
 package org.keglez;
 
+import jdk.jfr.EventType;
+
 import java.io.IOException;
-import java.util.ArrayList;
 
 /**
  *  This class controls the functions of the 1-2 nim game. CLI and
@@ -14,6 +15,10 @@ import java.util.ArrayList;
  */
 public class NimGame
 {
+    // Checked before creating move events, so moves never allocate when JFR is off.
+    private static final EventType MOVE_EVENT = EventType.getEventType(MoveEvent.class);
+    private static final NimMetrics METRICS = NimMetrics.getInstance();
+
     // Class attributes.
     public SaveHandler saveData; // Public as it needs to be accessible and modifiable.
 
@@ -21,7 +26,8 @@ public class NimGame
     private Player computerPlayer;
     private boolean isHumanTurn;
     private int matchStickSize;
-    private ArrayList<Integer> moves;
+    private boolean misere;
+    private HistoryTree history;
 
 
     /**
@@ -31,17 +37,40 @@ public class NimGame
      * @param computerPlayer The computer strategy.
      */
     public NimGame(Player humanPlayer, Player computerPlayer)
+    {
+        this(humanPlayer, computerPlayer, createSaveHandler());
+    }
+
+
+    /**
+     * This constructor allows the save handler to be chosen. Games which are
+     * never saved or loaded, such as replays, may pass <code>null</code>.
+     *
+     * @param humanPlayer The human strategy.
+     * @param computerPlayer The computer strategy.
+     * @param saveData The save handler, or <code>null</code>.
+     */
+    public NimGame(Player humanPlayer, Player computerPlayer, SaveHandler saveData)
     {
         this.matchStickSize = 10;
         this.humanPlayer = humanPlayer;
         this.computerPlayer = computerPlayer;
         this.isHumanTurn = true;
-        this.moves = new ArrayList<>();
+        this.history = new HistoryTree(10, true);
+        this.saveData = saveData;
+    }
 
-        // Generate new save handler.
+
+    /**
+     * Generate the default save handler.
+     *
+     * @return Save handler for the default save file.
+     */
+    private static SaveHandler createSaveHandler()
+    {
         try
         {
-            this.saveData = new SaveHandler("src/main/resources/saves.csv");
+            return new SaveHandler("src/main/resources/saves.csv");
         }
         catch (IOException e)
         {
@@ -56,15 +85,50 @@ public class NimGame
      */
     public void assignMove(int removeAmount)
     {
+        MoveEvent event = MOVE_EVENT.isEnabled() ? new MoveEvent() : null;
+
+        if (event != null)
+        {
+            event.begin();
+        }
+
         // Make sure a negative move cannot be made.
         if (matchStickSize - removeAmount == -1)
         {
             removeAmount = 1;
         }
 
-        moves.add(removeAmount);
+        boolean humanMoved = isHumanTurn;
+        Player mover = humanMoved ? humanPlayer : computerPlayer;
+
+        // Let the computer learn from the human's moves.
+        if (humanMoved && computerPlayer.getStrategy() != null)
+        {
+            computerPlayer.getStrategy().observeOpponentMove(humanPlayer.getName(), matchStickSize, removeAmount);
+        }
+
         matchStickSize -= removeAmount;
+        history.record(removeAmount, humanMoved, matchStickSize);
         isHumanTurn = !isHumanTurn;
+
+        // Update the live metrics, counting the game when this move finished it.
+        METRICS.recordMove(mover.getStrategy());
+
+        if (matchStickSize <= 0 && matchStickSize + removeAmount > 0)
+        {
+            METRICS.recordGameCompleted(humanMoved != misere);
+        }
+
+        // Only fill in the event when a recording is running.
+        if (event != null && event.shouldCommit())
+        {
+            event.pileBefore = matchStickSize + removeAmount;
+            event.removed = removeAmount;
+            event.pileAfter = matchStickSize;
+            event.human = humanMoved;
+            event.strategy = mover.getStrategy() == null ? null : mover.getStrategy().getClass();
+            event.commit();
+        }
     }
 
 
@@ -80,6 +144,35 @@ public class NimGame
     }
 
 
+    /**
+     *  This method checks whether the human won the game. The turn has already
+     *  flipped, so normally the winner is the player who isn't next, as they took
+     *  the last match stick. In misère play that player lost instead.
+     *
+     *  @return <code>true</code> if the game is over and the human won.
+     */
+    public boolean isHumanWinner()
+    {
+        return checkWinner() && isHumanTurn == misere;
+    }
+
+
+    /**
+     *  Gets the name of the winner.
+     *
+     *  @return <code>"Human"</code> or <code>"Computer"</code>, or an empty string if the game isn't over.
+     */
+    public String getWinnerName()
+    {
+        if (!checkWinner())
+        {
+            return "";
+        }
+
+        return isHumanWinner() ? "Human" : "Computer";
+    }
+
+
     /**
      *  This method uses SaveHandler to save the game into the save file
      *  based on its current state.
@@ -89,6 +182,9 @@ public class NimGame
      */
     public String saveGame() throws IOException
     {
+        SaveEvent event = new SaveEvent();
+        event.begin();
+
         try
         {
             // Cast attributes to string object.
@@ -96,11 +192,20 @@ public class NimGame
             String human = String.valueOf(this.isHumanTurn);
 
             // Use StringBuilder for efficiency.
+            int[] moves = this.history.getMoves();
             StringBuilder move = new StringBuilder();
-            for (Integer integer : this.moves) move.append(integer);
+            for (int integer : moves) move.append(integer);
 
             // Append save data. Parse as a string array.
-            saveData.append(new String[]{marble, human, move.toString()});
+            saveData.append(new String[]{marble, human, move.toString(), String.valueOf(this.misere)});
+
+            if (event.shouldCommit())
+            {
+                event.operation = "save";
+                event.pile = this.matchStickSize;
+                event.moves = moves.length;
+                event.commit();
+            }
 
             return "Game saved successfully!";
         }
@@ -120,6 +225,10 @@ public class NimGame
      */
     public String loadGame(int id) throws IOException
     {
+        SaveEvent event = new SaveEvent();
+        event.begin();
+        long start = System.nanoTime();
+
         try {
             // Make sure save data exists.
             saveData.getSaveData();
@@ -130,13 +239,28 @@ public class NimGame
             // Re-Initialize Game Variables.
             this.matchStickSize = Integer.parseInt(game[2]);
             this.isHumanTurn = Boolean.parseBoolean(game[3]);
+            this.misere = isMisereSave(game);
+
+            // Rebuild the history from the start of the game.
+            GameReplay replay = GameReplay.fromEnd(this.matchStickSize, this.isHumanTurn, parseMoves(game[4]), this.misere);
+            this.history = new HistoryTree(replay.getStartPile(), replay.isHumanTurnAt(0));
 
-            // Add all the moves to the moves list.
-            this.moves.clear();
+            int pile = replay.getStartPile();
 
-            for (int i = 0; i < game[4].length(); i++) {
-                Integer move = Character.getNumericValue(game[4].charAt(i));
-                this.moves.add(move);
+            for (int i = 0; i < replay.getMoveCount(); i++) {
+                pile -= replay.getMove(i);
+                this.history.record(replay.getMove(i), replay.isHumanTurnAt(i), pile);
+            }
+
+            METRICS.recordLoad(System.nanoTime() - start);
+
+            if (event.shouldCommit())
+            {
+                event.operation = "load";
+                event.id = id;
+                event.pile = this.matchStickSize;
+                event.moves = replay.getMoveCount();
+                event.commit();
             }
 
             return "Game loaded successfully!";
@@ -149,6 +273,39 @@ public class NimGame
     }
 
 
+    /**
+     *  This method checks whether a save was played in misère mode. Saves from
+     *  before misère mode have no column for it, and were normal play.
+     *
+     *  @param game The save data row.
+     *  @return <code>true</code> or <code>false</code>
+     */
+    public static boolean isMisereSave(String[] game)
+    {
+        return game.length > 5 && Boolean.parseBoolean(game[5]);
+    }
+
+
+    /**
+     *  This method converts the moves column of a save into an array of moves.
+     *  Each move is stored as a single digit.
+     *
+     *  @param moves The moves column of a save, e.g. <code>"2112"</code>.
+     *  @return Array of moves.
+     */
+    public static int[] parseMoves(String moves)
+    {
+        int[] parsed = new int[moves.length()];
+
+        for (int i = 0; i < moves.length(); i++)
+        {
+            parsed[i] = Character.getNumericValue(moves.charAt(i));
+        }
+
+        return parsed;
+    }
+
+
     /**
      *  This method resets the game to it's initial state.
      *
@@ -160,7 +317,7 @@ public class NimGame
         {
             this.matchStickSize = 10;
             this.isHumanTurn = true;
-            this.moves.clear();
+            this.history = new HistoryTree(10, true);
 
             return "Game has been reset!";
         }
@@ -173,7 +330,9 @@ public class NimGame
 
 
     /**
-     *  This method will undo the last move the user and computer took.
+     *  This method will undo the last move the user and computer took. Moves
+     *  are undone until it is the human's turn again, so if the computer has
+     *  not replied yet, only the human's move is undone.
      *
      *  @return Output message.
      */
@@ -181,12 +340,16 @@ public class NimGame
     {
         try
         {
-            for (int i = 0; i < 2; i++)
+            if (!history.canUndo())
+            {
+                return "There are no moves to undo!";
+            }
+
+            do
             {
-                this.matchStickSize += this.moves.getLast();
-                this.moves.removeLast();
-                this.isHumanTurn = true;
+                undoMove();
             }
+            while (!this.isHumanTurn && history.canUndo());
 
             return "Last move has been erased!";
         }
@@ -198,6 +361,109 @@ public class NimGame
     }
 
 
+    /**
+     *  This method will redo the moves undone by <code>undoLastMove</code>,
+     *  following the most recently played line.
+     *
+     *  @return Output message.
+     */
+    public String redoLastMove()
+    {
+        try
+        {
+            if (!history.canRedo())
+            {
+                return "There are no moves to redo!";
+            }
+
+            do
+            {
+                redoMove();
+            }
+            while (!this.isHumanTurn && history.canRedo());
+
+            return "Last move has been restored!";
+        }
+        catch (Exception error)
+        {
+            System.out.println("An error occurred while trying to redo the last move:");
+            throw new RuntimeException(error);
+        }
+    }
+
+
+    /**
+     *  Undo a single move, whichever player made it.
+     */
+    public void undoMove()
+    {
+        HistoryTree.Node undone = history.undo();
+
+        this.matchStickSize = undone.getPile() + undone.getMove();
+        this.isHumanTurn = undone.getHumanMoved();
+    }
+
+
+    /**
+     *  Redo a single move, whichever player made it.
+     */
+    public void redoMove()
+    {
+        // The redone node is a child of the current one, so there is no need to walk the tree.
+        HistoryTree.Node redone = history.redo();
+
+        this.matchStickSize = redone.getPile();
+        this.isHumanTurn = redone.getIsHumanTurn();
+    }
+
+
+    /**
+     *  Jump to any position in the game's history, including other branches.
+     *
+     *  @param node The position to jump to.
+     */
+    public void jumpTo(HistoryTree.Node node)
+    {
+        history.jumpTo(node);
+
+        this.matchStickSize = node.getPile();
+        this.isHumanTurn = node.getIsHumanTurn();
+    }
+
+
+    /**
+     *  Check whether there is a move which can be undone.
+     *
+     *  @return <code>true</code> or <code>false</code>
+     */
+    public boolean canUndo()
+    {
+        return history.canUndo();
+    }
+
+
+    /**
+     *  Check whether there is a move which can be redone.
+     *
+     *  @return <code>true</code> or <code>false</code>
+     */
+    public boolean canRedo()
+    {
+        return history.canRedo();
+    }
+
+
+    /**
+     *  Get the full history tree of the game.
+     *
+     *  @return History tree.
+     */
+    public HistoryTree getHistory()
+    {
+        return history;
+    }
+
+
     /**
      * Get the human player.
      *
@@ -291,6 +557,49 @@ public class NimGame
     }
 
 
+    /**
+     *  Return whether the game is played in misère mode, where taking the last
+     *  match stick loses.
+     *
+     *  @return <code>true</code> or <code>false</code>
+     */
+    public boolean isMisere()
+    {
+        return misere;
+    }
+
+
+    /**
+     *  Set whether the game is played in misère mode. The computer's strategy
+     *  should be switched to one for the new rules as well. The rules can only
+     *  be changed before the first move, so a game is never played, saved or
+     *  scored under a mix of both.
+     *
+     *  @param misere <code>true</code> or <code>false</code>
+     *  @throws IllegalStateException If a move has been made.
+     */
+    public void setMisere(boolean misere)
+    {
+        if (misere != this.misere && canUndo())
+        {
+            throw new IllegalStateException("The rules can't be changed after a move has been made");
+        }
+
+        this.misere = misere;
+    }
+
+
+    /**
+     *  Get the rules the game is played under.
+     *
+     *  @return <code>NimRules.STANDARD</code> or <code>NimRules.MISERE</code>.
+     */
+    public NimRules getRules()
+    {
+        return misere ? NimRules.MISERE : NimRules.STANDARD;
+    }
+
+
     /**
      *  This will get the total size of the match stick pile.
      *
@@ -302,6 +611,17 @@ public class NimGame
     }
 
 
+    /**
+     *  This will get every move made so far, in order.
+     *
+     *  @return Array of moves.
+     */
+    public int[] getMoves()
+    {
+        return history.getMoves();
+    }
+
+
     /**
      * Gets the name of the current player.
      *
@@ -320,14 +640,3 @@ public class NimGame
     }
 
 }
-
-
-/**
- *  This enumerator defines the available game modes.
- */
-enum GameMode
-{
-    EASY,
-    MEDIUM,
-    HARD
-}
\ No newline at end of file
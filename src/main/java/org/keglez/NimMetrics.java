@@ -0,0 +1,277 @@
+package org.keglez;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *  This class is the metrics registry for the game and persistence. It is
+ *  shared by everything in the JVM, and registered as an MXBean the first
+ *  time it is used.
+ *
+ *  Counters are <code>LongAdder</code>s, which spread updates from different
+ *  threads across separate cells, so recording a move never contends with
+ *  other threads. The counter for each strategy is found through a
+ *  <code>ClassValue</code>, which is a lock-free lookup once it is set up.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+public class NimMetrics implements NimMetricsMXBean
+{
+    // The name the metrics are registered under.
+    public static final String OBJECT_NAME = "org.keglez:type=NimMetrics";
+
+    // Class attributes.
+    private final Map<String, LongAdder> strategyMoves;
+    private final ClassValue<LongAdder> strategyCounters;
+    private final LongAdder movesMade;
+    private final LongAdder gamesCompleted;
+    private final LongAdder humanWins;
+    private final LongAdder computerWins;
+    private final LongAdder saves;
+    private final LongAdder loads;
+    private final LongAdder bytesWritten;
+    private final LatencyHistogram saveLatency;
+    private final LatencyHistogram loadLatency;
+
+
+    /**
+     *  Construct a new, empty metrics registry.
+     */
+    public NimMetrics()
+    {
+        this.strategyMoves = new ConcurrentHashMap<>();
+        this.strategyCounters = new ClassValue<>()
+        {
+            @Override
+            protected LongAdder computeValue(Class<?> type)
+            {
+                return strategyMoves.computeIfAbsent(type.getName(), name -> new LongAdder());
+            }
+        };
+
+        this.movesMade = new LongAdder();
+        this.gamesCompleted = new LongAdder();
+        this.humanWins = new LongAdder();
+        this.computerWins = new LongAdder();
+        this.saves = new LongAdder();
+        this.loads = new LongAdder();
+        this.bytesWritten = new LongAdder();
+        this.saveLatency = new LatencyHistogram();
+        this.loadLatency = new LatencyHistogram();
+    }
+
+
+    /**
+     *  Get the shared metrics registry, registering it with JMX the first time.
+     *
+     *  @return Metrics registry.
+     */
+    public static NimMetrics getInstance()
+    {
+        return Holder.INSTANCE;
+    }
+
+
+    /**
+     *  Record a move made by a strategy.
+     *
+     *  @param strategy The strategy which made the move, or <code>null</code>.
+     */
+    public void recordMove(MoveStrategy strategy)
+    {
+        movesMade.increment();
+
+        if (strategy != null)
+        {
+            strategyCounters.get(strategy.getClass()).increment();
+        }
+    }
+
+
+    /**
+     *  Record a game being played to the end.
+     *
+     *  @param humanWon Whether the human won.
+     */
+    public void recordGameCompleted(boolean humanWon)
+    {
+        gamesCompleted.increment();
+        (humanWon ? humanWins : computerWins).increment();
+    }
+
+
+    /**
+     *  Record a game being saved.
+     *
+     *  @param bytes The number of bytes written.
+     *  @param nanos How long the save took.
+     */
+    public void recordSave(long bytes, long nanos)
+    {
+        saves.increment();
+        bytesWritten.add(bytes);
+        saveLatency.record(nanos);
+    }
+
+
+    /**
+     *  Record a game being loaded.
+     *
+     *  @param nanos How long the load took.
+     */
+    public void recordLoad(long nanos)
+    {
+        loads.increment();
+        loadLatency.record(nanos);
+    }
+
+
+    @Override
+    public long getMovesMade()
+    {
+        return movesMade.sum();
+    }
+
+
+    @Override
+    public Map<String, Long> getMovesByStrategy()
+    {
+        Map<String, Long> moves = new TreeMap<>();
+        strategyMoves.forEach((name, count) -> moves.put(name, count.sum()));
+        return moves;
+    }
+
+
+    @Override
+    public long getGamesCompleted()
+    {
+        return gamesCompleted.sum();
+    }
+
+
+    @Override
+    public long getHumanWins()
+    {
+        return humanWins.sum();
+    }
+
+
+    @Override
+    public long getComputerWins()
+    {
+        return computerWins.sum();
+    }
+
+
+    @Override
+    public long getSaves()
+    {
+        return saves.sum();
+    }
+
+
+    @Override
+    public long getLoads()
+    {
+        return loads.sum();
+    }
+
+
+    @Override
+    public long getBytesWritten()
+    {
+        return bytesWritten.sum();
+    }
+
+
+    @Override
+    public double getSaveLatencyP50Millis()
+    {
+        return saveLatency.getValueAtPercentile(50) / 1e6;
+    }
+
+
+    @Override
+    public double getSaveLatencyP99Millis()
+    {
+        return saveLatency.getValueAtPercentile(99) / 1e6;
+    }
+
+
+    @Override
+    public double getSaveLatencyMaxMillis()
+    {
+        return saveLatency.getMax() / 1e6;
+    }
+
+
+    @Override
+    public double getLoadLatencyP99Millis()
+    {
+        return loadLatency.getValueAtPercentile(99) / 1e6;
+    }
+
+
+    @Override
+    public void reset()
+    {
+        strategyMoves.values().forEach(LongAdder::reset);
+        movesMade.reset();
+        gamesCompleted.reset();
+        humanWins.reset();
+        computerWins.reset();
+        saves.reset();
+        loads.reset();
+        bytesWritten.reset();
+        saveLatency.reset();
+        loadLatency.reset();
+    }
+
+
+    /**
+     *  Register a metrics registry with the platform MBean server. A failure
+     *  to register is reported, but never stops the game.
+     *
+     *  @param metrics The registry to register.
+     */
+    private static void register(NimMetrics metrics)
+    {
+        try
+        {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+
+            if (!server.isRegistered(name))
+            {
+                server.registerMBean(metrics, name);
+            }
+        }
+        catch (JMException | SecurityException error)
+        {
+            System.out.println("An error occurred while registering the metrics MBean:");
+            System.out.println(error.getMessage());
+        }
+    }
+
+
+    /**
+     *  This inner class lazily creates the shared registry the first time it is used.
+     */
+    private static class Holder
+    {
+        private static final NimMetrics INSTANCE = new NimMetrics();
+
+        static
+        {
+            register(INSTANCE);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package org.keglez;
+
+import java.util.Map;
+
+/**
+ *  This interface exposes the live game and persistence statistics of a
+ *  running game over JMX, under the name <code>org.keglez:type=NimMetrics</code>.
+ *  It can be viewed with any standard JMX tool, such as JConsole or VisualVM.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+public interface NimMetricsMXBean
+{
+    /**
+     *  @return The total number of moves made.
+     */
+    long getMovesMade();
+
+    /**
+     *  @return The number of moves made by each strategy, keyed by class name.
+     */
+    Map<String, Long> getMovesByStrategy();
+
+    /**
+     *  @return The number of games played to the end.
+     */
+    long getGamesCompleted();
+
+    /**
+     *  @return The number of games won by the human.
+     */
+    long getHumanWins();
+
+    /**
+     *  @return The number of games won by the computer.
+     */
+    long getComputerWins();
+
+    /**
+     *  @return The number of games saved.
+     */
+    long getSaves();
+
+    /**
+     *  @return The number of games loaded.
+     */
+    long getLoads();
+
+    /**
+     *  @return The number of bytes written to save files.
+     */
+    long getBytesWritten();
+
+    /**
+     *  @return The median save latency in milliseconds.
+     */
+    double getSaveLatencyP50Millis();
+
+    /**
+     *  @return The 99th percentile save latency in milliseconds.
+     */
+    double getSaveLatencyP99Millis();
+
+    /**
+     *  @return The slowest save in milliseconds.
+     */
+    double getSaveLatencyMaxMillis();
+
+    /**
+     *  @return The 99th percentile load latency in milliseconds.
+     */
+    double getLoadLatencyP99Millis();
+
+    /**
+     *  Clear every statistic.
+     */
+    void reset();
+}
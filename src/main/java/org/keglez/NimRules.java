@@ -0,0 +1,175 @@
+package org.keglez;
+
+import java.util.Arrays;
+
+/**
+ *  This class describes a variant of the game: the numbers of match sticks a
+ *  player may take in one move, and who wins at the end. The standard game
+ *  allows 1 or 2. Normally a player who can't make any move, because the pile
+ *  is empty or too small, loses. In misère play they win instead, so taking
+ *  the last match stick loses.
+ *
+ *  Search and learning strategies take a <code>NimRules</code>, so they can
+ *  play variants which have no known formula for the best move.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+public final class NimRules
+{
+    // The standard rules, taking 1 or 2 match sticks.
+    public static final NimRules STANDARD = new NimRules(1, 2);
+
+    // The standard moves, where taking the last match stick loses.
+    public static final NimRules MISERE = STANDARD.withMisere(true);
+
+    // Class attributes.
+    private final int[] moves;
+    private final boolean misere;
+
+
+    /**
+     *  Construct a new set of rules, where the player who can't move loses.
+     *
+     *  @param moves The numbers of match sticks which may be taken in one move.
+     */
+    public NimRules(int... moves)
+    {
+        this(false, moves);
+    }
+
+
+    /**
+     *  Construct a new set of rules.
+     *
+     *  @param misere Whether the player who can't move wins.
+     *  @param moves The numbers of match sticks which may be taken in one move.
+     */
+    public NimRules(boolean misere, int... moves)
+    {
+        if (moves.length == 0)
+        {
+            throw new IllegalArgumentException("The rules must allow at least one move");
+        }
+
+        this.moves = Arrays.stream(moves).distinct().sorted().toArray();
+        this.misere = misere;
+
+        if (this.moves[0] < 1)
+        {
+            throw new IllegalArgumentException("Every move must take at least one match stick");
+        }
+    }
+
+
+    /**
+     *  Get the allowed moves, smallest first.
+     *
+     *  @return Copy of the allowed moves.
+     */
+    public int[] getMoves()
+    {
+        return moves.clone();
+    }
+
+
+    /**
+     *  Get an allowed move.
+     *
+     *  @param index The index of the move, smallest first.
+     *  @return Number of match sticks taken.
+     */
+    public int getMove(int index)
+    {
+        return moves[index];
+    }
+
+
+    /**
+     *  Get the number of moves which can be made from a pile. As the moves are
+     *  sorted, they are always the first moves in the list.
+     *
+     *  @param pile The number of match sticks left.
+     *  @return Number of legal moves.
+     */
+    public int getLegalMoveCount(int pile)
+    {
+        int count = 0;
+
+        while (count < moves.length && moves[count] <= pile)
+        {
+            count++;
+        }
+
+        return count;
+    }
+
+
+    /**
+     *  Check whether a move can be made from a pile.
+     *
+     *  @param pile The number of match sticks left.
+     *  @param move The number of match sticks to take.
+     *  @return <code>true</code> or <code>false</code>
+     */
+    public boolean isLegal(int pile, int move)
+    {
+        return move <= pile && Arrays.binarySearch(moves, move) >= 0;
+    }
+
+
+    /**
+     *  Get the largest allowed move.
+     *
+     *  @return Number of match sticks.
+     */
+    public int getMaxMove()
+    {
+        return moves[moves.length - 1];
+    }
+
+
+    /**
+     *  Check whether the player who can't move wins.
+     *
+     *  @return <code>true</code> in misère play, or <code>false</code>
+     */
+    public boolean isMisere()
+    {
+        return misere;
+    }
+
+
+    /**
+     *  Get the same moves, with the player who can't move winning or losing.
+     *
+     *  @param misere Whether the player who can't move wins.
+     *  @return Rules.
+     */
+    public NimRules withMisere(boolean misere)
+    {
+        return misere == this.misere ? this : new NimRules(misere, moves);
+    }
+
+
+    @Override
+    public boolean equals(Object other)
+    {
+        return other instanceof NimRules rules && misere == rules.misere && Arrays.equals(moves, rules.moves);
+    }
+
+
+    @Override
+    public int hashCode()
+    {
+        return 31 * Arrays.hashCode(moves) + Boolean.hashCode(misere);
+    }
+
+
+    @Override
+    public String toString()
+    {
+        return (misere ? "NimRules[misère]" : "NimRules") + Arrays.toString(moves);
+    }
+}
@@ -0,0 +1,174 @@
+package org.keglez;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ *  This class solves a variant of the game exactly. A pile is a win for the
+ *  player to move when some legal move leaves the opponent a losing pile, and
+ *  a pile with no legal move is a loss, or a win in misère play. Every pile up
+ *  to the largest asked about is worked out once, smallest first, and kept.
+ *
+ *  There is one solver for each set of rules, shared by every thread, so the
+ *  normal and misère versions of a variant are each solved once. The
+ *  table only grows, and a grown table is published whole, so readers never
+ *  lock.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+public final class NimSolver
+{
+    // One solver for each set of rules.
+    private static final Map<NimRules, NimSolver> SOLVERS = new ConcurrentHashMap<>();
+
+    // Class attributes.
+    private final NimRules rules;
+    private volatile boolean[] wins;
+
+
+    /**
+     *  Construct a new solver. Use <code>forRules</code>, so solvers are shared.
+     *
+     *  @param rules The rules to solve.
+     */
+    private NimSolver(NimRules rules)
+    {
+        this.rules = rules;
+        this.wins = new boolean[]{rules.isMisere()};
+    }
+
+
+    /**
+     *  Get the solver for a set of rules.
+     *
+     *  @param rules The rules to solve.
+     *  @return The shared solver.
+     */
+    public static NimSolver forRules(NimRules rules)
+    {
+        return SOLVERS.computeIfAbsent(rules, NimSolver::new);
+    }
+
+
+    /**
+     *  Check whether the player to move wins a pile with perfect play.
+     *
+     *  @param pile The number of match sticks left.
+     *  @return <code>true</code> or <code>false</code>
+     */
+    public boolean isWin(int pile)
+    {
+        if (pile < 0)
+        {
+            return rules.isMisere();
+        }
+
+        boolean[] table = wins;
+        return (pile < table.length ? table : grow(pile))[pile];
+    }
+
+
+    /**
+     *  Get a move which wins a pile.
+     *
+     *  @param pile The number of match sticks left.
+     *  @return The smallest winning move, or 0 if the pile is lost.
+     */
+    public int getWinningMove(int pile)
+    {
+        int legal = rules.getLegalMoveCount(pile);
+
+        for (int i = 0; i < legal; i++)
+        {
+            if (!isWin(pile - rules.getMove(i)))
+            {
+                return rules.getMove(i);
+            }
+        }
+
+        return 0;
+    }
+
+
+    /**
+     *  Get the move perfect play makes: the smallest winning move, or the
+     *  smallest legal move when every move loses.
+     *
+     *  @param pile The number of match sticks left.
+     *  @return The move, or 0 if no move can be made.
+     */
+    public int getBestMove(int pile)
+    {
+        int move = getWinningMove(pile);
+
+        if (move == 0 && rules.getLegalMoveCount(pile) > 0)
+        {
+            move = rules.getMove(0);
+        }
+
+        return move;
+    }
+
+
+    /**
+     *  Check whether a move throws away a won pile.
+     *
+     *  @param pile The number of match sticks left.
+     *  @param move The number of match sticks removed.
+     *  @return <code>true</code> if the pile was won and the move is legal but hands the win over.
+     */
+    public boolean isBlunder(int pile, int move)
+    {
+        return isWin(pile) && rules.isLegal(pile, move) && isWin(pile - move);
+    }
+
+
+    /**
+     *  Get the rules being solved.
+     *
+     *  @return Rules.
+     */
+    public NimRules getRules()
+    {
+        return rules;
+    }
+
+
+    /**
+     *  Solve every pile up to at least the one asked about.
+     *
+     *  @param pile The largest pile needed.
+     *  @return The grown table.
+     */
+    private synchronized boolean[] grow(int pile)
+    {
+        boolean[] table = wins;
+
+        // Another thread may have grown it while this one waited.
+        if (pile < table.length)
+        {
+            return table;
+        }
+
+        boolean[] grown = new boolean[Math.max(pile + 1, table.length * 2)];
+        System.arraycopy(table, 0, grown, 0, table.length);
+
+        for (int current = table.length; current < grown.length; current++)
+        {
+            int legal = rules.getLegalMoveCount(current);
+
+            // The player who can't move loses, unless it's misère play.
+            grown[current] = legal == 0 && rules.isMisere();
+
+            for (int i = 0; i < legal && !grown[current]; i++)
+            {
+                grown[current] = !grown[current - rules.getMove(i)];
+            }
+        }
+
+        wins = grown;
+        return grown;
+    }
+}
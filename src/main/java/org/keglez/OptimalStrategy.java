@@ -0,0 +1,123 @@
+package org.keglez;
+
+/**
+ *  This class represents the optimal strategy. As the player who takes the
+ *  last match stick wins, leaving the opponent a multiple of 3 always wins.
+ *  When the pile is already a multiple of 3 there is no winning move, so a
+ *  single match stick is taken to make the game last longer.
+ *
+ *  In misère play, where taking the last match stick loses, the opponent is
+ *  left one more than a multiple of 3 instead, so they are forced to take it.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+public class OptimalStrategy implements MoveStrategy
+{
+    // Class attributes.
+    private final boolean misere;
+
+
+    /**
+     *  Construct a new optimal strategy, for the player who takes the last match stick winning.
+     */
+    public OptimalStrategy()
+    {
+        this(false);
+    }
+
+
+    /**
+     *  Construct a new optimal strategy.
+     *
+     *  @param misere Whether taking the last match stick loses.
+     */
+    public OptimalStrategy(boolean misere)
+    {
+        this.misere = misere;
+    }
+
+
+    /**
+     * Take enough match sticks to leave a multiple of 3, or one more in misère play.
+     *
+     * @param currentPile The amount of matchsticks left.
+     * @return Number to remove.
+     */
+    @Override
+    public int NextMove(int currentPile)
+    {
+        if (currentPile <= 0)
+        {
+            return 0;
+        }
+
+        int remainder = (currentPile - getOffset()) % 3;
+        return remainder == 0 ? 1 : remainder;
+    }
+
+
+    /**
+     * Works out the moves for many piles without branching.
+     *
+     * @param piles The number of match sticks left in each game.
+     * @param out The array to write each game's move to.
+     * @param count The number of games.
+     */
+    @Override
+    public void nextMoves(int[] piles, int[] out, int count)
+    {
+        int offset = getOffset();
+
+        for (int i = 0; i < count; i++)
+        {
+            int pile = piles[i];
+            int shifted = pile - offset;
+
+            // Divide by 3 with a multiply, which is much cheaper than a division.
+            // Only correct for positive piles, but the rest are masked to 0 below.
+            int remainder = shifted - 3 * (int) ((shifted * 0xAAAAAAABL) >>> 33);
+
+            // 1 when the remainder is 0, and 1 when the pile is above 0.
+            int isZero = 1 - ((remainder | -remainder) >>> 31);
+            int isPositive = (-pile & ~pile) >>> 31;
+
+            out[i] = (remainder + isZero) * isPositive;
+        }
+    }
+
+
+    /**
+     * The move only depends on the pile.
+     *
+     * @return <code>true</code>
+     */
+    @Override
+    public boolean isDeterministic()
+    {
+        return true;
+    }
+
+
+    /**
+     * Check whether taking the last match stick loses.
+     *
+     * @return <code>true</code> or <code>false</code>
+     */
+    public boolean isMisere()
+    {
+        return misere;
+    }
+
+
+    /**
+     * Get the remainder the opponent is left, after dividing by 3.
+     *
+     * @return 1 in misère play, or 0.
+     */
+    private int getOffset()
+    {
+        return misere ? 1 : 0;
+    }
+}
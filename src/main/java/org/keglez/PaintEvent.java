@@ -0,0 +1,28 @@
+package org.keglez;
+
+import jdk.jfr.*;
+
+/**
+ *  This Java Flight Recorder event is emitted every time <code>NimCanvas</code>
+ *  is painted.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+@Name("org.keglez.Paint")
+@Label("Canvas Paint")
+@Category({"Nim", "Rendering"})
+@Description("The nim canvas being painted")
+@StackTrace(false)
+public class PaintEvent extends Event
+{
+    @Label("Match Sticks")
+    public int matchSticks;
+
+    @Label("Width")
+    public int width;
+
+    @Label("Height")
+    public int height;
+}
@@ -10,6 +10,9 @@ package org.keglez;
  */
 public class PreDefinedStrategy implements MoveStrategy
 {
+    // The same moves as NextMove, for pile sizes 1 to 10.
+    private static final int[] MOVES = {1, 2, 1, 1, 2, 1, 2, 1, 1, 2};
+
     /**
      * This method is the pre-defined strategy.
      *
@@ -34,4 +37,39 @@ public class PreDefinedStrategy implements MoveStrategy
             default -> 0;
         };
     }
+
+
+    /**
+     * Works out the moves for many piles without branching, by looking them up
+     * in a table. Piles outside 1 to 10 are masked to 0, as in <code>NextMove</code>.
+     *
+     * @param piles The number of match sticks left in each game.
+     * @param out The array to write each game's move to.
+     * @param count The number of games.
+     */
+    @Override
+    public void nextMoves(int[] piles, int[] out, int count)
+    {
+        for (int i = 0; i < count; i++)
+        {
+            int index = piles[i] - 1;
+
+            // All ones when the index is between 0 and 9, otherwise 0.
+            int mask = ((index | (9 - index)) >> 31) ^ -1;
+
+            out[i] = MOVES[index & mask] & mask;
+        }
+    }
+
+
+    /**
+     * The move only depends on the pile.
+     *
+     * @return <code>true</code>
+     */
+    @Override
+    public boolean isDeterministic()
+    {
+        return true;
+    }
 }
@@ -0,0 +1,198 @@
+package org.keglez;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ *  This class trains a <code>LearnedStrategy</code> by self-play. Each episode
+ *  starts from a random pile and plays to the end, with both sides choosing
+ *  from the same Q-table. A move's value is updated towards winning outright,
+ *  or towards the negative of the best reply's value, as whatever is good for
+ *  the opponent is bad for the mover.
+ *
+ *  Episodes run on many threads at once, all updating the one shared table
+ *  without locks (the "Hogwild" method). A write from one thread can
+ *  occasionally be lost to another, but each update is small, so training
+ *  still converges while scaling with the number of cores.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+public class QLearningTrainer
+{
+    // Class attributes.
+    private final NimRules rules;
+    private final int maxPile;
+    private final int moveCount;
+    private final float[] table;
+
+    private float learningRate = 0.1f;
+    private float exploration = 0.2f;
+    private float discount = 0.99f;
+
+
+    /**
+     *  Construct a new trainer, with every move valued at 0.
+     *
+     *  @param rules The rules to learn.
+     *  @param maxPile The largest starting pile.
+     */
+    public QLearningTrainer(NimRules rules, int maxPile)
+    {
+        this.rules = rules;
+        this.maxPile = maxPile;
+        this.moveCount = rules.getMoves().length;
+        this.table = new float[(maxPile + 1) * moveCount];
+    }
+
+
+    /**
+     *  Set how far each update moves a value towards its target.
+     *
+     *  @param learningRate Between 0 and 1.
+     */
+    public void setLearningRate(float learningRate)
+    {
+        this.learningRate = learningRate;
+    }
+
+
+    /**
+     *  Set how often a random move is played instead of the best one.
+     *
+     *  @param exploration Between 0 and 1.
+     */
+    public void setExploration(float exploration)
+    {
+        this.exploration = exploration;
+    }
+
+
+    /**
+     *  Set how much a win is worth for each move it is delayed, so quicker wins
+     *  are preferred.
+     *
+     *  @param discount Between 0 and 1.
+     */
+    public void setDiscount(float discount)
+    {
+        this.discount = discount;
+    }
+
+
+    /**
+     *  Play self-play episodes, split between threads.
+     *
+     *  @param episodes The total number of episodes.
+     *  @param threads The number of threads.
+     *  @param seed The seed for the starting piles and exploration.
+     */
+    public void train(long episodes, int threads, long seed)
+    {
+        // Split the seeds up front, so each thread's stream doesn't depend on scheduling.
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] randoms = new SplittableRandom[threads];
+
+        for (int i = 0; i < threads; i++)
+        {
+            randoms[i] = root.split();
+        }
+
+        IntStream.range(0, threads)
+                .parallel()
+                .forEach(thread ->
+                {
+                    long share = episodes / threads + (thread < episodes % threads ? 1 : 0);
+
+                    for (long episode = 0; episode < share; episode++)
+                    {
+                        playEpisode(randoms[thread]);
+                    }
+                });
+    }
+
+
+    /**
+     *  Play a single episode, updating the table after every move.
+     *
+     *  @param random The random numbers for the starting pile and exploration.
+     */
+    private void playEpisode(SplittableRandom random)
+    {
+        int pile = random.nextInt(maxPile) + 1;
+        int legal = rules.getLegalMoveCount(pile);
+
+        while (legal > 0)
+        {
+            int offset = pile * moveCount;
+            int index = random.nextFloat() < exploration
+                    ? random.nextInt(legal)
+                    : LearnedStrategy.bestMoveIndex(table, offset, legal);
+
+            int next = pile - rules.getMove(index);
+            int nextLegal = rules.getLegalMoveCount(next);
+
+            // The player who can't move loses, so leaving no move wins, except in misère play.
+            float target;
+
+            if (nextLegal == 0)
+            {
+                target = rules.isMisere() ? -1 : 1;
+            }
+            else
+            {
+                int nextOffset = next * moveCount;
+                target = -discount * table[nextOffset + LearnedStrategy.bestMoveIndex(table, nextOffset, nextLegal)];
+            }
+
+            table[offset + index] += learningRate * (target - table[offset + index]);
+
+            pile = next;
+            legal = nextLegal;
+        }
+    }
+
+
+    /**
+     *  Create a strategy from a copy of the table as it is now.
+     *
+     *  @return The learned strategy.
+     */
+    public LearnedStrategy toStrategy()
+    {
+        return new LearnedStrategy(rules, maxPile, table.clone());
+    }
+
+
+    /**
+     *  Train a table for the standard moves, and save it.
+     *
+     *  @param args Optionally, the file to save to, the largest pile, the number of episodes, and whether to use misère play.
+     */
+    public static void main(String[] args)
+    {
+        Path path = Paths.get(args.length > 0 ? args[0] : "learned.bin");
+        int maxPile = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        long episodes = args.length > 2 ? Long.parseLong(args[2]) : 1_000_000;
+        boolean misere = args.length > 3 && Boolean.parseBoolean(args[3]);
+
+        try
+        {
+            long start = System.nanoTime();
+            QLearningTrainer trainer = new QLearningTrainer(NimRules.STANDARD.withMisere(misere), maxPile);
+            trainer.train(episodes, Runtime.getRuntime().availableProcessors(), 1);
+            trainer.toStrategy().save(path);
+
+            System.out.println("Trained " + episodes + " episodes in " + (System.nanoTime() - start) / 1_000_000 + " ms, saved to " + path);
+        }
+        catch (IOException error)
+        {
+            System.out.println("An error occurred while saving the Q-table:");
+            throw new RuntimeException(error);
+        }
+    }
+}
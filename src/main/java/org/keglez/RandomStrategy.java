@@ -1,15 +1,56 @@
 package org.keglez;
 
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 
 /**
  *  This class interfaces with the move strategy, and generates
  *  and random number of piles for the computer to remove.
+ *
+ *  An unseeded strategy draws from <code>ThreadLocalRandom</code>, so one
+ *  instance can be shared by any number of threads without contention. A
+ *  seeded strategy draws from its own <code>SplittableRandom</code>, so its
+ *  moves can be reproduced. It is not thread-safe, so each thread should use
+ *  its own <code>split()</code>.
  */
 public class RandomStrategy implements MoveStrategy
 {
-    private Random random = new Random();
+    // The seeded generator, or null to use ThreadLocalRandom.
+    private final SplittableRandom random;
+
+
+    /**
+     *  Construct a new unseeded random strategy.
+     */
+    public RandomStrategy()
+    {
+        this.random = null;
+    }
+
+
+    /**
+     *  Construct a new seeded random strategy. Strategies with the same seed make
+     *  the same moves.
+     *
+     *  @param seed The seed.
+     */
+    public RandomStrategy(long seed)
+    {
+        this(new SplittableRandom(seed));
+    }
+
+
+    /**
+     *  Construct a new random strategy from a generator.
+     *
+     *  @param random The generator.
+     */
+    private RandomStrategy(SplittableRandom random)
+    {
+        this.random = random;
+    }
 
 
     /**
@@ -26,7 +67,7 @@ public class RandomStrategy implements MoveStrategy
         {
             try
             {
-                return random.nextInt(2) + 1;
+                return generator().nextInt(2) + 1;
             }
             catch (Exception error)
             {
@@ -45,4 +86,82 @@ public class RandomStrategy implements MoveStrategy
             return 0;
         }
     }
+
+
+    /**
+     * Randomly remove match sticks from many piles. Each random number gives
+     * 64 moves, rather than drawing one per move.
+     *
+     * @param piles The number of match sticks left in each game.
+     * @param out The array to write each game's move to.
+     * @param count The number of games.
+     */
+    @Override
+    public void nextMoves(int[] piles, int[] out, int count)
+    {
+        RandomGenerator generator = generator();
+        long bits = 0;
+
+        for (int i = 0; i < count; i++)
+        {
+            if ((i & 63) == 0)
+            {
+                bits = generator.nextLong();
+            }
+
+            int pile = piles[i];
+            int move = (int) (bits >>> (i & 63)) & 1;
+
+            // 1 or 2 above a pile of 1, 1 from a pile of 1 and 0 otherwise, as in NextMove.
+            out[i] = pile > 1 ? move + 1 : (pile == 1 ? 1 : 0);
+        }
+    }
+
+
+    /**
+     * Create a seeded copy of this strategy.
+     *
+     * @param seed The seed.
+     * @return A new seeded strategy.
+     */
+    @Override
+    public MoveStrategy withSeed(long seed)
+    {
+        return new RandomStrategy(seed);
+    }
+
+
+    /**
+     * Create a strategy with an independent stream of random numbers, for use on
+     * another thread. A seeded strategy gives a seeded split, so a set of splits
+     * made in the same order is always the same.
+     *
+     * @return The new strategy.
+     */
+    public RandomStrategy split()
+    {
+        return random == null ? new RandomStrategy() : new RandomStrategy(random.split());
+    }
+
+
+    /**
+     * Check whether the strategy was seeded.
+     *
+     * @return <code>true</code> or <code>false</code>
+     */
+    public boolean isSeeded()
+    {
+        return random != null;
+    }
+
+
+    /**
+     * Get the generator to draw from.
+     *
+     * @return The seeded generator, or the current thread's generator.
+     */
+    private RandomGenerator generator()
+    {
+        return random != null ? random : ThreadLocalRandom.current();
+    }
 }
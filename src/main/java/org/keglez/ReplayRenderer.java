@@ -0,0 +1,258 @@
+package org.keglez;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ *  This class renders saved games into PNG frame sequences without a window,
+ *  so that games can be reviewed in bulk. Each save's moves are replayed
+ *  through <code>NimGame</code>, and every frame of <code>NimCanvas</code> is
+ *  painted into an off-screen image.
+ *
+ *  Games are rendered in parallel. Each worker thread keeps its own canvas,
+ *  game and image buffer, which are reused for every frame it renders.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+public class ReplayRenderer
+{
+    // Class attributes.
+    private final Path outputDirectory;
+
+    // Per-thread pools, so frames never allocate a new canvas or image buffer.
+    private final ThreadLocal<NimCanvas> canvasPool;
+    private final ThreadLocal<BufferedImage> imagePool;
+    private final ThreadLocal<NimGame> gamePool;
+
+
+    /**
+     *  Construct a new replay renderer.
+     *
+     *  @param outputDirectory The directory the frames are written to.
+     *  @param width The width of each frame.
+     *  @param height The height of each frame.
+     */
+    public ReplayRenderer(Path outputDirectory, int width, int height)
+    {
+        this.outputDirectory = outputDirectory;
+
+        this.canvasPool = ThreadLocal.withInitial(() -> new NimCanvas(width, height));
+        this.imagePool = ThreadLocal.withInitial(() -> new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB));
+        this.gamePool = ThreadLocal.withInitial(() -> new NimGame(
+                new Player("Human", new HumanUserStrategy()),
+                new Player("Computer", new RandomStrategy()),
+                null));
+    }
+
+
+    /**
+     *  Paint the canvas, in its current state, into an image.
+     *
+     *  @param canvas The canvas to paint.
+     *  @param image The image to paint into.
+     */
+    public static void renderFrame(NimCanvas canvas, BufferedImage image)
+    {
+        Graphics2D graphics = image.createGraphics();
+
+        try
+        {
+            graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            canvas.paintComponent(graphics);
+        }
+        finally
+        {
+            graphics.dispose();
+        }
+    }
+
+
+    /**
+     *  Replay a single game and write each of its frames as a PNG. Frame 0 is
+     *  the starting position, and there is one more frame for every move.
+     *
+     *  @param id The save ID, used to name the output directory.
+     *  @param humanTurn Whether it was the human's turn when the game was saved.
+     *  @param moves The moves column of the save.
+     *  @return The number of frames written.
+     *  @throws IOException An issue writing a frame.
+     */
+    public int renderGame(String id, boolean humanTurn, String moves) throws IOException
+    {
+        return renderGame(id, humanTurn, moves, false);
+    }
+
+
+    /**
+     *  Replay a single game and write each of its frames as a PNG. Frame 0 is
+     *  the starting position, and there is one more frame for every move.
+     *
+     *  @param id The save ID, used to name the output directory.
+     *  @param humanTurn Whether it was the human's turn when the game was saved.
+     *  @param moves The moves column of the save.
+     *  @param misere Whether the game was played in misère mode.
+     *  @return The number of frames written.
+     *  @throws IOException An issue writing a frame.
+     */
+    public int renderGame(String id, boolean humanTurn, String moves, boolean misere) throws IOException
+    {
+        NimCanvas canvas = canvasPool.get();
+        BufferedImage image = imagePool.get();
+        NimGame game = gamePool.get();
+
+        // Work out whose turn it was at the start, from the turn at the end.
+        int[] replay = NimGame.parseMoves(moves);
+        int moveCount = 0;
+
+        for (int move : replay)
+        {
+            if (move > 0)
+            {
+                moveCount++;
+            }
+        }
+
+        game.resetGame();
+        game.setIsHumanTurn(humanTurn ^ (moveCount % 2 == 1));
+        game.setMisere(misere);
+
+        Path directory = outputDirectory.resolve("save-" + id);
+        Files.createDirectories(directory);
+
+        // Render the starting position.
+        canvas.load(game.getMatchStickSize());
+        canvas.setWinner("");
+        int frame = 0;
+        writeFrame(canvas, image, directory, frame++);
+
+        // Render a frame after every move.
+        for (int move : replay)
+        {
+            // Saves without moves are stored as a single 0.
+            if (move <= 0)
+            {
+                continue;
+            }
+
+            game.assignMove(move);
+            canvas.load(game.getMatchStickSize());
+
+            if (game.checkWinner())
+            {
+                canvas.setWinner(game.getWinnerName());
+            }
+
+            writeFrame(canvas, image, directory, frame++);
+        }
+
+        return frame;
+    }
+
+
+    /**
+     *  Render every save in parallel.
+     *
+     *  @param saves The save data rows, including the header row.
+     *  @param threads The number of rendering threads.
+     *  @return The total number of frames written.
+     *  @throws IOException An issue writing a frame.
+     */
+    public int renderAll(List<String[]> saves, int threads) throws IOException
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try
+        {
+            // Skip the header row, and submit each game as its own task.
+            List<Callable<Integer>> tasks = new ArrayList<>();
+
+            for (int i = 1; i < saves.size(); i++)
+            {
+                String[] save = saves.get(i);
+                tasks.add(() -> renderGame(save[0], Boolean.parseBoolean(save[3]), save[4], NimGame.isMisereSave(save)));
+            }
+
+            int frames = 0;
+
+            for (Future<Integer> result : executor.invokeAll(tasks))
+            {
+                frames += result.get();
+            }
+
+            return frames;
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+            throw new IOException("Rendering was interrupted", error);
+        }
+        catch (ExecutionException error)
+        {
+            System.out.println("An error occurred while rendering a replay:");
+            throw new IOException(error.getCause());
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+
+    /**
+     *  Paint the canvas into the pooled image and write it as a PNG.
+     *
+     *  @param canvas The canvas to paint.
+     *  @param image The pooled image buffer.
+     *  @param directory The directory to write to.
+     *  @param frame The frame number.
+     *  @throws IOException An issue writing the frame.
+     */
+    private void writeFrame(NimCanvas canvas, BufferedImage image, Path directory, int frame) throws IOException
+    {
+        renderFrame(canvas, image);
+        ImageIO.write(image, "png", directory.resolve(String.format("frame-%03d.png", frame)).toFile());
+    }
+
+
+    /**
+     *  Render all the saved games in a save file.
+     *
+     *  @param args The save file, the output directory, and optionally the number of threads.
+     */
+    public static void main(String[] args)
+    {
+        // Must be set before any AWT class is used.
+        System.setProperty("java.awt.headless", "true");
+
+        String savePath = args.length > 0 ? args[0] : "src/main/resources/saves.csv";
+        Path output = Paths.get(args.length > 1 ? args[1] : "replays");
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+        try
+        {
+            SaveHandler saves = new SaveHandler(savePath);
+            ReplayRenderer renderer = new ReplayRenderer(output, 500, 400);
+
+            long start = System.nanoTime();
+            int frames = renderer.renderAll(saves.returnSaveData(), threads);
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            System.out.println("Rendered " + frames + " frames to " + output.toAbsolutePath() + " in " + elapsed + " ms.");
+        }
+        catch (IOException error)
+        {
+            System.out.println("An error occurred while rendering the replays:");
+            throw new RuntimeException(error);
+        }
+    }
+}
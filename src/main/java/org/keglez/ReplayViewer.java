@@ -0,0 +1,180 @@
+package org.keglez;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+
+/**
+ *  This class is the replay mode of the GUI. It shows a game's history on its
+ *  own canvas, with play/pause, step and scrub controls. Seeking uses the
+ *  keyframes in <code>GameReplay</code>, so the slider can be dragged freely
+ *  even through very long games.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+public class ReplayViewer extends JDialog
+{
+    // Delay between moves while playing, in milliseconds.
+    private static final int PLAY_DELAY = 500;
+
+    // Class attributes.
+    private final GameReplay replay;
+    private final NimCanvas canvas;
+    private final JSlider slider;
+    private final JLabel positionLabel;
+    private final JButton playButton;
+    private final Timer playTimer;
+
+
+    /**
+     *  Construct a new replay viewer.
+     *
+     *  @param owner The frame which owns the viewer.
+     *  @param replay The replay to show.
+     */
+    public ReplayViewer(Frame owner, GameReplay replay)
+    {
+        super(owner, "Replay", ModalityType.APPLICATION_MODAL);
+
+        try
+        {
+            this.replay = replay;
+            this.canvas = new NimCanvas(500, 400);
+
+            // Setup the slider, which covers every position in the game.
+            this.slider = new JSlider(0, replay.getMoveCount(), 0);
+            this.slider.addChangeListener(e -> seek(slider.getValue()));
+
+            // Setup the position label and the play timer.
+            this.positionLabel = new JLabel();
+            this.playButton = new JButton("Play");
+            this.playTimer = new Timer(PLAY_DELAY, e -> step(1));
+
+            // Stop playing when the window is closed.
+            setDefaultCloseOperation(JDialog.DISPOSE_ON_CLOSE);
+            addWindowListener(new WindowAdapter()
+            {
+                @Override
+                public void windowClosed(WindowEvent event)
+                {
+                    playTimer.stop();
+                }
+            });
+
+            // Add the GUI content.
+            add(canvas, BorderLayout.CENTER);
+            add(generateControls(), BorderLayout.SOUTH);
+            setResizable(false);
+
+            // Show the starting position.
+            seek(0);
+
+            pack();
+            setLocationRelativeTo(owner);
+        }
+        catch (Exception error)
+        {
+            System.out.println("An error occurred while constructing the replay viewer:");
+            throw new RuntimeException(error);
+        }
+    }
+
+
+    /**
+     *  This method generates the replay controls.
+     *
+     *  @return Controls panel.
+     */
+    private JPanel generateControls()
+    {
+        JPanel buttons = new JPanel();
+
+        JButton startButton = new JButton("|<");
+        startButton.addActionListener(e -> slider.setValue(0));
+        buttons.add(startButton);
+
+        JButton backButton = new JButton("<");
+        backButton.addActionListener(e -> step(-1));
+        buttons.add(backButton);
+
+        this.playButton.addActionListener(e -> togglePlaying());
+        buttons.add(this.playButton);
+
+        JButton forwardButton = new JButton(">");
+        forwardButton.addActionListener(e -> step(1));
+        buttons.add(forwardButton);
+
+        JButton endButton = new JButton(">|");
+        endButton.addActionListener(e -> slider.setValue(replay.getMoveCount()));
+        buttons.add(endButton);
+
+        buttons.add(this.positionLabel);
+
+        // Stack the slider above the buttons.
+        JPanel controls = new JPanel(new BorderLayout());
+        controls.add(this.slider, BorderLayout.NORTH);
+        controls.add(buttons, BorderLayout.SOUTH);
+        return controls;
+    }
+
+
+    /**
+     *  Move forwards or backwards through the replay. Playing stops at the end.
+     *
+     *  @param amount The number of moves to step.
+     */
+    private void step(int amount)
+    {
+        int position = Math.max(0, Math.min(replay.getMoveCount(), slider.getValue() + amount));
+        slider.setValue(position);
+
+        if (position == replay.getMoveCount() && playTimer.isRunning())
+        {
+            togglePlaying();
+        }
+    }
+
+
+    /**
+     *  Start or pause playing the replay.
+     */
+    private void togglePlaying()
+    {
+        if (playTimer.isRunning())
+        {
+            playTimer.stop();
+            playButton.setText("Play");
+        }
+        else
+        {
+            // Play from the start again if the replay has finished.
+            if (slider.getValue() == replay.getMoveCount())
+            {
+                slider.setValue(0);
+            }
+
+            playTimer.start();
+            playButton.setText("Pause");
+        }
+    }
+
+
+    /**
+     *  Show the position after a number of moves.
+     *
+     *  @param position The number of moves made.
+     */
+    private void seek(int position)
+    {
+        int pile = replay.getPileAt(position);
+
+        // The canvas can only draw up to 10 match sticks.
+        canvas.load(Math.max(0, Math.min(10, pile)));
+        canvas.setWinner(replay.getWinnerAt(position));
+
+        positionLabel.setText("Move " + position + " of " + replay.getMoveCount() + " (" + pile + " left)");
+    }
+}
@@ -0,0 +1,30 @@
+package org.keglez;
+
+import jdk.jfr.*;
+
+/**
+ *  This Java Flight Recorder event is emitted when a <code>NimGame</code> is
+ *  saved or loaded.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+@Name("org.keglez.Save")
+@Label("Save or Load")
+@Category({"Nim", "Game"})
+@Description("A game of nim being saved or loaded")
+public class SaveEvent extends Event
+{
+    @Label("Operation")
+    public String operation;
+
+    @Label("Save ID")
+    public int id;
+
+    @Label("Pile Size")
+    public int pile;
+
+    @Label("Moves")
+    public int moves;
+}
@@ -0,0 +1,31 @@
+package org.keglez;
+
+import jdk.jfr.*;
+
+/**
+ *  This Java Flight Recorder event is emitted when <code>SaveHandler</code>
+ *  reads or writes the save file.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+@Name("org.keglez.SaveFile")
+@Label("Save File I/O")
+@Category({"Nim", "Persistence"})
+@Description("The save file being read or appended to")
+public class SaveFileEvent extends Event
+{
+    @Label("Operation")
+    public String operation;
+
+    @Label("Path")
+    public String path;
+
+    @Label("Rows")
+    public int rows;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+}
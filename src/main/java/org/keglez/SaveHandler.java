@@ -2,6 +2,7 @@ package org.keglez;
 
 import java.io.*;
 import java.lang.reflect.Array;
+import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
 import java.util.*;
 import java.io.FileWriter;
@@ -33,7 +34,7 @@ public class SaveHandler
         try
         {
             this.filepath = filepath;
-            this.headers = new String[]{"ID", "Date", "Marble Size", "Human Turn", "Moves"};
+            this.headers = new String[]{"ID", "Date", "Marble Size", "Human Turn", "Moves", "Misere"};
             checkSaveDataExists();
         }
         catch (IOException e)
@@ -118,6 +119,9 @@ public class SaveHandler
      */
     public void getSaveData() throws IOException
     {
+        SaveFileEvent event = new SaveFileEvent();
+        event.begin();
+
         try
         {
             // Initialise save list and open the file.
@@ -136,6 +140,15 @@ public class SaveHandler
 
             // Finished.
             scanner.close();
+
+            if (event.shouldCommit())
+            {
+                event.operation = "read";
+                event.path = this.filepath;
+                event.rows = this.saveData.size();
+                event.bytes = file.length();
+                event.commit();
+            }
         }
         catch (Exception e)
         {
@@ -215,8 +228,12 @@ public class SaveHandler
      */
     public void append(String[] saveData) throws IOException
     {
+        SaveFileEvent event = new SaveFileEvent();
+        event.begin();
+        long start = System.nanoTime();
+
         // Format the save data.
-        String[] data = new String[5];
+        String[] data = new String[6];
 
         // Load the save file.
         File file = new File(this.filepath);
@@ -242,6 +259,9 @@ public class SaveHandler
             {
                 data[4] = saveData[2];
             }
+
+            // Games saved without a rule are normal play.
+            data[5] = saveData.length > 3 ? saveData[3] : "false"; // Misère.
         }
         catch (Exception error)
         {
@@ -250,14 +270,28 @@ public class SaveHandler
         }
 
         // Write the data, split with delimiter.
-        try (FileWriter writer = new FileWriter(file, true))
+        String line = String.join(",", data) + "\n";
+        int bytes = line.getBytes(StandardCharsets.UTF_8).length;
+
+        try (FileWriter writer = new FileWriter(file, StandardCharsets.UTF_8, true))
         {
-            writer.write(String.join(",", data) + "\n");
+            writer.write(line);
         }
         catch (IOException error)
         {
             System.out.println("An error occurred writing the data:");
             throw new RuntimeException(error);
         }
+
+        NimMetrics.getInstance().recordSave(bytes, System.nanoTime() - start);
+
+        if (event.shouldCommit())
+        {
+            event.operation = "append";
+            event.path = this.filepath;
+            event.rows = 1;
+            event.bytes = bytes;
+            event.commit();
+        }
     }
 }
@@ -0,0 +1,145 @@
+package org.keglez;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.IntStream;
+
+/**
+ *  This class compiles a deterministic strategy into a
+ *  <code>CompiledStrategy</code>. The strategy is asked for its move from every
+ *  pile in the range once, in parallel, and the moves are stored in a table.
+ *
+ *  The compiler then looks for the moves repeating towards the end of the
+ *  table, so piles beyond it can still be answered by wrapping the repeating
+ *  part around. Only strategies which say they are deterministic can be
+ *  compiled, as a table of random moves would always make the same ones.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+public final class StrategyCompiler
+{
+    // The longest repeating pattern looked for.
+    public static final int MAX_PERIOD = 64;
+
+
+    /**
+     *  Not to be constructed.
+     */
+    private StrategyCompiler()
+    {
+    }
+
+
+    /**
+     *  Compile a strategy for piles 0 to <code>maxPile</code>.
+     *
+     *  @param strategy The strategy, which must be deterministic and thread-safe.
+     *  @param maxPile The largest pile in the table.
+     *  @return The compiled strategy.
+     */
+    public static CompiledStrategy compile(MoveStrategy strategy, int maxPile)
+    {
+        if (!strategy.isDeterministic())
+        {
+            throw new IllegalArgumentException("Only deterministic strategies can be compiled");
+        }
+
+        if (maxPile < 1)
+        {
+            throw new IllegalArgumentException("The largest pile must be above 0");
+        }
+
+        byte[] table = new byte[maxPile + 1];
+
+        IntStream.rangeClosed(0, maxPile)
+                .parallel()
+                .forEach(pile ->
+                {
+                    int move = strategy.NextMove(pile);
+
+                    if (move != (byte) move)
+                    {
+                        throw new IllegalArgumentException("The move from a pile of " + pile + " doesn't fit in the table: " + move);
+                    }
+
+                    table[pile] = (byte) move;
+                });
+
+        int[] pattern = findPeriod(table);
+        return new CompiledStrategy(ByteBuffer.wrap(table), pattern[0], pattern[1]);
+    }
+
+
+    /**
+     *  Find the shortest pattern which repeats from the earliest pile to the
+     *  end of the table. A pattern only counts if it repeats at least 3 times.
+     *
+     *  @param table The move from each pile.
+     *  @return The first pile of the pattern and its length, or a length of 0 if there isn't one.
+     */
+    static int[] findPeriod(byte[] table)
+    {
+        int bestStart = table.length;
+        int bestPeriod = 0;
+
+        for (int period = 1; period <= MAX_PERIOD && 3 * period <= table.length; period++)
+        {
+            // Walk back from the end while the moves keep repeating.
+            int start = table.length - period;
+
+            while (start > 0 && table[start - 1] == table[start - 1 + period])
+            {
+                start--;
+            }
+
+            if (table.length - start >= 3 * period && start < bestStart)
+            {
+                bestStart = start;
+                bestPeriod = period;
+            }
+        }
+
+        return new int[]{bestPeriod == 0 ? 0 : bestStart, bestPeriod};
+    }
+
+
+    /**
+     *  Compile a registered strategy and save it.
+     *
+     *  @param args The strategy's name, and optionally the largest pile and the file to save to.
+     */
+    public static void main(String[] args)
+    {
+        String name = args.length > 0 ? args[0] : "Optimal";
+        int maxPile = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+        Path path = Paths.get(args.length > 2 ? args[2] : name.toLowerCase() + ".nimt");
+
+        MoveStrategy source = StrategyRegistry.getInstance().get(name);
+
+        if (source == null)
+        {
+            System.out.println("There is no strategy called " + name);
+            return;
+        }
+
+        try
+        {
+            long start = System.nanoTime();
+            CompiledStrategy strategy = compile(source, maxPile);
+            strategy.save(path);
+
+            System.out.println("Compiled " + name + " for piles up to " + maxPile + " in "
+                    + (System.nanoTime() - start) / 1_000_000 + " ms, repeating every "
+                    + strategy.getPeriod() + " from " + strategy.getPeriodStart() + ", saved to " + path);
+        }
+        catch (IOException error)
+        {
+            System.out.println("An error occurred while saving the compiled strategy:");
+            throw new RuntimeException(error);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package org.keglez;
+
+/**
+ *  This interface is the plugin point for computer strategies. Providers are
+ *  discovered with <code>java.util.ServiceLoader</code>, so a jar on the class
+ *  path can add a strategy by listing its provider in
+ *  <code>META-INF/services/org.keglez.StrategyProvider</code>.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+public interface StrategyProvider
+{
+    /**
+     *  Get the strategy's name, which must be unique.
+     *
+     *  @return Strategy name.
+     */
+    String getName();
+
+
+    /**
+     *  Get the single letter used to choose the strategy in the CLI.
+     *
+     *  @return Menu key.
+     */
+    String getKey();
+
+
+    /**
+     *  Get the game mode the strategy is suited to.
+     *
+     *  @return Difficulty.
+     */
+    GameMode getDifficulty();
+
+
+    /**
+     *  Check whether one instance of the strategy can be used by several threads at once.
+     *
+     *  @return <code>true</code> or <code>false</code>
+     */
+    boolean isThreadSafe();
+
+
+    /**
+     *  Check whether the strategy keeps no state between moves. Stateless
+     *  strategies are created once, and the instance is shared.
+     *
+     *  @return <code>true</code> or <code>false</code>
+     */
+    boolean isStateless();
+
+
+    /**
+     *  Create a new instance of the strategy.
+     *
+     *  @return The strategy.
+     */
+    MoveStrategy create();
+
+
+    /**
+     *  Create a new instance of the strategy for a set of rules. Strategies
+     *  which don't look at the rules, such as random ones, play the same either way.
+     *
+     *  @param rules The rules being played.
+     *  @return The strategy.
+     */
+    default MoveStrategy create(NimRules rules)
+    {
+        return create();
+    }
+
+
+    /**
+     *  Check whether the strategy plays correctly under a set of rules. By default
+     *  a strategy only knows the standard rules, so it must be replaced in other games.
+     *
+     *  @param rules The rules being played.
+     *  @return <code>true</code> or <code>false</code>
+     */
+    default boolean supports(NimRules rules)
+    {
+        return rules.equals(NimRules.STANDARD);
+    }
+}
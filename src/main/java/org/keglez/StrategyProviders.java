@@ -0,0 +1,611 @@
+package org.keglez;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ *  This class holds the providers for the built in strategies. They are listed
+ *  in <code>META-INF/services/org.keglez.StrategyProvider</code>, in the same
+ *  way as a strategy from an external jar would be.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+public final class StrategyProviders
+{
+    /**
+     *  Not to be constructed.
+     */
+    private StrategyProviders()
+    {
+    }
+
+
+    /**
+     *  Provides the <code>RandomStrategy</code>.
+     */
+    public static class Random implements StrategyProvider
+    {
+        @Override
+        public String getName()
+        {
+            return "Random";
+        }
+
+
+        @Override
+        public String getKey()
+        {
+            return "R";
+        }
+
+
+        @Override
+        public GameMode getDifficulty()
+        {
+            return GameMode.EASY;
+        }
+
+
+        @Override
+        public boolean isThreadSafe()
+        {
+            return true;
+        }
+
+
+        @Override
+        public boolean isStateless()
+        {
+            // Unseeded moves come from ThreadLocalRandom, so one instance can be shared.
+            return true;
+        }
+
+
+        @Override
+        public MoveStrategy create()
+        {
+            return new RandomStrategy();
+        }
+
+
+        @Override
+        public boolean supports(NimRules rules)
+        {
+            // Random moves of 1 or 2 are fine whichever player takes the last marble.
+            return rules.withMisere(false).equals(NimRules.STANDARD);
+        }
+    }
+
+
+    /**
+     *  Provides the <code>ModuloStrategy</code>.
+     */
+    public static class Modulo implements StrategyProvider
+    {
+        @Override
+        public String getName()
+        {
+            return "Modulo";
+        }
+
+
+        @Override
+        public String getKey()
+        {
+            return "M";
+        }
+
+
+        @Override
+        public GameMode getDifficulty()
+        {
+            return GameMode.MEDIUM;
+        }
+
+
+        @Override
+        public boolean isThreadSafe()
+        {
+            return true;
+        }
+
+
+        @Override
+        public boolean isStateless()
+        {
+            return true;
+        }
+
+
+        @Override
+        public MoveStrategy create()
+        {
+            return new ModuloStrategy();
+        }
+    }
+
+
+    /**
+     *  Provides the <code>PreDefinedStrategy</code>, which is "Your Strategy" in the CLI.
+     */
+    public static class PreDefined implements StrategyProvider
+    {
+        @Override
+        public String getName()
+        {
+            return "PreDefined";
+        }
+
+
+        @Override
+        public String getKey()
+        {
+            return "Y";
+        }
+
+
+        @Override
+        public GameMode getDifficulty()
+        {
+            return GameMode.HARD;
+        }
+
+
+        @Override
+        public boolean isThreadSafe()
+        {
+            return true;
+        }
+
+
+        @Override
+        public boolean isStateless()
+        {
+            return true;
+        }
+
+
+        @Override
+        public MoveStrategy create()
+        {
+            return new PreDefinedStrategy();
+        }
+    }
+
+
+    /**
+     *  Provides the <code>OptimalStrategy</code>.
+     */
+    public static class Optimal implements StrategyProvider
+    {
+        @Override
+        public String getName()
+        {
+            return "Optimal";
+        }
+
+
+        @Override
+        public String getKey()
+        {
+            return "O";
+        }
+
+
+        @Override
+        public GameMode getDifficulty()
+        {
+            return GameMode.HARD;
+        }
+
+
+        @Override
+        public boolean isThreadSafe()
+        {
+            return true;
+        }
+
+
+        @Override
+        public boolean isStateless()
+        {
+            return true;
+        }
+
+
+        @Override
+        public MoveStrategy create()
+        {
+            return new OptimalStrategy();
+        }
+
+
+        @Override
+        public MoveStrategy create(NimRules rules)
+        {
+            return new OptimalStrategy(rules.isMisere());
+        }
+
+
+        @Override
+        public boolean supports(NimRules rules)
+        {
+            // Only the moves of 1 and 2 are known, in either normal or misère play.
+            return rules.withMisere(false).equals(NimRules.STANDARD);
+        }
+    }
+
+
+    /**
+     *  Provides a <code>LearnedStrategy</code>. The table is loaded from the file
+     *  named by <code>-Dnim.learned</code>, or else trained when the strategy is created.
+     */
+    public static class Learned implements StrategyProvider
+    {
+        @Override
+        public String getName()
+        {
+            return "Learned";
+        }
+
+
+        @Override
+        public String getKey()
+        {
+            return "L";
+        }
+
+
+        @Override
+        public GameMode getDifficulty()
+        {
+            return GameMode.HARD;
+        }
+
+
+        @Override
+        public boolean isThreadSafe()
+        {
+            return true;
+        }
+
+
+        @Override
+        public boolean isStateless()
+        {
+            return true;
+        }
+
+
+        @Override
+        public MoveStrategy create()
+        {
+            return create(NimRules.STANDARD);
+        }
+
+
+        @Override
+        public MoveStrategy create(NimRules rules)
+        {
+            String path = System.getProperty("nim.learned");
+
+            if (path != null)
+            {
+                try
+                {
+                    LearnedStrategy learned = LearnedStrategy.load(Paths.get(path));
+
+                    // A saved table is only used for the rules it was learnt under.
+                    if (learned.getRules().equals(rules))
+                    {
+                        return learned;
+                    }
+                }
+                catch (IOException error)
+                {
+                    System.out.println("An error occurred while loading the learned strategy:");
+                    throw new RuntimeException(error);
+                }
+            }
+
+            return train(rules);
+        }
+
+
+        /**
+         *  Train a table for a set of rules.
+         *
+         *  @param rules The rules being played.
+         *  @return The strategy.
+         */
+        private static MoveStrategy train(NimRules rules)
+        {
+            // Training on one thread with a fixed seed always gives the same table.
+            QLearningTrainer trainer = new QLearningTrainer(rules, 100);
+            trainer.train(100_000, 1, 1);
+            return trainer.toStrategy();
+        }
+
+
+        @Override
+        public boolean supports(NimRules rules)
+        {
+            return true;
+        }
+    }
+
+
+    /**
+     *  Provides the <code>MCTSStrategy</code>, with its default budget.
+     */
+    public static class MCTS implements StrategyProvider
+    {
+        @Override
+        public String getName()
+        {
+            return "MCTS";
+        }
+
+
+        @Override
+        public String getKey()
+        {
+            return "C";
+        }
+
+
+        @Override
+        public GameMode getDifficulty()
+        {
+            return GameMode.HARD;
+        }
+
+
+        @Override
+        public boolean isThreadSafe()
+        {
+            return false;
+        }
+
+
+        @Override
+        public boolean isStateless()
+        {
+            return false;
+        }
+
+
+        @Override
+        public MoveStrategy create()
+        {
+            return new MCTSStrategy();
+        }
+
+
+        @Override
+        public MoveStrategy create(NimRules rules)
+        {
+            return new MCTSStrategy(rules, 1000, 0, 1);
+        }
+
+
+        @Override
+        public boolean supports(NimRules rules)
+        {
+            return true;
+        }
+    }
+
+
+    /**
+     *  Provides the <code>AdaptiveStrategy</code>. It learns a single opponent,
+     *  so each game gets its own.
+     */
+    public static class Adaptive implements StrategyProvider
+    {
+        @Override
+        public String getName()
+        {
+            return "Adaptive";
+        }
+
+
+        @Override
+        public String getKey()
+        {
+            return "A";
+        }
+
+
+        @Override
+        public GameMode getDifficulty()
+        {
+            return GameMode.HARD;
+        }
+
+
+        @Override
+        public boolean isThreadSafe()
+        {
+            return false;
+        }
+
+
+        @Override
+        public boolean isStateless()
+        {
+            return false;
+        }
+
+
+        @Override
+        public MoveStrategy create()
+        {
+            return new AdaptiveStrategy();
+        }
+
+
+        @Override
+        public MoveStrategy create(NimRules rules)
+        {
+            return new AdaptiveStrategy(rules.isMisere());
+        }
+
+
+        @Override
+        public boolean supports(NimRules rules)
+        {
+            // Only the moves of 1 and 2 are known, in either normal or misère play.
+            return rules.withMisere(false).equals(NimRules.STANDARD);
+        }
+    }
+
+
+    /**
+     *  Provides the <code>AnytimeSearchStrategy</code>, with its default time budget.
+     */
+    public static class Anytime implements StrategyProvider
+    {
+        @Override
+        public String getName()
+        {
+            return "Anytime";
+        }
+
+
+        @Override
+        public String getKey()
+        {
+            return "T";
+        }
+
+
+        @Override
+        public GameMode getDifficulty()
+        {
+            return GameMode.HARD;
+        }
+
+
+        @Override
+        public boolean isThreadSafe()
+        {
+            return false;
+        }
+
+
+        @Override
+        public boolean isStateless()
+        {
+            return false;
+        }
+
+
+        @Override
+        public MoveStrategy create()
+        {
+            return new AnytimeSearchStrategy();
+        }
+
+
+        @Override
+        public MoveStrategy create(NimRules rules)
+        {
+            return new AnytimeSearchStrategy(rules, AnytimeSearchStrategy.DEFAULT_BUDGET_NANOS, AnytimeSearchStrategy.DEFAULT_MAX_DEPTH);
+        }
+
+
+        @Override
+        public boolean supports(NimRules rules)
+        {
+            return true;
+        }
+    }
+
+
+    /**
+     *  Provides a <code>TablebaseStrategy</code>. The tablebase is mapped from the
+     *  file named by <code>-Dnim.tablebase</code>, or else generated when the
+     *  strategy is created.
+     */
+    public static class Tablebase implements StrategyProvider
+    {
+        @Override
+        public String getName()
+        {
+            return "Tablebase";
+        }
+
+
+        @Override
+        public String getKey()
+        {
+            return "B";
+        }
+
+
+        @Override
+        public GameMode getDifficulty()
+        {
+            return GameMode.HARD;
+        }
+
+
+        @Override
+        public boolean isThreadSafe()
+        {
+            return true;
+        }
+
+
+        @Override
+        public boolean isStateless()
+        {
+            return true;
+        }
+
+
+        @Override
+        public MoveStrategy create()
+        {
+            return create(NimRules.STANDARD);
+        }
+
+
+        @Override
+        public MoveStrategy create(NimRules rules)
+        {
+            String path = System.getProperty("nim.tablebase");
+
+            if (path != null)
+            {
+                try
+                {
+                    org.keglez.Tablebase tablebase = org.keglez.Tablebase.load(Paths.get(path));
+
+                    // A saved tablebase is only used for the rules it was generated for.
+                    if (tablebase.getRules().equals(rules))
+                    {
+                        return new TablebaseStrategy(tablebase);
+                    }
+                }
+                catch (IOException error)
+                {
+                    System.out.println("An error occurred while loading the tablebase:");
+                    throw new RuntimeException(error);
+                }
+            }
+
+            return new TablebaseStrategy(org.keglez.Tablebase.generate(rules, 1, 100_000));
+        }
+
+
+        @Override
+        public boolean supports(NimRules rules)
+        {
+            return true;
+        }
+    }
+}
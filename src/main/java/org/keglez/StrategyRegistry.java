@@ -0,0 +1,282 @@
+package org.keglez;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ *  This class holds every computer strategy which can be played against. The
+ *  strategies are discovered with <code>ServiceLoader</code>, so new ones can
+ *  be added from a jar on the class path without recompiling the game.
+ *
+ *  Lookups by name, CLI key and game mode are all hash map lookups. Stateless
+ *  strategies are only created once for each set of rules, the first time
+ *  they are asked for, and the same instance is handed out to every caller.
+ *  Some strategies, such as a generated tablebase, are slow to create, so
+ *  nothing is created until it is needed, and switching rules only pays once.
+ *
+ *  Setting <code>-Dnim.warmup=true</code> plays every strategy through a range
+ *  of pile sizes when the registry is first loaded, under both the standard and
+ *  misère rules, so that they are already created and compiled before the
+ *  first game.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+public class StrategyRegistry
+{
+    // Number of moves made by each strategy when warming up.
+    private static final int WARM_UP_MOVES = 100_000;
+
+    // Class attributes.
+    private final List<StrategyProvider> providers = new ArrayList<>();
+    private final Map<String, StrategyProvider> byName = new HashMap<>();
+    private final Map<String, StrategyProvider> byKey = new HashMap<>();
+    private final Map<GameMode, List<StrategyProvider>> byDifficulty = new EnumMap<>(GameMode.class);
+    private final Map<NimRules, Map<String, MoveStrategy>> singletons = new ConcurrentHashMap<>();
+
+
+    /**
+     *  Construct a new registry from a set of providers. If two providers share
+     *  a name, the first one is kept.
+     *
+     *  @param providers The strategy providers.
+     */
+    public StrategyRegistry(Iterable<StrategyProvider> providers)
+    {
+        for (StrategyProvider provider : providers)
+        {
+            String name = provider.getName().toLowerCase();
+
+            if (byName.containsKey(name))
+            {
+                System.out.println("Ignoring duplicate strategy: " + provider.getName());
+                continue;
+            }
+
+            this.providers.add(provider);
+            byName.put(name, provider);
+            byKey.putIfAbsent(provider.getKey().toUpperCase(), provider);
+            byDifficulty.computeIfAbsent(provider.getDifficulty(), difficulty -> new ArrayList<>()).add(provider);
+        }
+    }
+
+
+    /**
+     *  Get the registry of every strategy on the class path.
+     *
+     *  @return The registry.
+     */
+    public static StrategyRegistry getInstance()
+    {
+        return Holder.INSTANCE;
+    }
+
+
+    /**
+     *  Get a strategy for the standard rules by name, ignoring case.
+     *
+     *  @param name The strategy name.
+     *  @return The strategy, or <code>null</code> if there is no strategy with the name.
+     */
+    public MoveStrategy get(String name)
+    {
+        return get(name, NimRules.STANDARD);
+    }
+
+
+    /**
+     *  Get a strategy for a set of rules by name, ignoring case.
+     *
+     *  @param name The strategy name.
+     *  @param rules The rules being played.
+     *  @return The strategy, or <code>null</code> if there is no strategy with the name.
+     */
+    public MoveStrategy get(String name, NimRules rules)
+    {
+        String lower = name.toLowerCase();
+        StrategyProvider provider = byName.get(lower);
+
+        if (provider == null)
+        {
+            return null;
+        }
+
+        if (!provider.isStateless())
+        {
+            return provider.create(rules);
+        }
+
+        return singletons.computeIfAbsent(rules, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(lower, key -> provider.create(rules));
+    }
+
+
+    /**
+     *  Get a strategy provider by name, ignoring case.
+     *
+     *  @param name The strategy name.
+     *  @return The provider, or <code>null</code> if there is no strategy with the name.
+     */
+    public StrategyProvider getProvider(String name)
+    {
+        return byName.get(name.toLowerCase());
+    }
+
+
+    /**
+     *  Get a strategy provider by its CLI key, ignoring case.
+     *
+     *  @param key The menu key.
+     *  @return The provider, or <code>null</code> if no strategy uses the key.
+     */
+    public StrategyProvider getProviderByKey(String key)
+    {
+        return byKey.get(key.toUpperCase());
+    }
+
+
+    /**
+     *  Get the first strategy provider for a game mode.
+     *
+     *  @param difficulty The game mode.
+     *  @return The provider, or <code>null</code> if no strategy suits the game mode.
+     */
+    public StrategyProvider getProvider(GameMode difficulty)
+    {
+        List<StrategyProvider> providers = getProviders(difficulty);
+        return providers.isEmpty() ? null : providers.getFirst();
+    }
+
+
+    /**
+     *  Get every strategy provider for a game mode, in the order they were found.
+     *
+     *  @param difficulty The game mode.
+     *  @return List of providers, which is empty if no strategy suits the game mode.
+     */
+    public List<StrategyProvider> getProviders(GameMode difficulty)
+    {
+        return Collections.unmodifiableList(byDifficulty.getOrDefault(difficulty, List.of()));
+    }
+
+
+    /**
+     *  Get a strategy provider which plays correctly under a set of rules. The
+     *  preferred provider is used if it can, or else the first that can from the
+     *  same game mode, then from harder game modes, then from easier ones.
+     *
+     *  @param preferred The provider that was chosen.
+     *  @param rules The rules being played.
+     *  @return The provider, or <code>null</code> if no strategy supports the rules.
+     */
+    public StrategyProvider getProviderFor(StrategyProvider preferred, NimRules rules)
+    {
+        if (preferred.supports(rules))
+        {
+            return preferred;
+        }
+
+        GameMode[] modes = GameMode.values();
+        int difficulty = preferred.getDifficulty().ordinal();
+        List<GameMode> order = new ArrayList<>();
+
+        for (int i = difficulty; i < modes.length; i++)
+        {
+            order.add(modes[i]);
+        }
+
+        for (int i = difficulty - 1; i >= 0; i--)
+        {
+            order.add(modes[i]);
+        }
+
+        for (GameMode mode : order)
+        {
+            for (StrategyProvider provider : getProviders(mode))
+            {
+                if (provider.supports(rules))
+                {
+                    return provider;
+                }
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     *  Get every strategy provider, in the order they were found.
+     *
+     *  @return List of providers.
+     */
+    public List<StrategyProvider> getProviders()
+    {
+        return Collections.unmodifiableList(providers);
+    }
+
+
+    /**
+     *  Play every strategy through a range of pile sizes, so the JIT compiles
+     *  their moves before a game starts.
+     */
+    public void warmUp()
+    {
+        int checksum = 0;
+
+        for (NimRules rules : new NimRules[]{NimRules.STANDARD, NimRules.MISERE})
+        {
+            for (StrategyProvider provider : providers)
+            {
+                MoveStrategy strategy = get(provider.getName(), rules);
+
+                for (int i = 0; i < WARM_UP_MOVES; i++)
+                {
+                    checksum += strategy.NextMove(i % 10 + 1);
+                }
+            }
+        }
+
+        // Use the result, so the moves can't be optimised away.
+        if (checksum == 0)
+        {
+            System.out.println("Strategies warmed up without making any moves.");
+        }
+    }
+
+
+    /**
+     *  This inner class loads the registry the first time it is used.
+     */
+    private static class Holder
+    {
+        private static final StrategyRegistry INSTANCE = load();
+
+
+        /**
+         *  Load every strategy on the class path.
+         *
+         *  @return The registry.
+         */
+        private static StrategyRegistry load()
+        {
+            try
+            {
+                StrategyRegistry registry = new StrategyRegistry(ServiceLoader.load(StrategyProvider.class));
+
+                if (Boolean.getBoolean("nim.warmup"))
+                {
+                    registry.warmUp();
+                }
+
+                return registry;
+            }
+            catch (ServiceConfigurationError error)
+            {
+                System.out.println("An error occurred while loading the strategies:");
+                throw new RuntimeException(error);
+            }
+        }
+    }
+}
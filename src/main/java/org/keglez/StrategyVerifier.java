@@ -0,0 +1,309 @@
+package org.keglez;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ *  This class checks what a strategy really does against
+ *  <code>NimSolver</code>. For every pile in a range it looks at the
+ *  strategy's moves and records:
+ *
+ *  <ul>
+ *      <li>Blunders, where the pile was won but the move hands the win to the opponent.</li>
+ *      <li>Illegal moves, such as 0 or more than the pile.</li>
+ *      <li>The strategy's win rate from the pile, moving first against perfect play.</li>
+ *  </ul>
+ *
+ *  A strategy's moves are taken as it returns them, without the correction
+ *  <code>NimGame</code> makes, so an illegal move counts as a forfeit.
+ *
+ *  Piles are split between the cores, and each core creates its own instance
+ *  of the strategy, seeded from the verifier's seed, so results can be
+ *  reproduced.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+public class StrategyVerifier
+{
+    // Class attributes.
+    private final NimSolver solver;
+    private final int maxPile;
+    private final int samples;
+    private final long seed;
+
+
+    /**
+     *  Construct a new verifier.
+     *
+     *  @param rules The rules to verify against.
+     *  @param maxPile The largest pile checked.
+     *  @param samples The moves and games sampled from each pile. Deterministic strategies only need 1.
+     *  @param seed The seed for random strategies.
+     */
+    public StrategyVerifier(NimRules rules, int maxPile, int samples, long seed)
+    {
+        if (maxPile < 1 || samples < 1)
+        {
+            throw new IllegalArgumentException("The largest pile and the samples must be above 0");
+        }
+
+        this.solver = NimSolver.forRules(rules);
+        this.maxPile = maxPile;
+        this.samples = samples;
+        this.seed = seed;
+    }
+
+
+    /**
+     *  Verify a strategy over every pile from 1 to the largest pile.
+     *
+     *  @param strategy A supplier of new instances of the strategy.
+     *  @return The report.
+     */
+    public Report verify(Supplier<MoveStrategy> strategy)
+    {
+        long[] blunders = new long[maxPile + 1];
+        long[] illegal = new long[maxPile + 1];
+        long[] wins = new long[maxPile + 1];
+
+        // Solve the whole range up front, so the tasks only read.
+        solver.isWin(maxPile);
+
+        int chunks = Math.min(maxPile, Runtime.getRuntime().availableProcessors());
+        long[] seeds = new SplittableRandom(seed).longs(chunks).toArray();
+
+        IntStream.range(0, chunks)
+                .parallel()
+                .forEach(chunk ->
+                {
+                    MoveStrategy instance = strategy.get().withSeed(seeds[chunk]);
+
+                    // A deterministic strategy does the same every time, so one sample stands for all.
+                    int runs = instance.isDeterministic() ? 1 : samples;
+                    int weight = samples / runs;
+
+                    for (int pile = chunk + 1; pile <= maxPile; pile += chunks)
+                    {
+                        for (int run = 0; run < runs; run++)
+                        {
+                            int move = instance.NextMove(pile);
+
+                            if (!solver.getRules().isLegal(pile, move))
+                            {
+                                illegal[pile] += weight;
+                            }
+                            else if (solver.isBlunder(pile, move))
+                            {
+                                blunders[pile] += weight;
+                            }
+
+                            wins[pile] += playGame(instance, pile) ? weight : 0;
+                        }
+                    }
+                });
+
+        return new Report(solver, samples, blunders, illegal, wins);
+    }
+
+
+    /**
+     *  Play a single game, with the strategy moving first against perfect play.
+     *
+     *  @param strategy The strategy.
+     *  @param pile The starting pile.
+     *  @return Whether the strategy won.
+     */
+    private boolean playGame(MoveStrategy strategy, int pile)
+    {
+        NimRules rules = solver.getRules();
+        boolean strategyToMove = true;
+
+        // The player who can't move loses, unless it's misère play.
+        while (rules.getLegalMoveCount(pile) > 0)
+        {
+            int move = strategyToMove ? strategy.NextMove(pile) : solver.getBestMove(pile);
+
+            if (!rules.isLegal(pile, move))
+            {
+                return !strategyToMove;
+            }
+
+            pile -= move;
+            strategyToMove = !strategyToMove;
+        }
+
+        return rules.isMisere() == strategyToMove;
+    }
+
+
+    /**
+     *  This class holds what a verifier found for one strategy.
+     */
+    public static class Report
+    {
+        // Class attributes.
+        private final NimSolver solver;
+        private final int samples;
+        private final long[] blunders;
+        private final long[] illegal;
+        private final long[] wins;
+
+
+        /**
+         *  Construct a new report.
+         *
+         *  @param solver The solver the strategy was checked against.
+         *  @param samples The moves and games sampled from each pile.
+         *  @param blunders The blunders from each pile.
+         *  @param illegal The illegal moves from each pile.
+         *  @param wins The games won from each pile.
+         */
+        private Report(NimSolver solver, int samples, long[] blunders, long[] illegal, long[] wins)
+        {
+            this.solver = solver;
+            this.samples = samples;
+            this.blunders = blunders;
+            this.illegal = illegal;
+            this.wins = wins;
+        }
+
+
+        /**
+         *  Get the piles the strategy blundered from at least once.
+         *
+         *  @return Piles, smallest first.
+         */
+        public int[] getBlunderPiles()
+        {
+            return IntStream.range(1, blunders.length).filter(pile -> blunders[pile] > 0).toArray();
+        }
+
+
+        /**
+         *  Get the piles the strategy made an illegal move from at least once.
+         *
+         *  @return Piles, smallest first.
+         */
+        public int[] getIllegalPiles()
+        {
+            return IntStream.range(1, illegal.length).filter(pile -> illegal[pile] > 0).toArray();
+        }
+
+
+        /**
+         *  Get the share of moves from a pile which were blunders.
+         *
+         *  @param pile The pile.
+         *  @return Blunder rate, between 0 and 1.
+         */
+        public double getBlunderRate(int pile)
+        {
+            return (double) blunders[pile] / samples;
+        }
+
+
+        /**
+         *  Get the share of games the strategy won from a pile, moving first against perfect play.
+         *
+         *  @param pile The starting pile.
+         *  @return Win rate, between 0 and 1.
+         */
+        public double getWinRate(int pile)
+        {
+            return (double) wins[pile] / samples;
+        }
+
+
+        /**
+         *  Get the share of won piles the strategy went on to win, which is 1 for perfect play.
+         *
+         *  @return Accuracy, between 0 and 1.
+         */
+        public double getAccuracy()
+        {
+            long won = 0;
+            long winnable = 0;
+
+            for (int pile = 1; pile < wins.length; pile++)
+            {
+                if (solver.isWin(pile))
+                {
+                    won += wins[pile];
+                    winnable += samples;
+                }
+            }
+
+            return winnable == 0 ? 1 : (double) won / winnable;
+        }
+
+
+        /**
+         *  Print the report.
+         *
+         *  @param name The strategy name.
+         *  @param out The stream to print to.
+         */
+        public void print(String name, PrintStream out)
+        {
+            out.printf("%s: %.1f%% of won piles converted%n", name, 100 * getAccuracy());
+            out.println("  Blunders from piles: " + summarise(getBlunderPiles()));
+            out.println("  Illegal moves from piles: " + summarise(getIllegalPiles()));
+
+            StringBuilder rates = new StringBuilder();
+
+            for (int pile = 1; pile < Math.min(wins.length, 21); pile++)
+            {
+                rates.append(String.format(" %d:%.2f", pile, getWinRate(pile)));
+            }
+
+            out.println("  Win rate from piles:" + rates + (wins.length > 21 ? " ..." : ""));
+        }
+
+
+        /**
+         *  Shorten a long list of piles for printing.
+         *
+         *  @param piles The piles.
+         *  @return The first 20 piles, and how many more there are.
+         */
+        private static String summarise(int[] piles)
+        {
+            if (piles.length == 0)
+            {
+                return "none";
+            }
+
+            String shown = Arrays.toString(Arrays.copyOf(piles, Math.min(piles.length, 20)));
+            return piles.length > 20 ? shown + " and " + (piles.length - 20) + " more" : shown;
+        }
+    }
+
+
+    /**
+     *  Verify every registered strategy under the standard rules, and print the reports.
+     *
+     *  @param args Optionally, the largest pile, the samples from each pile, then the seed.
+     */
+    public static void main(String[] args)
+    {
+        int maxPile = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        int samples = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 1;
+
+        StrategyVerifier verifier = new StrategyVerifier(NimRules.STANDARD, maxPile, samples, seed);
+
+        for (StrategyProvider provider : StrategyRegistry.getInstance().getProviders())
+        {
+            long start = System.nanoTime();
+            Report report = verifier.verify(provider::create);
+
+            report.print(provider.getName(), System.out);
+            System.out.println("  Verified in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        }
+    }
+}
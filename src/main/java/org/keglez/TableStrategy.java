@@ -0,0 +1,93 @@
+package org.keglez;
+
+import java.util.Arrays;
+
+/**
+ *  This class represents a strategy which looks its moves up in a table, in the
+ *  same way as <code>PreDefinedStrategy</code>, but for any range of piles.
+ *  Entry <code>i</code> of the table is the move from a pile of
+ *  <code>i + 1</code>. Larger piles than the table covers take 1, and an empty
+ *  pile takes 0.
+ *
+ *  Tables are made by <code>GeneticOptimizer</code>, and never change, so one
+ *  instance can be shared by any number of threads.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+public class TableStrategy implements MoveStrategy
+{
+    // Class attributes.
+    private final byte[] table;
+
+
+    /**
+     *  Construct a new table strategy.
+     *
+     *  @param table The move from each pile, starting at a pile of 1. The array is copied.
+     */
+    public TableStrategy(byte[] table)
+    {
+        this.table = table.clone();
+    }
+
+
+    /**
+     * Look the move up in the table.
+     *
+     * @param currentPile The total number of match sticks left.
+     * @return The number of match sticks to remove.
+     */
+    @Override
+    public int NextMove(int currentPile)
+    {
+        if (currentPile <= 0)
+        {
+            return 0;
+        }
+
+        return currentPile <= table.length ? table[currentPile - 1] : 1;
+    }
+
+
+    /**
+     * Get the largest pile in the table.
+     *
+     * @return Largest pile.
+     */
+    public int getMaxPile()
+    {
+        return table.length;
+    }
+
+
+    /**
+     * Get a copy of the table.
+     *
+     * @return The move from each pile, starting at a pile of 1.
+     */
+    public byte[] getTable()
+    {
+        return table.clone();
+    }
+
+
+    @Override
+    public String toString()
+    {
+        return "TableStrategy" + Arrays.toString(table);
+    }
+
+
+    /**
+     * The table never changes, so the move only depends on the pile.
+     *
+     * @return <code>true</code>
+     */
+    @Override
+    public boolean isDeterministic()
+    {
+        return true;
+    }
+}
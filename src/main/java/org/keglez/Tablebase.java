@@ -0,0 +1,573 @@
+package org.keglez;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.IntStream;
+
+/**
+ *  This class holds the solved result of every position of a variant, so the
+ *  best move is a lookup rather than a search. A variant is a set of
+ *  <code>NimRules</code> played on one or more piles: each move takes an
+ *  allowed number of match sticks from one pile, and the player who can't
+ *  move loses, or wins in misère play.
+ *
+ *  Tables are generated by retrograde analysis. Positions with no move are
+ *  lost, or won in misère play, then positions are solved in order of the
+ *  match sticks left, each from the positions it can move to. Every position
+ *  with the same number of match sticks only depends on smaller positions, so
+ *  each of these levels is solved in parallel.
+ *
+ *  Each position stores its result in 2 bits, 4 to a byte, and its distance:
+ *  the number of moves until the game ends when the winner wins as quickly and
+ *  the loser loses as slowly as possible. Distances are stored in 16 bits, and
+ *  longer ones are capped at 65535. Saved tables are memory-mapped, so
+ *  lookups read the file directly and the operating system decides which
+ *  parts stay in memory, with no cache of our own.
+ *
+ *  Tables never change once made, so one instance can be shared by any number
+ *  of threads.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+public class Tablebase
+{
+    // Results, in 2 bits.
+    public static final int WIN = 1;
+    public static final int LOSS = 2;
+
+    // The largest distance stored.
+    public static final int MAX_DISTANCE = 0xFFFF;
+
+    // The first bytes of a saved table, "NIMB".
+    private static final int MAGIC = 0x4E494D42;
+    private static final int FORMAT_VERSION = 2;
+
+    // Levels smaller than this are solved on one thread, as splitting them costs more than it saves.
+    private static final int PARALLEL_THRESHOLD = 4096;
+
+    // Class attributes.
+    private final NimRules rules;
+    private final int pileCount;
+    private final int maxPile;
+    private final int[] strides;
+    private final int positionCount;
+    private final ByteBuffer results;
+    private final ByteBuffer distances;
+
+
+    /**
+     *  Construct a new tablebase from its tables.
+     *
+     *  @param rules The rules of the variant.
+     *  @param pileCount The number of piles.
+     *  @param maxPile The largest pile.
+     *  @param results The 2 bit results, 4 positions to a byte.
+     *  @param distances The 16 bit distances.
+     */
+    private Tablebase(NimRules rules, int pileCount, int maxPile, ByteBuffer results, ByteBuffer distances)
+    {
+        this.rules = rules;
+        this.pileCount = pileCount;
+        this.maxPile = maxPile;
+        this.strides = new int[pileCount];
+        this.positionCount = positionCount(pileCount, maxPile);
+        this.results = results;
+        this.distances = distances;
+
+        // Position indexes are the piles as digits, in base maxPile + 1, with the first pile lowest.
+        for (int pile = 0, stride = 1; pile < pileCount; pile++, stride *= maxPile + 1)
+        {
+            strides[pile] = stride;
+        }
+    }
+
+
+    /**
+     *  Work out the number of positions, checking the tables will fit.
+     *
+     *  @param pileCount The number of piles.
+     *  @param maxPile The largest pile.
+     *  @return Number of positions.
+     */
+    private static int positionCount(int pileCount, int maxPile)
+    {
+        if (pileCount < 1 || maxPile < 0)
+        {
+            throw new IllegalArgumentException("There must be at least one pile");
+        }
+
+        long count = 1;
+
+        for (int pile = 0; pile < pileCount; pile++)
+        {
+            count *= maxPile + 1;
+
+            // The distances take 2 bytes a position, in a single buffer.
+            if (count > Integer.MAX_VALUE / 2)
+            {
+                throw new IllegalArgumentException("The tablebase would be too large");
+            }
+        }
+
+        return (int) count;
+    }
+
+
+    /**
+     *  Generate a tablebase.
+     *
+     *  @param rules The rules of the variant.
+     *  @param pileCount The number of piles.
+     *  @param maxPile The largest pile.
+     *  @return The tablebase.
+     */
+    public static Tablebase generate(NimRules rules, int pileCount, int maxPile)
+    {
+        int count = positionCount(pileCount, maxPile);
+        Tablebase tablebase = new Tablebase(rules, pileCount, maxPile,
+                ByteBuffer.allocate((count + 3) / 4), ByteBuffer.allocate(2 * count).order(ByteOrder.LITTLE_ENDIAN));
+
+        tablebase.solve();
+        return tablebase;
+    }
+
+
+    /**
+     *  Solve every position, one level of match sticks at a time.
+     */
+    private void solve()
+    {
+        int levels = pileCount * maxPile + 1;
+
+        // Sort the positions by the match sticks left, with a counting sort.
+        int[] levelStart = new int[levels + 1];
+
+        for (int index = 0; index < positionCount; index++)
+        {
+            levelStart[sticks(index) + 1]++;
+        }
+
+        for (int level = 0; level < levels; level++)
+        {
+            levelStart[level + 1] += levelStart[level];
+        }
+
+        int[] order = new int[positionCount];
+        int[] next = levelStart.clone();
+
+        for (int index = 0; index < positionCount; index++)
+        {
+            order[next[sticks(index)]++] = index;
+        }
+
+        // The result in the low 2 bits and the distance above, so each position is one write.
+        int[] solved = new int[positionCount];
+
+        for (int level = 0; level < levels; level++)
+        {
+            IntStream positions = IntStream.range(levelStart[level], levelStart[level + 1]);
+
+            if (levelStart[level + 1] - levelStart[level] >= PARALLEL_THRESHOLD)
+            {
+                positions = positions.parallel();
+            }
+
+            positions.forEach(i -> solved[order[i]] = solvePosition(order[i], solved));
+        }
+
+        // Pack each byte's 4 results together, so no two threads write to the same byte.
+        IntStream.range(0, results.capacity())
+                .parallel()
+                .forEach(i ->
+                {
+                    int packed = 0;
+
+                    for (int j = 0; j < 4 && 4 * i + j < positionCount; j++)
+                    {
+                        packed |= (solved[4 * i + j] & 3) << (2 * j);
+                    }
+
+                    results.put(i, (byte) packed);
+                });
+
+        IntStream.range(0, positionCount)
+                .parallel()
+                .forEach(i -> distances.putShort(2 * i, (short) Math.min(solved[i] >>> 2, MAX_DISTANCE)));
+    }
+
+
+    /**
+     *  Solve a position from the positions it can move to, which are all solved.
+     *  The winner picks the quickest win, and the loser the slowest loss.
+     *
+     *  @param index The position.
+     *  @param solved The results and distances so far.
+     *  @return The result in the low 2 bits, and the distance above.
+     */
+    private int solvePosition(int index, int[] solved)
+    {
+        int quickestWin = Integer.MAX_VALUE;
+        int slowestLoss = 0;
+
+        for (int pile = 0; pile < pileCount; pile++)
+        {
+            int sticks = getPile(index, pile);
+            int legal = rules.getLegalMoveCount(sticks);
+
+            for (int i = 0; i < legal; i++)
+            {
+                int child = solved[index - rules.getMove(i) * strides[pile]];
+                int distance = (child >>> 2) + 1;
+
+                if ((child & 3) == LOSS)
+                {
+                    quickestWin = Math.min(quickestWin, distance);
+                }
+                else
+                {
+                    slowestLoss = Math.max(slowestLoss, distance);
+                }
+            }
+        }
+
+        // A position with no moves is over straight away, and only won in misère play.
+        if (quickestWin == Integer.MAX_VALUE && slowestLoss == 0 && rules.isMisere())
+        {
+            return WIN;
+        }
+
+        return quickestWin != Integer.MAX_VALUE ? (quickestWin << 2) | WIN : (slowestLoss << 2) | LOSS;
+    }
+
+
+    /**
+     *  Get the index of a position.
+     *
+     *  @param piles The match sticks in each pile.
+     *  @return Index.
+     */
+    public int index(int... piles)
+    {
+        if (piles.length != pileCount)
+        {
+            throw new IllegalArgumentException("Expected " + pileCount + " piles");
+        }
+
+        int index = 0;
+
+        for (int pile = 0; pile < pileCount; pile++)
+        {
+            if (piles[pile] < 0 || piles[pile] > maxPile)
+            {
+                throw new IllegalArgumentException("A pile is outside the tablebase: " + piles[pile]);
+            }
+
+            index += piles[pile] * strides[pile];
+        }
+
+        return index;
+    }
+
+
+    /**
+     *  Get the match sticks in one pile of a position.
+     *
+     *  @param index The position.
+     *  @param pile The pile.
+     *  @return Match sticks.
+     */
+    public int getPile(int index, int pile)
+    {
+        return index / strides[pile] % (maxPile + 1);
+    }
+
+
+    /**
+     *  Get the match sticks left in every pile of a position.
+     *
+     *  @param index The position.
+     *  @return Match sticks.
+     */
+    private int sticks(int index)
+    {
+        int total = 0;
+
+        for (int pile = 0; pile < pileCount; pile++)
+        {
+            total += getPile(index, pile);
+        }
+
+        return total;
+    }
+
+
+    /**
+     *  Get the result of a position, for the player to move.
+     *
+     *  @param index The position.
+     *  @return <code>WIN</code> or <code>LOSS</code>.
+     */
+    public int getResult(int index)
+    {
+        return (results.get(index >>> 2) >>> ((index & 3) << 1)) & 3;
+    }
+
+
+    /**
+     *  Get the number of moves left in a position with perfect play.
+     *
+     *  @param index The position.
+     *  @return Distance, capped at <code>MAX_DISTANCE</code>.
+     */
+    public int getDistance(int index)
+    {
+        return distances.getShort(2 * index) & 0xFFFF;
+    }
+
+
+    /**
+     *  Find the best move from a position: the quickest win, or else the slowest loss.
+     *
+     *  @param index The position.
+     *  @return The pile to take from and the match sticks to take, or <code>null</code> if no move can be made.
+     */
+    public int[] getBestMove(int index)
+    {
+        long best = findBestMove(index);
+        return best < 0 ? null : new int[]{(int) (best >>> 32), (int) best};
+    }
+
+
+    /**
+     *  Find the number of match sticks the best move from a position takes,
+     *  without allocating. Used when there is only one pile to take from.
+     *
+     *  @param index The position.
+     *  @return The match sticks to take, or 0 if no move can be made.
+     */
+    public int getBestMoveAmount(int index)
+    {
+        long best = findBestMove(index);
+        return best < 0 ? 0 : (int) best;
+    }
+
+
+    /**
+     *  Find the best move from a position, packed into a <code>long</code>.
+     *
+     *  @param index The position.
+     *  @return The pile to take from in the high 32 bits and the match sticks to take in the low 32, or -1 if no move can be made.
+     */
+    private long findBestMove(int index)
+    {
+        long best = -1;
+        boolean bestWins = false;
+        int bestDistance = 0;
+
+        for (int pile = 0; pile < pileCount; pile++)
+        {
+            int legal = rules.getLegalMoveCount(getPile(index, pile));
+
+            for (int i = 0; i < legal; i++)
+            {
+                int child = index - rules.getMove(i) * strides[pile];
+                boolean wins = getResult(child) == LOSS;
+                int distance = getDistance(child);
+
+                // A win beats a loss, then a quicker win or a slower loss.
+                boolean better = best < 0
+                        || (wins && !bestWins)
+                        || (wins == bestWins && (wins ? distance < bestDistance : distance > bestDistance));
+
+                if (better)
+                {
+                    best = (long) pile << 32 | rules.getMove(i);
+                    bestWins = wins;
+                    bestDistance = distance;
+                }
+            }
+        }
+
+        return best;
+    }
+
+
+    /**
+     *  Get the rules of the variant.
+     *
+     *  @return Rules.
+     */
+    public NimRules getRules()
+    {
+        return rules;
+    }
+
+
+    /**
+     *  Get the number of piles.
+     *
+     *  @return Number of piles.
+     */
+    public int getPileCount()
+    {
+        return pileCount;
+    }
+
+
+    /**
+     *  Get the largest pile.
+     *
+     *  @return Largest pile.
+     */
+    public int getMaxPile()
+    {
+        return maxPile;
+    }
+
+
+    /**
+     *  Get the number of positions.
+     *
+     *  @return Number of positions.
+     */
+    public int getPositionCount()
+    {
+        return positionCount;
+    }
+
+
+    /**
+     *  Save the tablebase to a file.
+     *
+     *  @param path The file to write.
+     *  @throws IOException An issue writing the file.
+     */
+    public void save(Path path) throws IOException
+    {
+        int[] moves = rules.getMoves();
+        ByteBuffer header = ByteBuffer.allocate(24 + 4 * moves.length).order(ByteOrder.LITTLE_ENDIAN);
+
+        header.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(pileCount).putInt(maxPile)
+                .putInt(rules.isMisere() ? 1 : 0).putInt(moves.length);
+
+        for (int move : moves)
+        {
+            header.putInt(move);
+        }
+
+        header.flip();
+
+        // Duplicate, so saving doesn't move buffers other threads are reading.
+        ByteBuffer[] buffers = {header, results.duplicate().clear(), distances.duplicate().clear()};
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING))
+        {
+            while (buffers[2].hasRemaining())
+            {
+                channel.write(buffers);
+            }
+        }
+    }
+
+
+    /**
+     *  Map a tablebase saved by <code>save</code> into memory. Tables saved
+     *  before misère play was added have no misère flag, and use normal play.
+     *
+     *  @param path The file to map.
+     *  @return The tablebase.
+     *  @throws IOException An issue reading the file, or the file is not a saved tablebase.
+     */
+    public static Tablebase load(Path path) throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+        {
+            // The mapping stays valid after the channel is closed.
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+
+            if (buffer.limit() < 24 || buffer.getInt(0) != MAGIC || buffer.getInt(4) < 1 || buffer.getInt(4) > FORMAT_VERSION)
+            {
+                throw new IOException("Not a saved tablebase: " + path);
+            }
+
+            // Version 1 had no misère flag before the move count.
+            boolean flagged = buffer.getInt(4) >= 2;
+            int movesStart = flagged ? 24 : 20;
+
+            int pileCount = buffer.getInt(8);
+            int maxPile = buffer.getInt(12);
+            boolean misere = flagged && buffer.getInt(16) != 0;
+            int moveCount = buffer.getInt(movesStart - 4);
+
+            // Check the move count against the file before allocating anything from it.
+            if (moveCount < 1 || moveCount > (buffer.limit() - movesStart) / 4)
+            {
+                throw new IOException("The saved tablebase is the wrong size: " + path);
+            }
+
+            int[] moves = new int[moveCount];
+
+            for (int i = 0; i < moves.length; i++)
+            {
+                moves[i] = buffer.getInt(movesStart + 4 * i);
+            }
+
+            try
+            {
+                int header = movesStart + 4 * moves.length;
+                int count = positionCount(pileCount, maxPile);
+                int resultSize = (count + 3) / 4;
+
+                if (buffer.limit() != header + resultSize + 2L * count)
+                {
+                    throw new IOException("The saved tablebase is the wrong size: " + path);
+                }
+
+                return new Tablebase(new NimRules(misere, moves), pileCount, maxPile,
+                        buffer.slice(header, resultSize),
+                        buffer.slice(header + resultSize, 2 * count).order(ByteOrder.LITTLE_ENDIAN));
+            }
+            catch (IllegalArgumentException error)
+            {
+                throw new IOException("The saved tablebase has an invalid header: " + path, error);
+            }
+        }
+    }
+
+
+    /**
+     *  Generate a tablebase for the standard moves, and save it.
+     *
+     *  @param args Optionally, the number of piles, the largest pile, the file to save to, and whether to use misère play.
+     */
+    public static void main(String[] args)
+    {
+        int pileCount = args.length > 0 ? Integer.parseInt(args[0]) : 1;
+        int maxPile = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+        boolean misere = args.length > 3 && Boolean.parseBoolean(args[3]);
+        Path path = Paths.get(args.length > 2 ? args[2] : misere ? "misere.nimb" : "standard.nimb");
+
+        try
+        {
+            long start = System.nanoTime();
+            Tablebase tablebase = generate(NimRules.STANDARD.withMisere(misere), pileCount, maxPile);
+            long generated = System.nanoTime();
+            tablebase.save(path);
+
+            System.out.println("Solved " + tablebase.getPositionCount() + " positions in "
+                    + (generated - start) / 1_000_000 + " ms, saved to " + path);
+        }
+        catch (IOException error)
+        {
+            System.out.println("An error occurred while saving the tablebase:");
+            throw new RuntimeException(error);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.keglez;
+
+/**
+ *  This class represents a strategy which plays from a single pile
+ *  <code>Tablebase</code>. It takes the quickest win when the pile is won, and
+ *  the slowest loss when it isn't, so it never needs to search. Piles larger
+ *  than the tablebase take the smallest move.
+ *
+ *  Moves are read straight from the tablebase, which may be memory-mapped, so
+ *  the strategy holds no state and can be shared by any number of threads.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+public class TablebaseStrategy implements MoveStrategy
+{
+    // Class attributes.
+    private final Tablebase tablebase;
+    private final NimRules rules;
+
+
+    /**
+     *  Construct a new tablebase strategy.
+     *
+     *  @param tablebase A tablebase for a single pile.
+     */
+    public TablebaseStrategy(Tablebase tablebase)
+    {
+        if (tablebase.getPileCount() != 1)
+        {
+            throw new IllegalArgumentException("The game is played on a single pile");
+        }
+
+        this.tablebase = tablebase;
+        this.rules = tablebase.getRules();
+    }
+
+
+    /**
+     * Look the best move up in the tablebase.
+     *
+     * @param currentPile The total number of match sticks left.
+     * @return The number of match sticks to remove, or 0 if no move can be made.
+     */
+    @Override
+    public int NextMove(int currentPile)
+    {
+        if (rules.getLegalMoveCount(currentPile) == 0)
+        {
+            return 0;
+        }
+
+        if (currentPile > tablebase.getMaxPile())
+        {
+            return rules.getMove(0);
+        }
+
+        return tablebase.getBestMoveAmount(currentPile);
+    }
+
+
+    /**
+     * The tablebase never changes, so the move only depends on the pile.
+     *
+     * @return <code>true</code>
+     */
+    @Override
+    public boolean isDeterministic()
+    {
+        return true;
+    }
+
+
+    /**
+     *  Get the tablebase being played from.
+     *
+     *  @return Tablebase.
+     */
+    public Tablebase getTablebase()
+    {
+        return tablebase;
+    }
+}
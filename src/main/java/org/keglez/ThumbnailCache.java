@@ -0,0 +1,246 @@
+package org.keglez;
+
+import javax.imageio.ImageIO;
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ *  This class provides small rendered thumbnails of saved games for the game
+ *  loader. Thumbnails are rendered off-screen from a <code>NimCanvas</code>, kept
+ *  in a size-bounded LRU memory cache, and also stored on disk so they survive
+ *  restarts.
+ *
+ *  Each thumbnail is keyed by its save ID and a SHA-256 hash of the save's
+ *  content, so a changed save is never shown with an out-of-date thumbnail,
+ *  even when a short hash of its content would have collided.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+public class ThumbnailCache
+{
+    // Thumbnail size, and the size of the canvas it is rendered from.
+    public static final int WIDTH = 100;
+    public static final int HEIGHT = 80;
+    private static final int CANVAS_WIDTH = 500;
+    private static final int CANVAS_HEIGHT = 400;
+
+    // Class attributes.
+    private final Path directory;
+    private final Map<String, BufferedImage> memory;
+    private final ExecutorService renderer;
+
+    // Rendering buffers, only used by the renderer thread.
+    private final ThreadLocal<NimCanvas> canvasPool;
+    private final ThreadLocal<BufferedImage> imagePool;
+
+
+    /**
+     *  Construct a new thumbnail cache.
+     *
+     *  @param directory The directory the thumbnails are stored in.
+     *  @param maxEntries The most thumbnails kept in memory.
+     */
+    public ThumbnailCache(Path directory, int maxEntries)
+    {
+        this.directory = directory;
+
+        // An access-ordered LinkedHashMap removes the least recently used thumbnail.
+        this.memory = new LinkedHashMap<>(16, 0.75f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, BufferedImage> eldest)
+            {
+                return size() > maxEntries;
+            }
+        };
+
+        // Render on a background daemon thread, so the GUI never waits.
+        this.renderer = Executors.newSingleThreadExecutor(task ->
+        {
+            Thread thread = new Thread(task, "thumbnail-renderer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.canvasPool = ThreadLocal.withInitial(() -> new NimCanvas(CANVAS_WIDTH, CANVAS_HEIGHT));
+        this.imagePool = ThreadLocal.withInitial(() -> new BufferedImage(CANVAS_WIDTH, CANVAS_HEIGHT, BufferedImage.TYPE_INT_RGB));
+    }
+
+
+    /**
+     *  Generate the cache key for a save, from its ID and a SHA-256 hash of its content.
+     *
+     *  @param save The save data row.
+     *  @return Cache key.
+     */
+    public static String key(String[] save)
+    {
+        String content = String.join(",", save[2], save[3], save[4]);
+
+        try
+        {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return save[0] + "-" + HexFormat.of().formatHex(hash);
+        }
+        catch (NoSuchAlgorithmException error)
+        {
+            System.out.println("An error occurred while hashing a save:");
+            throw new RuntimeException(error);
+        }
+    }
+
+
+    /**
+     *  Request the thumbnail for a save. If it is in memory, the callback is run
+     *  straight away. Otherwise, the thumbnail is loaded or rendered in the
+     *  background and the callback is run on the event dispatch thread.
+     *
+     *  @param save The save data row.
+     *  @param onReady Called with the thumbnail once it is available.
+     */
+    public void request(String[] save, Consumer<BufferedImage> onReady)
+    {
+        BufferedImage cached = getFromMemory(key(save));
+
+        if (cached != null)
+        {
+            onReady.accept(cached);
+            return;
+        }
+
+        renderer.execute(() ->
+        {
+            try
+            {
+                BufferedImage thumbnail = getThumbnail(save);
+                SwingUtilities.invokeLater(() -> onReady.accept(thumbnail));
+            }
+            catch (IOException error)
+            {
+                System.out.println("An error occurred while generating a thumbnail:");
+                System.out.println(error.getMessage());
+            }
+        });
+    }
+
+
+    /**
+     *  Get the thumbnail for a save, checking memory, then disk, and
+     *  rendering it if it has not been cached. This method blocks, so it
+     *  should not be called on the event dispatch thread.
+     *
+     *  @param save The save data row.
+     *  @return The thumbnail.
+     *  @throws IOException An issue reading or writing the disk cache.
+     */
+    public BufferedImage getThumbnail(String[] save) throws IOException
+    {
+        String key = key(save);
+        BufferedImage thumbnail = getFromMemory(key);
+
+        if (thumbnail != null)
+        {
+            return thumbnail;
+        }
+
+        // Check the disk cache, then fall back to rendering.
+        File file = directory.resolve(key + ".png").toFile();
+
+        if (file.exists())
+        {
+            thumbnail = ImageIO.read(file);
+        }
+
+        if (thumbnail == null)
+        {
+            thumbnail = render(Integer.parseInt(save[2]));
+
+            Files.createDirectories(directory);
+            ImageIO.write(thumbnail, "png", file);
+        }
+
+        synchronized (memory)
+        {
+            memory.put(key, thumbnail);
+        }
+
+        return thumbnail;
+    }
+
+
+    /**
+     *  Get the number of thumbnails held in memory.
+     *
+     *  @return Number of thumbnails.
+     */
+    public int size()
+    {
+        synchronized (memory)
+        {
+            return memory.size();
+        }
+    }
+
+
+    /**
+     *  Look up a thumbnail in memory, marking it as recently used.
+     *
+     *  @param key The cache key.
+     *  @return The thumbnail, or <code>null</code>.
+     */
+    private BufferedImage getFromMemory(String key)
+    {
+        synchronized (memory)
+        {
+            return memory.get(key);
+        }
+    }
+
+
+    /**
+     *  Render a board off-screen and scale it down to thumbnail size.
+     *
+     *  @param matchSticks The number of match sticks left on the board.
+     *  @return The thumbnail.
+     */
+    private BufferedImage render(int matchSticks)
+    {
+        NimCanvas canvas = canvasPool.get();
+        BufferedImage board = imagePool.get();
+
+        canvas.load(Math.max(0, Math.min(10, matchSticks)));
+        ReplayRenderer.renderFrame(canvas, board);
+
+        // Scale the full board down into a new thumbnail.
+        BufferedImage thumbnail = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = thumbnail.createGraphics();
+
+        try
+        {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(board, 0, 0, WIDTH, HEIGHT, null);
+        }
+        finally
+        {
+            graphics.dispose();
+        }
+
+        return thumbnail;
+    }
+}
@@ -0,0 +1,436 @@
+package org.keglez;
+
+import java.io.PrintStream;
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ *  This class runs a round-robin tournament between move strategies, so that
+ *  each difficulty can be given a measured strength. Every pair of strategies
+ *  plays from every starting pile size in a range, in both seat orders.
+ *
+ *  Each ordered pairing is played as its own task, in parallel across all
+ *  cores. A task creates its own strategy instances and only writes to its own
+ *  cell of the results, so the tasks never share state.
+ *
+ *  Once every game has been played, Elo ratings are fitted to the results
+ *  (the Bradley-Terry model), with a 95% confidence interval for each.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+public class Tournament
+{
+    // Rating given to an average strategy.
+    public static final double BASE_RATING = 1500;
+
+    // Number of games played in lock-step by each batch.
+    private static final int BATCH_SIZE = 4096;
+
+    // Converts natural log strengths into Elo points.
+    private static final double ELO_SCALE = 400 / Math.log(10);
+
+    // Class attributes.
+    private final List<String> names;
+    private final List<Supplier<MoveStrategy>> strategies;
+    private final int minPile;
+    private final int maxPile;
+    private final int gamesPerStart;
+    private final long seed;
+
+
+    /**
+     *  Construct a new tournament with a random seed.
+     *
+     *  @param strategies Each strategy's name, and a supplier of new instances of it.
+     *  @param minPile The smallest starting pile size.
+     *  @param maxPile The largest starting pile size.
+     *  @param gamesPerStart The games played from each starting pile size, per seat order.
+     */
+    public Tournament(Map<String, Supplier<MoveStrategy>> strategies, int minPile, int maxPile, int gamesPerStart)
+    {
+        this(strategies, minPile, maxPile, gamesPerStart, System.nanoTime());
+    }
+
+
+    /**
+     *  Construct a new tournament. Each pairing seeds its strategies from the
+     *  tournament seed, so two tournaments with the same seed give exactly the
+     *  same results, however their tasks are scheduled.
+     *
+     *  @param strategies Each strategy's name, and a supplier of new instances of it.
+     *  @param minPile The smallest starting pile size.
+     *  @param maxPile The largest starting pile size.
+     *  @param gamesPerStart The games played from each starting pile size, per seat order.
+     *  @param seed The seed for every random strategy.
+     */
+    public Tournament(Map<String, Supplier<MoveStrategy>> strategies, int minPile, int maxPile, int gamesPerStart, long seed)
+    {
+        if (strategies.size() < 2)
+        {
+            throw new IllegalArgumentException("A tournament needs at least two strategies");
+        }
+
+        this.names = new ArrayList<>(strategies.keySet());
+        this.strategies = new ArrayList<>(strategies.values());
+        this.minPile = minPile;
+        this.maxPile = maxPile;
+        this.gamesPerStart = gamesPerStart;
+        this.seed = seed;
+    }
+
+
+    /**
+     *  Play every game in the tournament, then fit the ratings.
+     *
+     *  @return The results.
+     */
+    public Result run()
+    {
+        int count = names.size();
+        long[][] firstSeatWins = new long[count][count];
+
+        // Draw two seeds for every pairing up front, so they don't depend on the order tasks run in.
+        long[] seeds = new SplittableRandom(seed).longs(2L * count * count).toArray();
+
+        // Each ordered pair is one task, and only writes its own cell.
+        IntStream.range(0, count * count)
+                .parallel()
+                .filter(pair -> pair / count != pair % count)
+                .forEach(pair ->
+                {
+                    int first = pair / count;
+                    int second = pair % count;
+                    MoveStrategy firstStrategy = strategies.get(first).get().withSeed(seeds[2 * pair]);
+                    MoveStrategy secondStrategy = strategies.get(second).get().withSeed(seeds[2 * pair + 1]);
+                    firstSeatWins[first][second] = playPairing(firstStrategy, secondStrategy);
+                });
+
+        // Combine both seat orders of every pairing.
+        long[][] wins = new long[count][count];
+
+        for (int a = 0; a < count; a++)
+        {
+            for (int b = 0; b < count; b++)
+            {
+                if (a != b)
+                {
+                    wins[a][b] = firstSeatWins[a][b] + gamesPerPairing() - firstSeatWins[b][a];
+                }
+            }
+        }
+
+        return new Result(names, wins, fitRatings(wins));
+    }
+
+
+    /**
+     *  Get the seed the tournament was played with.
+     *
+     *  @return Seed.
+     */
+    public long getSeed()
+    {
+        return seed;
+    }
+
+
+    /**
+     *  Get the number of games played in each seat order of each pairing.
+     *
+     *  @return Number of games.
+     */
+    public long gamesPerPairing()
+    {
+        return (long) (maxPile - minPile + 1) * gamesPerStart;
+    }
+
+
+    /**
+     *  Play every game of one pairing, in batches on a <code>LaneSimulator</code>.
+     *
+     *  @param first The strategy which moves first.
+     *  @param second The strategy which moves second.
+     *  @return The number of games the first strategy won.
+     */
+    private long playPairing(MoveStrategy first, MoveStrategy second)
+    {
+        LaneSimulator simulator = LaneSimulator.create(BATCH_SIZE);
+        int[] startPiles = new int[BATCH_SIZE];
+        int count = 0;
+        long firstWins = 0;
+
+        for (int pile = minPile; pile <= maxPile; pile++)
+        {
+            for (int game = 0; game < gamesPerStart; game++)
+            {
+                startPiles[count++] = pile;
+
+                if (count == BATCH_SIZE)
+                {
+                    firstWins += simulator.play(first, second, startPiles, count);
+                    count = 0;
+                }
+            }
+        }
+
+        return firstWins + simulator.play(first, second, startPiles, count);
+    }
+
+
+    /**
+     *  Play a single game, under the same rules as <code>NimGame</code>. The
+     *  player who takes the last match stick wins, and a player who tries to
+     *  take anything other than 1 or 2 match sticks forfeits.
+     *
+     *  @param first The strategy which moves first.
+     *  @param second The strategy which moves second.
+     *  @param pile The starting pile size.
+     *  @return Whether the first strategy won.
+     */
+    static boolean playGame(MoveStrategy first, MoveStrategy second, int pile)
+    {
+        boolean firstToMove = true;
+
+        while (pile > 0)
+        {
+            int move = (firstToMove ? first : second).NextMove(pile);
+
+            // The same correction as NimGame.assignMove.
+            if (pile - move == -1)
+            {
+                move = 1;
+            }
+
+            if (move < 1 || move > 2)
+            {
+                return !firstToMove;
+            }
+
+            pile -= move;
+            firstToMove = !firstToMove;
+        }
+
+        // The turn has already flipped, so the winner is the player who isn't next.
+        return !firstToMove;
+    }
+
+
+    /**
+     *  Fit Elo ratings to a win matrix, using the minorisation-maximisation
+     *  algorithm for the Bradley-Terry model. Each strategy is also given one
+     *  win and one loss against an average strategy, so that a strategy which
+     *  wins or loses every game still gets a finite rating.
+     *
+     *  @param wins The win matrix, where <code>wins[a][b]</code> is the games a won against b.
+     *  @return The ratings, and their confidence intervals.
+     */
+    static double[][] fitRatings(long[][] wins)
+    {
+        int count = wins.length;
+        double[] strength = new double[count];
+        Arrays.fill(strength, 1.0);
+
+        for (int iteration = 0; iteration < 10_000; iteration++)
+        {
+            double[] next = new double[count];
+            double change = 0;
+
+            for (int a = 0; a < count; a++)
+            {
+                // The virtual average opponent has a strength of 1.
+                double won = 1;
+                double denominator = 2 / (strength[a] + 1);
+
+                for (int b = 0; b < count; b++)
+                {
+                    if (a != b)
+                    {
+                        won += wins[a][b];
+                        denominator += (wins[a][b] + wins[b][a]) / (strength[a] + strength[b]);
+                    }
+                }
+
+                next[a] = won / denominator;
+                change = Math.max(change, Math.abs(Math.log(next[a] / strength[a])));
+            }
+
+            strength = next;
+
+            if (change < 1e-10)
+            {
+                break;
+            }
+        }
+
+        // Convert to Elo, and work out the standard errors from the Fisher information.
+        double[][] ratings = new double[2][count];
+
+        for (int a = 0; a < count; a++)
+        {
+            double information = 2 * strength[a] / Math.pow(strength[a] + 1, 2);
+
+            for (int b = 0; b < count; b++)
+            {
+                if (a != b)
+                {
+                    double p = strength[a] / (strength[a] + strength[b]);
+                    information += (wins[a][b] + wins[b][a]) * p * (1 - p);
+                }
+            }
+
+            ratings[0][a] = BASE_RATING + ELO_SCALE * Math.log(strength[a]);
+            ratings[1][a] = 1.96 * ELO_SCALE / Math.sqrt(information);
+        }
+
+        return ratings;
+    }
+
+
+    /**
+     *  This inner class holds the results of a tournament.
+     *
+     *  @author Keegan Hinnigan
+     *  @since 19/10/2026
+     *  @version 1.0
+     */
+    public static class Result
+    {
+        // Class attributes.
+        private final List<String> names;
+        private final long[][] wins;
+        private final double[] ratings;
+        private final double[] intervals;
+
+
+        /**
+         *  Construct new tournament results.
+         *
+         *  @param names The strategy names.
+         *  @param wins The win matrix.
+         *  @param ratings The ratings and their confidence intervals.
+         */
+        private Result(List<String> names, long[][] wins, double[][] ratings)
+        {
+            this.names = names;
+            this.wins = wins;
+            this.ratings = ratings[0];
+            this.intervals = ratings[1];
+        }
+
+
+        /**
+         *  Get a strategy's Elo rating.
+         *
+         *  @param name The strategy name.
+         *  @return Elo rating.
+         */
+        public double getRating(String name)
+        {
+            return ratings[names.indexOf(name)];
+        }
+
+
+        /**
+         *  Get the half-width of a strategy's 95% confidence interval.
+         *
+         *  @param name The strategy name.
+         *  @return Confidence interval, in Elo points either side of the rating.
+         */
+        public double getConfidenceInterval(String name)
+        {
+            return intervals[names.indexOf(name)];
+        }
+
+
+        /**
+         *  Get the number of games one strategy won against another, in either seat.
+         *
+         *  @param winner The winning strategy.
+         *  @param loser The losing strategy.
+         *  @return Number of games won.
+         */
+        public long getWins(String winner, String loser)
+        {
+            return wins[names.indexOf(winner)][names.indexOf(loser)];
+        }
+
+
+        /**
+         *  Get the total number of games played.
+         *
+         *  @return Number of games.
+         */
+        public long getTotalGames()
+        {
+            long total = 0;
+
+            for (long[] row : wins)
+            {
+                for (long cell : row)
+                {
+                    total += cell;
+                }
+            }
+
+            return total;
+        }
+
+
+        /**
+         *  Print the standings, strongest first.
+         *
+         *  @param out The stream to print to.
+         */
+        public void printStandings(PrintStream out)
+        {
+            Integer[] order = new Integer[names.size()];
+
+            for (int i = 0; i < order.length; i++)
+            {
+                order[i] = i;
+            }
+
+            Arrays.sort(order, (a, b) -> Double.compare(ratings[b], ratings[a]));
+
+            out.printf("%-4s %-20s %8s %8s%n", "Rank", "Strategy", "Elo", "95% CI");
+
+            for (int rank = 0; rank < order.length; rank++)
+            {
+                int i = order[rank];
+                out.printf("%-4d %-20s %8.0f %8s%n", rank + 1, names.get(i), ratings[i], "+/-" + Math.round(intervals[i]));
+            }
+
+            out.println("Games played: " + getTotalGames());
+        }
+    }
+
+
+    /**
+     *  Run a tournament between every registered strategy, and print the standings.
+     *
+     *  @param args Optionally, the games per starting pile size, the largest pile size, then the seed.
+     */
+    public static void main(String[] args)
+    {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int maxPile = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+
+        Map<String, Supplier<MoveStrategy>> strategies = new LinkedHashMap<>();
+
+        for (StrategyProvider provider : StrategyRegistry.getInstance().getProviders())
+        {
+            strategies.put(provider.getName(), provider::create);
+        }
+
+        long start = System.nanoTime();
+        Result result = new Tournament(strategies, 1, maxPile, games, seed).run();
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+
+        result.printStandings(System.out);
+        System.out.println("Finished in " + elapsed + " ms, with seed " + seed + ".");
+    }
+}
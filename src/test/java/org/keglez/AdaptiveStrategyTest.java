@@ -0,0 +1,114 @@
+package org.keglez;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveStrategyTest
+{
+    /**
+     *  Ensure that the optimal move is played from a winning pile.
+     */
+    @Test
+    void testWinningPiles()
+    {
+        // Setup environment.
+        AdaptiveStrategy strategy = new AdaptiveStrategy();
+
+        for (int pile = 1; pile <= 100; pile++)
+        {
+            if (pile % 3 != 0)
+            {
+                assertEquals(pile % 3, strategy.NextMove(pile), "Pile of " + pile);
+            }
+        }
+
+        assertEquals(0, strategy.NextMove(0));
+    }
+
+
+    /**
+     *  Ensure that, from a losing pile, the pile the opponent misplays is left.
+     */
+    @Test
+    void testExploitsMistakes()
+    {
+        // Setup environment. With nothing observed, 1 is taken.
+        AdaptiveStrategy strategy = new AdaptiveStrategy();
+        assertEquals(1, strategy.NextMove(9));
+
+        // The opponent always gets a pile of 8 right, but takes 2 from a pile of 7.
+        for (int i = 0; i < 5; i++)
+        {
+            strategy.observeOpponentMove("Human", 8, 2);
+            strategy.observeOpponentMove("Human", 7, 2);
+        }
+
+        assertEquals(5, strategy.getCount(7, 2));
+        assertTrue(strategy.getMistakeRate(7) > strategy.getMistakeRate(8));
+        assertEquals(2, strategy.NextMove(9));
+
+        // Once the opponent gets 7 right more often than 8, a pile of 8 is left instead.
+        for (int i = 0; i < 20; i++)
+        {
+            strategy.observeOpponentMove("Human", 7, 1);
+            strategy.observeOpponentMove("Human", 8, 1);
+        }
+
+        assertEquals(1, strategy.NextMove(9));
+    }
+
+
+    /**
+     *  Ensure that large piles with the same correct move share their counts.
+     */
+    @Test
+    void testLargePileBuckets()
+    {
+        // Setup environment.
+        AdaptiveStrategy strategy = new AdaptiveStrategy();
+        strategy.observeOpponentMove("Human", 101, 1);
+
+        assertEquals(1, strategy.getCount(200, 1));
+        assertEquals(0, strategy.getCount(202, 1));
+        assertEquals(0, strategy.getCount(20, 1));
+    }
+
+
+    /**
+     *  Ensure that each opponent is modelled separately.
+     */
+    @Test
+    void testSeparateOpponents()
+    {
+        // Setup environment.
+        AdaptiveStrategy strategy = new AdaptiveStrategy();
+        strategy.observeOpponentMove("Alice", 5, 1);
+        strategy.observeOpponentMove("Bob", 5, 2);
+
+        assertEquals("Bob", strategy.getOpponent());
+        assertEquals(0, strategy.getCount(5, 1));
+        assertEquals(1, strategy.getCount(5, 2));
+
+        strategy.observeOpponentMove("Alice", 5, 1);
+        assertEquals(2, strategy.getCount(5, 1));
+    }
+
+
+    /**
+     *  Ensure that the game tells the computer about the human's moves, but not its own.
+     */
+    @Test
+    void testGameObservesHuman()
+    {
+        // Setup environment.
+        AdaptiveStrategy strategy = new AdaptiveStrategy();
+        NimGame game = new NimGame(new Player("Human", new HumanUserStrategy()), new Player("Computer", strategy), null);
+
+        game.assignMove(2);
+        game.assignMove(1);
+
+        assertEquals(1, strategy.getCount(10, 2));
+        assertEquals(0, strategy.getCount(8, 1));
+    }
+}
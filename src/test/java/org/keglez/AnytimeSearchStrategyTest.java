@@ -0,0 +1,101 @@
+package org.keglez;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnytimeSearchStrategyTest
+{
+    /**
+     *  Ensure that iterative deepening stops at the maximum depth without proving
+     *  a large pile, and stops as soon as a small pile is proven.
+     */
+    @Test
+    void testDepthLimit()
+    {
+        // Setup environment.
+        AnytimeSearchStrategy strategy = new AnytimeSearchStrategy(NimRules.STANDARD, 1_000_000_000L, 3);
+
+        assertTrue(NimRules.STANDARD.isLegal(100, strategy.NextMove(100)));
+        assertFalse(strategy.isLastMoveProven());
+        assertEquals(3, strategy.getLastDepth());
+
+        // A pile of 2 is won by taking both, which is proven one move deep.
+        assertEquals(2, strategy.NextMove(2));
+        assertTrue(strategy.isLastMoveProven());
+        assertEquals(1, strategy.getLastDepth());
+        assertEquals(0, strategy.NextMove(0));
+    }
+
+
+    /**
+     *  Ensure that every move is proven, and never throws away a win, in a variant without a simple formula.
+     */
+    @Test
+    void testVariantRules()
+    {
+        // Setup environment.
+        NimRules rules = new NimRules(1, 3, 4);
+        NimSolver solver = NimSolver.forRules(rules);
+        AnytimeSearchStrategy strategy = new AnytimeSearchStrategy(rules, 1_000_000_000L, AnytimeSearchStrategy.DEFAULT_MAX_DEPTH);
+
+        // Search from the largest pile down, so the results of deep searches are reused.
+        for (int pile = 199; pile > 0; pile--)
+        {
+            int move = strategy.NextMove(pile);
+
+            assertTrue(strategy.isLastMoveProven(), "Pile of " + pile);
+            assertFalse(solver.isBlunder(pile, move), "Took " + move + " from " + pile);
+        }
+    }
+
+
+    /**
+     *  Ensure that a move returns close to its deadline, even when the pile is far too large to solve.
+     */
+    @Test
+    void testDeadline()
+    {
+        // Setup environment.
+        AnytimeSearchStrategy strategy = new AnytimeSearchStrategy(new NimRules(1, 3, 4), 5_000_000L, AnytimeSearchStrategy.DEFAULT_MAX_DEPTH);
+
+        long start = System.nanoTime();
+        int move = strategy.NextMove(1_000_000);
+        long elapsed = System.nanoTime() - start;
+
+        assertTrue(move == 1 || move == 3 || move == 4);
+        assertFalse(strategy.isLastMoveProven());
+        assertTrue(elapsed < 200_000_000L, "Took " + elapsed / 1_000_000 + " ms");
+        assertTrue(strategy.getLastDepth() > 0);
+        assertTrue(strategy.getLastNodes() > 0);
+        assertTrue(strategy.getNodesPerSecond() > 0);
+    }
+
+
+    /**
+     *  Ensure that a search without a budget is rejected.
+     */
+    @Test
+    void testNoBudget()
+    {
+        assertThrows(IllegalArgumentException.class, () -> new AnytimeSearchStrategy(NimRules.STANDARD, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new AnytimeSearchStrategy(NimRules.STANDARD, 1000, 0));
+    }
+
+
+    /**
+     *  Ensure that the search avoids taking the last match stick in misère play.
+     */
+    @Test
+    void testMisereRules()
+    {
+        // Setup environment.
+        AnytimeSearchStrategy strategy = new AnytimeSearchStrategy(NimRules.MISERE, 1_000_000_000L, AnytimeSearchStrategy.DEFAULT_MAX_DEPTH);
+
+        // Leaving one more than a multiple of 3 always wins.
+        assertEquals(1, strategy.NextMove(2));
+        assertEquals(2, strategy.NextMove(3));
+        assertEquals(1, strategy.NextMove(11));
+        assertTrue(strategy.isLastMoveProven());
+    }
+}
@@ -0,0 +1,99 @@
+package org.keglez;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchSimulatorTest
+{
+    /**
+     *  Ensure that the batch moves of each strategy match its single moves, including piles outside a normal game.
+     */
+    @Test
+    void testBatchMovesMatchSingleMoves()
+    {
+        // Setup environment.
+        MoveStrategy[] strategies = {new ModuloStrategy(), new PreDefinedStrategy(), new OptimalStrategy()};
+        int[] piles = new int[40];
+
+        for (int i = 0; i < piles.length; i++)
+        {
+            piles[i] = i - 15;
+        }
+
+        piles[0] = Integer.MIN_VALUE;
+        piles[1] = Integer.MAX_VALUE;
+
+        int[] out = new int[piles.length];
+
+        for (MoveStrategy strategy : strategies)
+        {
+            strategy.nextMoves(piles, out, piles.length);
+
+            for (int i = 0; i < piles.length; i++)
+            {
+                assertEquals(strategy.NextMove(piles[i]), out[i], strategy.getClass().getSimpleName() + " with a pile of " + piles[i]);
+            }
+        }
+    }
+
+
+    /**
+     *  Ensure that a batch gives the same results as playing each game on its own.
+     */
+    @Test
+    void testBatchMatchesSingleGames()
+    {
+        // Setup environment.
+        MoveStrategy[] strategies = {new ModuloStrategy(), new PreDefinedStrategy(), new OptimalStrategy(), pile -> 0};
+        int[] startPiles = new int[25];
+
+        for (int i = 0; i < startPiles.length; i++)
+        {
+            startPiles[i] = i;
+        }
+
+        BatchSimulator simulator = new BatchSimulator(startPiles.length);
+
+        for (MoveStrategy first : strategies)
+        {
+            for (MoveStrategy second : strategies)
+            {
+                long expected = 0;
+
+                for (int pile : startPiles)
+                {
+                    expected += Tournament.playGame(first, second, pile) ? 1 : 0;
+                }
+
+                assertEquals(expected, simulator.play(first, second, startPiles, startPiles.length));
+            }
+        }
+    }
+
+
+    /**
+     *  Ensure that the optimal strategy wins every game it can win.
+     */
+    @Test
+    void testOptimalWinsFromNonMultiplesOfThree()
+    {
+        // Setup environment.
+        int[] startPiles = {1, 2, 4, 5, 7, 8, 10, 11};
+        BatchSimulator simulator = new BatchSimulator(startPiles.length);
+
+        assertEquals(startPiles.length, simulator.play(new OptimalStrategy(), new RandomStrategy(), startPiles, startPiles.length));
+    }
+
+
+    /**
+     *  Ensure that a batch over the capacity is rejected.
+     */
+    @Test
+    void testOverCapacity()
+    {
+        BatchSimulator simulator = new BatchSimulator(2);
+
+        assertThrows(IllegalArgumentException.class, () -> simulator.play(new OptimalStrategy(), new OptimalStrategy(), new int[3], 3));
+    }
+}
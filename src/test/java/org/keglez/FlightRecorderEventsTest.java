@@ -0,0 +1,121 @@
+package org.keglez;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightRecorderEventsTest
+{
+    @TempDir
+    Path directory;
+
+
+    /**
+     *  Ensure that moves and saves are recorded with their details.
+     */
+    @Test
+    void testMoveAndSaveEvents() throws Exception
+    {
+        // Setup environment.
+        SaveHandler saves = new SaveHandler(directory.resolve("saves.csv").toString());
+        NimGame game = new NimGame(
+                new Player("Human", new HumanUserStrategy()),
+                new Player("Computer", new ModuloStrategy()),
+                saves);
+        Path output = directory.resolve("nim.jfr");
+
+        // Record a move and a save.
+        try (Recording recording = new Recording())
+        {
+            recording.enable(MoveEvent.class);
+            recording.enable(SaveFileEvent.class);
+            recording.start();
+
+            game.assignMove(2);
+            game.saveGame();
+
+            recording.stop();
+            recording.dump(output);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(output);
+
+        RecordedEvent move = find(events, "org.keglez.Move");
+        assertEquals(10, move.getInt("pileBefore"));
+        assertEquals(2, move.getInt("removed"));
+        assertTrue(move.getBoolean("human"));
+        assertEquals(HumanUserStrategy.class.getName(), move.getClass("strategy").getName());
+
+        RecordedEvent append = find(events, "org.keglez.SaveFile");
+        assertEquals("append", append.getString("operation"));
+        assertTrue(append.getLong("bytes") > 0);
+    }
+
+
+    /**
+     *  Ensure that a save records the bytes written to the file, not the characters.
+     */
+    @Test
+    void testSaveFileBytes() throws Exception
+    {
+        // Setup environment.
+        Path file = directory.resolve("saves.csv");
+        SaveHandler saves = new SaveHandler(file.toString());
+        long before = Files.exists(file) ? Files.size(file) : 0;
+        Path output = directory.resolve("bytes.jfr");
+
+        // Append a row holding a character which takes two bytes.
+        try (Recording recording = new Recording())
+        {
+            recording.enable(SaveFileEvent.class);
+            recording.start();
+
+            saves.append(new String[]{"10", "true", "12", "misère"});
+
+            recording.stop();
+            recording.dump(output);
+        }
+
+        RecordedEvent append = find(RecordingFile.readAllEvents(output), "org.keglez.SaveFile");
+        assertEquals(Files.size(file) - before, append.getLong("bytes"));
+    }
+
+
+    /**
+     *  Ensure that the settings profile is valid and enables the nim events.
+     */
+    @Test
+    void testSettingsProfile() throws Exception
+    {
+        Configuration configuration = Configuration.create(Path.of("src/main/resources/nim.jfc"));
+
+        assertEquals("true", configuration.getSettings().get("org.keglez.Move#enabled"));
+        assertEquals("true", configuration.getSettings().get("org.keglez.Paint#enabled"));
+        assertTrue(Files.exists(Path.of("src/main/resources/nim.jfc")));
+    }
+
+
+    /**
+     *  Find the first event of a type.
+     *
+     *  @param events The recorded events.
+     *  @param name The event name.
+     *  @return The event.
+     */
+    private static RecordedEvent find(List<RecordedEvent> events, String name)
+    {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No " + name + " event was recorded"));
+    }
+}
@@ -0,0 +1,68 @@
+package org.keglez;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameLoopSpecializerTest
+{
+    /**
+     *  Ensure that a specialised loop gets the same results as the tournament.
+     */
+    @Test
+    void testMatchesTournament()
+    {
+        // Setup environment.
+        MoveStrategy[] strategies = {new OptimalStrategy(), new ModuloStrategy(), new PreDefinedStrategy(),
+                StrategyCompiler.compile(new OptimalStrategy(), 10)};
+        int[] startPiles = new int[100];
+
+        for (int i = 0; i < startPiles.length; i++)
+        {
+            startPiles[i] = i + 1;
+        }
+
+        for (MoveStrategy first : strategies)
+        {
+            for (MoveStrategy second : strategies)
+            {
+                long expected = 0;
+
+                for (int pile : startPiles)
+                {
+                    expected += Tournament.playGame(first, second, pile) ? 1 : 0;
+                }
+
+                assertEquals(expected, GameLoopSpecializer.specialize(first, second).play(startPiles, startPiles.length));
+            }
+        }
+    }
+
+
+    /**
+     *  Ensure that a strategy making an illegal move forfeits.
+     */
+    @Test
+    void testForfeit()
+    {
+        // Setup environment. Taking 3 is never allowed.
+        GameLoop loop = GameLoopSpecializer.specialize(pile -> 3, new OptimalStrategy());
+
+        assertEquals(0, loop.play(new int[]{5, 10, 20}, 3));
+    }
+
+
+    /**
+     *  Ensure that every pairing gets its own hidden class.
+     */
+    @Test
+    void testHiddenClasses()
+    {
+        // Setup environment.
+        GameLoop a = GameLoopSpecializer.specialize(new OptimalStrategy(), new ModuloStrategy());
+        GameLoop b = GameLoopSpecializer.specialize(new OptimalStrategy(), new ModuloStrategy());
+
+        assertTrue(a.getClass().isHidden());
+        assertNotSame(a.getClass(), b.getClass());
+    }
+}
@@ -0,0 +1,114 @@
+package org.keglez;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameReplayTest
+{
+    /**
+     *  Ensure that the pile size is correct at every position of a short game.
+     */
+    @Test
+    void testPileAtEachPosition()
+    {
+        // Setup environment.
+        GameReplay replay = new GameReplay(10, true, new int[]{2, 1, 2, 2, 1, 2});
+
+        int[] expected = {10, 8, 7, 5, 3, 2, 0};
+
+        for (int position = 0; position < expected.length; position++)
+        {
+            assertEquals(expected[position], replay.getPileAt(position));
+        }
+    }
+
+
+    /**
+     *  Ensure that the starting position is worked out from the end of a saved game.
+     */
+    @Test
+    void testFromEnd()
+    {
+        // Setup environment. Three moves were made, and it is now the computer's turn.
+        GameReplay replay = GameReplay.fromEnd(5, false, new int[]{2, 1, 2});
+
+        assertEquals(3, replay.getMoveCount());
+        assertEquals(10, replay.getStartPile());
+        assertTrue(replay.isHumanTurnAt(0));
+        assertFalse(replay.isHumanTurnAt(3));
+    }
+
+
+    /**
+     *  Ensure that a save without moves, stored as a single 0, has no moves.
+     */
+    @Test
+    void testFromEndWithoutMoves()
+    {
+        GameReplay replay = GameReplay.fromEnd(10, true, new int[]{0});
+
+        assertEquals(0, replay.getMoveCount());
+        assertEquals(10, replay.getPileAt(0));
+    }
+
+
+    /**
+     *  Ensure that the winner is only found once the game has finished.
+     */
+    @Test
+    void testWinner()
+    {
+        // Setup environment. Human takes the last match stick.
+        GameReplay replay = new GameReplay(3, true, new int[]{2, 1});
+
+        assertEquals("", replay.getWinnerAt(1));
+        assertEquals("Computer", replay.getWinnerAt(2));
+    }
+
+
+    /**
+     *  Ensure that seeking is correct across keyframes in a game of a million moves.
+     */
+    @Test
+    void testSeekingLongGame()
+    {
+        // Setup environment.
+        int[] moves = new int[1_000_000];
+
+        for (int i = 0; i < moves.length; i++)
+        {
+            moves[i] = i % 3 == 0 ? 2 : 1;
+        }
+
+        GameReplay replay = new GameReplay(2_000_000, true, moves);
+
+        // Check some positions either side of keyframes against a straight replay.
+        int[] positions = {0, 1, 1023, 1024, 1025, 500_000, 999_999, 1_000_000};
+
+        for (int position : positions)
+        {
+            int pile = 2_000_000;
+
+            for (int i = 0; i < position; i++)
+            {
+                pile -= moves[i];
+            }
+
+            assertEquals(pile, replay.getPileAt(position));
+        }
+    }
+
+
+    /**
+     *  Ensure that positions outside the replay are rejected.
+     */
+    @Test
+    void testPositionOutOfBounds()
+    {
+        GameReplay replay = new GameReplay(10, true, new int[]{1});
+
+        assertThrows(IndexOutOfBoundsException.class, () -> replay.getPileAt(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> replay.getPileAt(-1));
+    }
+}
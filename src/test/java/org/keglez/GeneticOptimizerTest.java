@@ -0,0 +1,86 @@
+package org.keglez;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeneticOptimizerTest
+{
+    /**
+     *  Ensure that evolving against the optimal strategy finds the optimal table.
+     */
+    @Test
+    void testEvolvesOptimalTable()
+    {
+        // Setup environment. The only way to beat the optimal strategy is to play optimally from a winning pile.
+        GeneticOptimizer optimizer = new GeneticOptimizer(NimRules.STANDARD, 12, 200, List.of(new OptimalStrategy()), 1, 1);
+        TableStrategy strategy = optimizer.evolve(40);
+
+        for (int pile = 1; pile <= 12; pile++)
+        {
+            if (pile % 3 != 0)
+            {
+                assertEquals(pile % 3, strategy.NextMove(pile), "Pile of " + pile);
+            }
+        }
+
+        // Moving first it wins from 8 of the 12 piles, and moving second from the other 4.
+        assertEquals(12.0 / 24, optimizer.getBestFitness(), 1e-9);
+        assertEquals(40, optimizer.getGeneration());
+    }
+
+
+    /**
+     *  Ensure that evolving under misère play finds the misère table, which avoids taking the last match stick.
+     */
+    @Test
+    void testEvolvesMisereTable()
+    {
+        // Setup environment.
+        GeneticOptimizer optimizer = new GeneticOptimizer(NimRules.MISERE, 12, 200, List.of(new OptimalStrategy(true)), 1, 1);
+        TableStrategy strategy = optimizer.evolve(40);
+
+        StrategyVerifier.Report report = new StrategyVerifier(NimRules.MISERE, 12, 1, 1).verify(() -> strategy);
+
+        assertEquals(0, report.getBlunderPiles().length);
+        assertEquals(1.0, report.getAccuracy());
+    }
+
+
+    /**
+     *  Ensure that every gene is a legal move for its pile.
+     */
+    @Test
+    void testGenesAreLegal()
+    {
+        // Setup environment.
+        NimRules rules = new NimRules(2, 3, 5);
+        GeneticOptimizer optimizer = new GeneticOptimizer(rules, 20, 50, List.of(new RandomStrategy()), 2, 4);
+        byte[] table = optimizer.evolve(5).getTable();
+
+        assertEquals(20, table.length);
+
+        for (int pile = 2; pile <= 20; pile++)
+        {
+            assertTrue(rules.isLegal(pile, table[pile - 1]), "Pile of " + pile);
+        }
+    }
+
+
+    /**
+     *  Ensure that the table strategy follows its table, and handles piles outside it.
+     */
+    @Test
+    void testTableStrategy()
+    {
+        // Setup environment.
+        TableStrategy strategy = new TableStrategy(new byte[]{1, 2, 1});
+
+        assertEquals(1, strategy.NextMove(1));
+        assertEquals(2, strategy.NextMove(2));
+        assertEquals(1, strategy.NextMove(4));
+        assertEquals(0, strategy.NextMove(0));
+    }
+}
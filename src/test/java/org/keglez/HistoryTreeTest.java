@@ -0,0 +1,103 @@
+package org.keglez;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HistoryTreeTest
+{
+    /**
+     *  Ensure that moves can be undone and redone to any depth.
+     */
+    @Test
+    void testUndoAndRedo()
+    {
+        // Setup environment.
+        HistoryTree history = new HistoryTree(10, true);
+        history.record(1, true, 9);
+        history.record(2, false, 7);
+        history.record(1, true, 6);
+
+        // Undo everything.
+        while (history.canUndo())
+        {
+            history.undo();
+        }
+
+        assertSame(history.getRoot(), history.getCurrent());
+
+        // Redo everything.
+        while (history.canRedo())
+        {
+            history.redo();
+        }
+
+        assertArrayEquals(new int[]{1, 2, 1}, history.getMoves());
+        assertEquals(6, history.getCurrent().getPile());
+    }
+
+
+    /**
+     *  Ensure that replaying an existing move follows its branch instead of creating a new one.
+     */
+    @Test
+    void testReplayingMoveReusesBranch()
+    {
+        // Setup environment.
+        HistoryTree history = new HistoryTree(10, true);
+        HistoryTree.Node first = history.record(2, true, 8);
+        history.undo();
+
+        assertSame(first, history.record(2, true, 8));
+        assertEquals(1, history.getRoot().getChildCount());
+    }
+
+
+    /**
+     *  Ensure that redo follows the most recently visited branch.
+     */
+    @Test
+    void testRedoFollowsLatestBranch()
+    {
+        // Setup environment.
+        HistoryTree history = new HistoryTree(10, true);
+        HistoryTree.Node first = history.record(2, true, 8);
+        history.undo();
+        HistoryTree.Node second = history.record(1, true, 9);
+        history.undo();
+
+        assertSame(second, history.redo());
+
+        // Jumping makes the jumped-to line the redo line.
+        history.jumpTo(first);
+        history.undo();
+        assertSame(first, history.redo());
+    }
+
+
+    /**
+     *  Ensure that a node from another history cannot be jumped to.
+     */
+    @Test
+    void testJumpingToForeignNode()
+    {
+        HistoryTree history = new HistoryTree(10, true);
+        HistoryTree other = new HistoryTree(10, true);
+        HistoryTree.Node node = other.record(1, true, 9);
+
+        assertThrows(IllegalArgumentException.class, () -> history.jumpTo(node));
+    }
+
+
+    /**
+     *  Ensure that undoing at the start of the game is rejected.
+     */
+    @Test
+    void testUndoingAtRoot()
+    {
+        HistoryTree history = new HistoryTree(10, true);
+
+        assertFalse(history.canUndo());
+        assertThrows(IllegalStateException.class, history::undo);
+    }
+}
@@ -0,0 +1,80 @@
+package org.keglez;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LaneSimulatorTest
+{
+    /**
+     *  Ensure that the simulator from <code>create</code> gives the same results as
+     *  playing each game on its own. With the vector profile this checks the SIMD
+     *  simulator, and otherwise the scalar fallback.
+     */
+    @Test
+    void testMatchesSingleGames()
+    {
+        // Setup environment. The batch is not a multiple of any vector length.
+        MoveStrategy[] strategies = {new ModuloStrategy(), new PreDefinedStrategy(), new OptimalStrategy(), new RandomStrategy()};
+        int[] startPiles = new int[1001];
+
+        for (int i = 0; i < startPiles.length; i++)
+        {
+            startPiles[i] = i % 37 - 2;
+        }
+
+        LaneSimulator simulator = LaneSimulator.create(startPiles.length);
+
+        for (MoveStrategy first : strategies)
+        {
+            for (MoveStrategy second : strategies)
+            {
+                if (first instanceof RandomStrategy || second instanceof RandomStrategy)
+                {
+                    continue;
+                }
+
+                long expected = 0;
+
+                for (int pile : startPiles)
+                {
+                    expected += Tournament.playGame(first, second, pile) ? 1 : 0;
+                }
+
+                assertEquals(expected, simulator.play(first, second, startPiles, startPiles.length));
+            }
+        }
+    }
+
+
+    /**
+     *  Ensure that piles too large for the fast divide are still played correctly.
+     */
+    @Test
+    void testLargePiles()
+    {
+        // Setup environment. The first player only loses from a multiple of 3.
+        int[] startPiles = {70_000, 70_001, 100_000, 3};
+        LaneSimulator simulator = LaneSimulator.create(startPiles.length);
+
+        assertEquals(3, simulator.play(new OptimalStrategy(), new OptimalStrategy(), startPiles, startPiles.length));
+    }
+
+
+    /**
+     *  Ensure that strategies which can't be run in lanes still play every game.
+     */
+    @Test
+    void testUnsupportedStrategy()
+    {
+        // Setup environment. Optimal always beats Random from a pile of 4.
+        int[] startPiles = new int[100];
+        Arrays.fill(startPiles, 4);
+
+        LaneSimulator simulator = LaneSimulator.create(startPiles.length);
+
+        assertEquals(100, simulator.play(new OptimalStrategy(), new RandomStrategy(), startPiles, startPiles.length));
+    }
+}
@@ -0,0 +1,75 @@
+package org.keglez;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest
+{
+    /**
+     *  Ensure that recorded values are counted, and the maximum is kept.
+     */
+    @Test
+    void testRecordingValues()
+    {
+        // Setup environment.
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(100);
+        histogram.record(5_000);
+        histogram.record(1_000_000);
+
+        assertEquals(3, histogram.getCount());
+        assertEquals(1_000_000, histogram.getMax());
+    }
+
+
+    /**
+     *  Ensure that percentiles are accurate to within the bucket precision (~6%).
+     */
+    @Test
+    void testPercentiles()
+    {
+        // Setup environment.
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        for (int i = 1; i <= 1000; i++)
+        {
+            histogram.record(i * 1_000L);
+        }
+
+        assertEquals(500_000, histogram.getValueAtPercentile(50), 500_000 * 0.07);
+        assertEquals(990_000, histogram.getValueAtPercentile(99), 990_000 * 0.07);
+        assertEquals(1_000_000, histogram.getValueAtPercentile(100));
+    }
+
+
+    /**
+     *  Ensure that every value falls into a bucket whose upper bound is not below it.
+     */
+    @Test
+    void testBucketBounds()
+    {
+        for (long value = 0; value < 100_000; value += 7)
+        {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertTrue(LatencyHistogram.bucketUpperBound(index) >= value);
+            assertTrue(index == 0 || LatencyHistogram.bucketUpperBound(index - 1) < value);
+        }
+    }
+
+
+    /**
+     *  Ensure that the histogram can be reset.
+     */
+    @Test
+    void testReset()
+    {
+        // Setup environment.
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(42);
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+    }
+}
@@ -0,0 +1,210 @@
+package org.keglez;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LearnedStrategyTest
+{
+    /**
+     *  Ensure that self-play values winning moves above zero and losing moves
+     *  below, so the table itself tells the piles apart.
+     */
+    @Test
+    void testLearnsValues()
+    {
+        // Setup environment.
+        QLearningTrainer trainer = new QLearningTrainer(NimRules.STANDARD, 60);
+        trainer.train(100_000, 4, 1);
+        LearnedStrategy strategy = trainer.toStrategy();
+        NimSolver solver = NimSolver.forRules(NimRules.STANDARD);
+
+        for (int pile = 2; pile <= 60; pile++)
+        {
+            for (int i = 0; i < 2; i++)
+            {
+                boolean winning = !solver.isWin(pile - NimRules.STANDARD.getMove(i));
+                float value = strategy.getValue(pile, i);
+
+                assertEquals(winning, value > 0, "Took " + (i + 1) + " from " + pile + ", valued " + value);
+            }
+        }
+
+        assertEquals(0, strategy.NextMove(0));
+    }
+
+
+    /**
+     *  Ensure that self-play learns a winning move in a variant.
+     */
+    @Test
+    void testLearnsVariantRules()
+    {
+        // Setup environment.
+        NimRules rules = new NimRules(1, 3, 4);
+        NimSolver solver = NimSolver.forRules(rules);
+
+        QLearningTrainer trainer = new QLearningTrainer(rules, 40);
+        trainer.train(200_000, 1, 2);
+        LearnedStrategy strategy = trainer.toStrategy();
+
+        for (int pile = 1; pile <= 40; pile++)
+        {
+            int move = strategy.NextMove(pile);
+            assertFalse(solver.isBlunder(pile, move), "Took " + move + " from " + pile);
+        }
+    }
+
+
+    /**
+     *  Ensure that the built in strategy plays piles beyond its table without
+     *  blundering, under both rules.
+     */
+    @Test
+    void testPilesBeyondTable()
+    {
+        for (NimRules rules : new NimRules[]{NimRules.STANDARD, NimRules.MISERE})
+        {
+            // Setup environment.
+            LearnedStrategy strategy = (LearnedStrategy) new StrategyProviders.Learned().create(rules);
+            NimSolver solver = NimSolver.forRules(rules);
+
+            assertEquals(3, strategy.getPeriod(), rules.toString());
+
+            for (int pile = strategy.getMaxPile() + 1; pile <= 1000; pile++)
+            {
+                int move = strategy.NextMove(pile);
+                assertFalse(solver.isBlunder(pile, move), "Took " + move + " from " + pile + " in " + rules);
+            }
+        }
+    }
+
+
+    /**
+     *  Ensure that a table which doesn't repeat refuses piles beyond it, rather than guessing.
+     */
+    @Test
+    void testRefusesPilesBeyondTable()
+    {
+        // Setup environment. Win by taking 1, 2, 1, 1 then 2 from piles 1 to 5.
+        int[] moves = {0, 1, 2, 1, 1, 2};
+        float[] table = new float[moves.length * 2];
+
+        for (int pile = 1; pile < moves.length; pile++)
+        {
+            table[pile * 2 + moves[pile] - 1] = 1;
+        }
+
+        LearnedStrategy strategy = new LearnedStrategy(NimRules.STANDARD, 5, table);
+
+        assertEquals(0, strategy.getPeriod());
+        assertEquals(2, strategy.NextMove(5));
+        assertThrows(IllegalArgumentException.class, () -> strategy.NextMove(6));
+    }
+
+
+    /**
+     *  Ensure that a saved table loads back the same.
+     */
+    @Test
+    void testSaveAndLoad(@TempDir Path directory) throws IOException
+    {
+        // Setup environment.
+        QLearningTrainer trainer = new QLearningTrainer(new NimRules(1, 2, 5), 50);
+        trainer.train(10_000, 1, 3);
+        LearnedStrategy strategy = trainer.toStrategy();
+
+        Path path = directory.resolve("learned.bin");
+        strategy.save(path);
+        LearnedStrategy loaded = LearnedStrategy.load(path);
+
+        assertEquals(strategy.getRules(), loaded.getRules());
+        assertEquals(50, loaded.getMaxPile());
+
+        for (int pile = 0; pile <= 50; pile++)
+        {
+            assertEquals(strategy.NextMove(pile), loaded.NextMove(pile));
+
+            for (int move = 0; move < 3; move++)
+            {
+                assertEquals(strategy.getValue(pile, move), loaded.getValue(pile, move));
+            }
+        }
+    }
+
+
+    /**
+     *  Ensure that a misère table keeps its rules when saved, and a table from before misère play loads as normal play.
+     */
+    @Test
+    void testMisereSaveAndLoad(@TempDir Path directory) throws IOException
+    {
+        // Setup environment.
+        Path path = directory.resolve("misere.bin");
+        new LearnedStrategy(NimRules.MISERE, 3, new float[8]).save(path);
+
+        assertEquals(NimRules.MISERE, LearnedStrategy.load(path).getRules());
+
+        // Version 1: magic, version, move count, largest pile, moves, then the values.
+        ByteBuffer old = ByteBuffer.allocate(24 + 4 * 8).order(ByteOrder.LITTLE_ENDIAN);
+        old.putInt(0x4E494D51).putInt(1).putInt(2).putInt(3).putInt(1).putInt(2);
+
+        Path oldPath = directory.resolve("old.bin");
+        Files.write(oldPath, old.array());
+
+        assertEquals(NimRules.STANDARD, LearnedStrategy.load(oldPath).getRules());
+    }
+
+
+    /**
+     *  Ensure that a file which isn't a saved table is rejected.
+     */
+    @Test
+    void testLoadRejectsOtherFiles(@TempDir Path directory) throws IOException
+    {
+        // Setup environment.
+        Path path = directory.resolve("saves.csv");
+        Files.writeString(path, "ID,Human Turn,Match Sticks,Moves,Winner\n");
+
+        assertThrows(IOException.class, () -> LearnedStrategy.load(path));
+    }
+
+
+    /**
+     *  Ensure that a truncated or corrupt table is rejected with an
+     *  <code>IOException</code>, rather than an unchecked exception.
+     */
+    @Test
+    void testLoadRejectsCorruptTables(@TempDir Path directory) throws IOException
+    {
+        // Setup environment.
+        Path path = directory.resolve("learned.nimq");
+        new QLearningTrainer(NimRules.MISERE, 10).toStrategy().save(path);
+        byte[] saved = Files.readAllBytes(path);
+
+        // Cut off in the version 2 header, after the largest pile.
+        Files.write(path, Arrays.copyOf(saved, 16));
+        assertThrows(IOException.class, () -> LearnedStrategy.load(path));
+
+        // A negative move count, and one far larger than the file.
+        for (int count : new int[]{-1, Integer.MAX_VALUE})
+        {
+            ByteBuffer.wrap(saved).order(ByteOrder.LITTLE_ENDIAN).putInt(8, count);
+            Files.write(path, saved);
+            assertThrows(IOException.class, () -> LearnedStrategy.load(path));
+        }
+
+        // A largest pile which doesn't match the table.
+        ByteBuffer.wrap(saved).order(ByteOrder.LITTLE_ENDIAN).putInt(8, 2).putInt(12, 1_000_000);
+        Files.write(path, saved);
+        assertThrows(IOException.class, () -> LearnedStrategy.load(path));
+    }
+}
@@ -0,0 +1,121 @@
+package org.keglez;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MCTSStrategyTest
+{
+    /**
+     *  Ensure that a single threaded search with a seed makes the same moves each game.
+     */
+    @Test
+    void testSeededSearchRepeats()
+    {
+        // Setup environment.
+        NimRules rules = new NimRules(1, 3, 4);
+        MoveStrategy first = new MCTSStrategy(rules, 500, 0, 1, 11);
+        MoveStrategy second = first.withSeed(11);
+
+        for (int pile = 40; pile > 0; pile--)
+        {
+            assertEquals(first.NextMove(pile), second.NextMove(pile), "Pile of " + pile);
+        }
+
+        assertEquals(0, first.NextMove(0));
+    }
+
+
+    /**
+     *  Ensure that the search never throws away a win in a variant without a simple formula.
+     */
+    @Test
+    void testVariantRules()
+    {
+        // Setup environment.
+        NimRules rules = new NimRules(1, 3, 4);
+        NimSolver solver = NimSolver.forRules(rules);
+        MCTSStrategy strategy = new MCTSStrategy(rules, 20000, 0, 1, 7);
+
+        for (int pile = 1; pile < 25; pile++)
+        {
+            int move = strategy.NextMove(pile);
+            assertFalse(solver.isBlunder(pile, move), "Took " + move + " from " + pile);
+        }
+    }
+
+
+    /**
+     *  Ensure that searching on several threads shares the playout budget and still finds the winning move.
+     */
+    @Test
+    void testParallelSearch()
+    {
+        // Setup environment.
+        MCTSStrategy strategy = new MCTSStrategy(NimRules.STANDARD, 8000, 0, 4, 3);
+
+        assertEquals(2, strategy.NextMove(50));
+        assertTrue(strategy.getLastPlayouts() > 0 && strategy.getLastPlayouts() <= 8000);
+        assertTrue(strategy.getPlayoutsPerSecond() > 0);
+    }
+
+
+    /**
+     *  Ensure that searching stops early once the current pile is proven.
+     */
+    @Test
+    void testStopsWhenProven()
+    {
+        // Setup environment.
+        MCTSStrategy strategy = new MCTSStrategy(NimRules.STANDARD, 100_000, 0, 1, 5);
+
+        assertEquals(1, strategy.NextMove(10));
+        assertTrue(strategy.getLastPlayouts() < 100_000);
+    }
+
+
+    /**
+     *  Ensure that the tree is reused across moves, and the strategy keeps playing well.
+     */
+    @Test
+    void testTreeReuse()
+    {
+        // Setup environment. Each game is started from a winning pile for the search, so every move must be right.
+        MCTSStrategy strategy = new MCTSStrategy(NimRules.STANDARD, 3000, 0, 1, 11);
+
+        assertTrue(Tournament.playGame(strategy, new RandomStrategy(5), 1000));
+        assertFalse(Tournament.playGame(new OptimalStrategy(), strategy, 999));
+    }
+
+
+    /**
+     *  Ensure that a full tree with no room for the new root is cleared, rather than crashing.
+     */
+    @Test
+    void testFullTree()
+    {
+        // Setup environment. A tree of 16 nodes is full after searching a pile of 30.
+        MCTSStrategy strategy = new MCTSStrategy(NimRules.STANDARD, 2000, 0, 1, 3, 16);
+
+        for (int pile : new int[]{30, 31, 1000, 1001})
+        {
+            int move = strategy.NextMove(pile);
+
+            assertTrue(NimRules.STANDARD.isLegal(pile, move), "Took " + move + " from " + pile);
+            assertTrue(strategy.getLastPlayouts() > 0);
+        }
+
+        // Small piles still fit, so they are still solved.
+        assertEquals(2, strategy.NextMove(5));
+    }
+
+
+    /**
+     *  Ensure that a search needs a budget.
+     */
+    @Test
+    void testNoBudget()
+    {
+        assertThrows(IllegalArgumentException.class, () -> new MCTSStrategy(NimRules.STANDARD, 0, 0, 1));
+    }
+}
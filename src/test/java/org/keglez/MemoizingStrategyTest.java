@@ -0,0 +1,116 @@
+package org.keglez;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemoizingStrategyTest
+{
+    /**
+     *  A deterministic strategy which counts how often it is asked for a move.
+     */
+    private static class CountingStrategy extends OptimalStrategy
+    {
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public int NextMove(int currentPile)
+        {
+            calls.incrementAndGet();
+            return super.NextMove(currentPile);
+        }
+    }
+
+
+    /**
+     *  Ensure that a repeated pile is only worked out once.
+     */
+    @Test
+    void testCachesMoves()
+    {
+        // Setup environment.
+        CountingStrategy counting = new CountingStrategy();
+        MemoizingStrategy strategy = new MemoizingStrategy(counting, 64);
+
+        for (int i = 0; i < 10; i++)
+        {
+            for (int pile = 1; pile <= 10; pile++)
+            {
+                assertEquals(new OptimalStrategy().NextMove(pile), strategy.NextMove(pile));
+            }
+        }
+
+        assertTrue(strategy.isEnabled());
+        assertEquals(10, strategy.getMisses());
+        assertEquals(90, strategy.getHits());
+        assertEquals(10, counting.calls.get());
+    }
+
+
+    /**
+     *  Ensure that the cache stays within its capacity, and still gives the right moves.
+     */
+    @Test
+    void testEviction()
+    {
+        // Setup environment.
+        CountingStrategy counting = new CountingStrategy();
+        MemoizingStrategy strategy = new MemoizingStrategy(counting, 10);
+        assertEquals(16, strategy.getCapacity());
+
+        for (int pile = 1; pile <= 1000; pile++)
+        {
+            assertEquals(pile % 3 == 0 ? 1 : pile % 3, strategy.NextMove(pile));
+        }
+
+        // Every pile was new, and the most recent ones are still cached.
+        assertEquals(1000, strategy.getMisses());
+        strategy.NextMove(1000);
+        assertEquals(1, strategy.getHits());
+    }
+
+
+    /**
+     *  Ensure that strategies which aren't deterministic are never cached.
+     */
+    @Test
+    void testDisabledForRandomStrategies()
+    {
+        // Setup environment.
+        MemoizingStrategy random = new MemoizingStrategy(new RandomStrategy());
+        MemoizingStrategy human = new MemoizingStrategy(new HumanUserStrategy());
+
+        for (int i = 0; i < 100; i++)
+        {
+            int move = random.NextMove(10);
+            assertTrue(move == 1 || move == 2);
+        }
+
+        assertFalse(random.isEnabled());
+        assertFalse(human.isEnabled());
+        assertFalse(random.isDeterministic());
+        assertEquals(0, random.getHits() + random.getMisses());
+    }
+
+
+    /**
+     *  Ensure that many threads can share one cache.
+     */
+    @Test
+    void testConcurrentReaders()
+    {
+        // Setup environment.
+        MemoizingStrategy strategy = new MemoizingStrategy(new OptimalStrategy(), 256);
+
+        long wrong = IntStream.range(0, 200_000)
+                .parallel()
+                .filter(i -> strategy.NextMove(i % 500 + 1) != new OptimalStrategy().NextMove(i % 500 + 1))
+                .count();
+
+        assertEquals(0, wrong);
+        assertEquals(200_000, strategy.getHits() + strategy.getMisses());
+    }
+}
@@ -1,6 +1,11 @@
 package org.keglez;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class NimGameTest
@@ -127,6 +132,109 @@ class NimGameTest
     }
 
 
+    /**
+     *  Ensure that only the human's move is undone if the computer hasn't replied.
+     */
+    @Test
+    void testUndoingSingleMove()
+    {
+        // Setup environment.
+        NimGame game = new NimGame(player1, player2);
+        game.assignMove(2); // Human move.
+
+        game.undoLastMove();
+        assertEquals(10, game.getMatchStickSize());
+        assertTrue(game.getIsHumanTurn());
+    }
+
+
+    /**
+     *  Ensure that undoing without any moves does not fail.
+     */
+    @Test
+    void testUndoingWithoutMoves()
+    {
+        // Setup environment.
+        NimGame game = new NimGame(player1, player2);
+
+        assertEquals("There are no moves to undo!", game.undoLastMove());
+        assertEquals(10, game.getMatchStickSize());
+    }
+
+
+    /**
+     *  Ensure that undone moves can be redone.
+     */
+    @Test
+    void testRedoingLastMove()
+    {
+        // Setup environment.
+        NimGame game = new NimGame(player1, player2);
+        game.assignMove(2); // Human move.
+        game.assignMove(1); // Computer move.
+        game.assignMove(2); // Human move.
+        game.assignMove(2); // Computer move.
+
+        // Undo twice, then redo once.
+        game.undoLastMove();
+        game.undoLastMove();
+        game.redoLastMove();
+
+        assertEquals(7, game.getMatchStickSize());
+        assertTrue(game.getIsHumanTurn());
+        assertTrue(game.canRedo());
+    }
+
+
+    /**
+     *  Ensure that single moves are redone one at a time, following the line last visited.
+     */
+    @Test
+    void testRedoingSingleMove()
+    {
+        // Setup environment.
+        NimGame game = new NimGame(player1, player2);
+        game.assignMove(2); // Human move.
+        game.assignMove(1); // Computer move.
+
+        // Switch to another line, then undo back to the start.
+        game.undoMove();
+        game.undoMove();
+        game.assignMove(1);
+        game.undoMove();
+
+        game.redoMove();
+        assertEquals(9, game.getMatchStickSize());
+        assertFalse(game.getIsHumanTurn());
+        assertFalse(game.canRedo());
+    }
+
+
+    /**
+     *  Ensure that playing a different move after undoing keeps the old line.
+     */
+    @Test
+    void testBranchingHistory()
+    {
+        // Setup environment.
+        NimGame game = new NimGame(player1, player2);
+        game.assignMove(2);
+        HistoryTree.Node firstLine = game.getHistory().getCurrent();
+
+        // Undo, then play a different move.
+        game.undoLastMove();
+        game.assignMove(1);
+        assertEquals(9, game.getMatchStickSize());
+        assertEquals(2, game.getHistory().getRoot().getChildCount());
+
+        // Jump back to the first line.
+        game.jumpTo(firstLine);
+        assertEquals(8, game.getMatchStickSize());
+        assertFalse(game.getIsHumanTurn());
+        assertArrayEquals(new int[]{2}, game.getMoves());
+    }
+
+
     /**
      *  Ensure that the human player can be retrieved.
      */
@@ -228,4 +336,77 @@ class NimGameTest
         name = game.getCurrentPlayerName();
         assertEquals("Computer", name);
     }
-}
\ No newline at end of file
+
+
+    /**
+     *  Ensure that in misère mode, the player who takes the last match stick loses.
+     */
+    @Test
+    void testMisereWinner()
+    {
+        // Setup environment.
+        NimGame game = new NimGame(player1, player2, null);
+        game.setMisere(true);
+        game.assignMove(9); // Simulate 1 match stick left
+
+        assertEquals("", game.getWinnerName());
+        assertEquals(NimRules.MISERE, game.getRules());
+
+        // Simulate human final move.
+        game.setIsHumanTurn(true);
+        game.assignMove(1);
+
+        assertTrue(game.checkWinner());
+        assertFalse(game.isHumanWinner());
+        assertEquals("Computer", game.getWinnerName());
+    }
+
+
+    /**
+     *  Ensure that the rules can't be changed once a move has been made, so a
+     *  finished game's winner is never rewritten.
+     */
+    @Test
+    void testRulesFixedDuringGame()
+    {
+        // Setup environment.
+        NimGame game = new NimGame(player1, player2, null);
+        game.setMisere(true);
+        game.assignMove(2);
+
+        assertThrows(IllegalStateException.class, () -> game.setMisere(false));
+        assertTrue(game.isMisere());
+
+        // Setting the same rules again is harmless.
+        game.setMisere(true);
+
+        // Once the game is reset, the rules can change.
+        game.resetGame();
+        game.setMisere(false);
+        assertEquals(NimRules.STANDARD, game.getRules());
+    }
+
+
+    /**
+     *  Ensure that misère mode is kept when a game is saved and loaded.
+     */
+    @Test
+    void testSavingMisereGame(@TempDir Path directory) throws IOException
+    {
+        // Setup environment.
+        SaveHandler saves = new SaveHandler(directory.resolve("saves.csv").toString());
+        NimGame game = new NimGame(player1, player2, saves);
+        game.setMisere(true);
+        game.assignMove(2);
+        game.saveGame();
+
+        NimGame loaded = new NimGame(player1, player2, saves);
+        loaded.loadGame(1);
+
+        assertTrue(loaded.isMisere());
+        assertEquals(8, loaded.getMatchStickSize());
+
+        // Saves from before misère mode have no column for it.
+        assertFalse(NimGame.isMisereSave(new String[]{"1", "date", "8", "false", "2"}));
+    }
+}
@@ -0,0 +1,111 @@
+package org.keglez;
+
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NimMetricsTest
+{
+    /**
+     *  Ensure that moves are counted per strategy.
+     */
+    @Test
+    void testRecordingMoves()
+    {
+        // Setup environment.
+        NimMetrics metrics = new NimMetrics();
+        metrics.recordMove(new ModuloStrategy());
+        metrics.recordMove(new ModuloStrategy());
+        metrics.recordMove(new RandomStrategy());
+
+        assertEquals(3, metrics.getMovesMade());
+        assertEquals(2, metrics.getMovesByStrategy().get(ModuloStrategy.class.getName()));
+        assertEquals(1, metrics.getMovesByStrategy().get(RandomStrategy.class.getName()));
+    }
+
+
+    /**
+     *  Ensure that games, wins and saves are counted.
+     */
+    @Test
+    void testRecordingGamesAndSaves()
+    {
+        // Setup environment.
+        NimMetrics metrics = new NimMetrics();
+        metrics.recordGameCompleted(true);
+        metrics.recordGameCompleted(false);
+        metrics.recordGameCompleted(false);
+        metrics.recordSave(40, 2_000_000);
+
+        assertEquals(3, metrics.getGamesCompleted());
+        assertEquals(1, metrics.getHumanWins());
+        assertEquals(2, metrics.getComputerWins());
+        assertEquals(1, metrics.getSaves());
+        assertEquals(40, metrics.getBytesWritten());
+        assertEquals(2.0, metrics.getSaveLatencyMaxMillis(), 0.001);
+
+        // Reset everything.
+        metrics.reset();
+        assertEquals(0, metrics.getGamesCompleted());
+    }
+
+
+    /**
+     *  Ensure that no moves are lost when many threads record at once.
+     */
+    @Test
+    void testConcurrentRecording() throws InterruptedException
+    {
+        // Setup environment.
+        NimMetrics metrics = new NimMetrics();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        MoveStrategy strategy = new PreDefinedStrategy();
+
+        for (int thread = 0; thread < 4; thread++)
+        {
+            executor.execute(() ->
+            {
+                for (int i = 0; i < 100_000; i++)
+                {
+                    metrics.recordMove(strategy);
+                }
+            });
+        }
+
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        assertEquals(400_000, metrics.getMovesMade());
+    }
+
+
+    /**
+     *  Ensure that the shared metrics are registered with JMX, and that finishing a game is counted.
+     */
+    @Test
+    void testRegisteredWithJmx() throws Exception
+    {
+        // Setup environment.
+        NimMetrics metrics = NimMetrics.getInstance();
+        long completed = metrics.getGamesCompleted();
+
+        NimGame game = new NimGame(
+                new Player("Human", new HumanUserStrategy()),
+                new Player("Computer", new RandomStrategy()),
+                null);
+        game.assignMove(9);
+        game.assignMove(1);
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(NimMetrics.OBJECT_NAME);
+
+        assertTrue(server.isRegistered(name));
+        assertTrue((Long) server.getAttribute(name, "GamesCompleted") >= completed + 1);
+    }
+}
@@ -0,0 +1,87 @@
+package org.keglez;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+/**
+ *  This class measures the bytes allocated and the wall time of an operation
+ *  on the current thread, and fails the test when they go over budget.
+ *
+ *  Budgets can be changed without editing the tests, with the system properties
+ *  <code>nim.budget.&lt;name&gt;.bytes</code> and <code>nim.budget.&lt;name&gt;.millis</code>.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+class PerformanceBudget
+{
+    // Class attributes.
+    private final String name;
+    private final long maxBytes;
+    private final long maxMillis;
+
+
+    /**
+     *  Construct a new budget.
+     *
+     *  @param name The name of the budget, used for the system properties.
+     *  @param defaultBytes The default allocation budget in bytes.
+     *  @param defaultMillis The default time budget in milliseconds.
+     */
+    PerformanceBudget(String name, long defaultBytes, long defaultMillis)
+    {
+        this.name = name;
+        this.maxBytes = Long.getLong("nim.budget." + name + ".bytes", defaultBytes);
+        this.maxMillis = Long.getLong("nim.budget." + name + ".millis", defaultMillis);
+    }
+
+
+    /**
+     *  Run an operation once to warm it up, then measure a second run against
+     *  the budget.
+     *
+     *  @param operation The operation to measure.
+     */
+    void check(Runnable operation)
+    {
+        com.sun.management.ThreadMXBean threads = threadBean();
+        long threadId = Thread.currentThread().threadId();
+
+        // Warm up, so the JIT compiler has a chance to optimise the operation.
+        operation.run();
+
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+
+        operation.run();
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+
+        assertTrue(allocated <= maxBytes,
+                name + " allocated " + allocated + " bytes, over its budget of " + maxBytes + " bytes");
+        assertTrue(elapsedMillis <= maxMillis,
+                name + " took " + elapsedMillis + " ms, over its budget of " + maxMillis + " ms");
+    }
+
+
+    /**
+     *  Get the thread bean, skipping the test if allocation can't be measured.
+     *
+     *  @return Thread bean.
+     */
+    private static com.sun.management.ThreadMXBean threadBean()
+    {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "Allocation measurement is not supported by this JVM");
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "Allocation measurement is not supported by this JVM");
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        return threads;
+    }
+}
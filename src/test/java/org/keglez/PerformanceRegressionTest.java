@@ -0,0 +1,134 @@
+package org.keglez;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class PerformanceRegressionTest
+{
+    // Number of operations measured by each test.
+    private static final int OPERATIONS = 1_000_000;
+
+    // Stops the JIT compiler from removing the measured calls.
+    private static int sink;
+
+
+    /**
+     *  Make sure a million moves from a strategy stay allocation-free and fast.
+     *
+     *  @param name The name of the budget.
+     *  @param strategy The strategy to measure.
+     */
+    private static void checkStrategy(String name, MoveStrategy strategy)
+    {
+        new PerformanceBudget(name, 256 * 1024, 1_000).check(() ->
+        {
+            int total = 0;
+
+            for (int i = 0; i < OPERATIONS; i++)
+            {
+                total += strategy.NextMove(i % 10 + 1);
+            }
+
+            sink += total;
+        });
+    }
+
+
+    /**
+     *  Ensure that the random strategy stays within its budget.
+     */
+    @Test
+    void testRandomStrategyBudget()
+    {
+        checkStrategy("random", new RandomStrategy());
+    }
+
+
+    /**
+     *  Ensure that the modulo strategy stays within its budget.
+     */
+    @Test
+    void testModuloStrategyBudget()
+    {
+        checkStrategy("modulo", new ModuloStrategy());
+    }
+
+
+    /**
+     *  Ensure that the pre-defined strategy stays within its budget.
+     */
+    @Test
+    void testPreDefinedStrategyBudget()
+    {
+        checkStrategy("predefined", new PreDefinedStrategy());
+    }
+
+
+    /**
+     *  Ensure that making a million moves stays within its budget. Every move
+     *  adds one node to the game's history, so it is allowed ~100 bytes a move.
+     *  The computer is adaptive, so the human's moves are observed as well.
+     */
+    @Test
+    void testAssignMoveBudget()
+    {
+        NimGame game = new NimGame(
+                new Player("Human", new HumanUserStrategy()),
+                new Player("Computer", new AdaptiveStrategy()),
+                null);
+
+        new PerformanceBudget("assignMove", 100L * OPERATIONS, 2_000).check(() ->
+        {
+            for (int i = 0; i < OPERATIONS; i++)
+            {
+                if (game.checkWinner())
+                {
+                    game.resetGame();
+                }
+
+                game.assignMove(1);
+            }
+
+            sink += game.getMatchStickSize();
+        });
+    }
+
+
+    /**
+     *  Ensure that working out a genome's fitness doesn't allocate, so large
+     *  populations can be evaluated every generation.
+     */
+    @Test
+    void testGeneticFitnessBudget()
+    {
+        GeneticOptimizer optimizer = new GeneticOptimizer(NimRules.STANDARD, 10, 10, List.of(), 1, 1);
+        byte[] genome = {1, 2, 1, 1, 2, 1, 2, 1, 1, 2};
+        MoveStrategy[] opponents = {new RandomStrategy(1), new ModuloStrategy(), new OptimalStrategy()};
+
+        new PerformanceBudget("geneticFitness", 256 * 1024, 2_000).check(() ->
+        {
+            double total = 0;
+
+            for (int i = 0; i < 10_000; i++)
+            {
+                total += optimizer.evaluate(genome, 0, opponents);
+            }
+
+            sink += (int) total;
+        });
+    }
+
+
+    /**
+     *  Ensure that evolving a generation only allocates a small, fixed amount,
+     *  however many games are played to score it.
+     */
+    @Test
+    void testGeneticGenerationBudget()
+    {
+        GeneticOptimizer optimizer = new GeneticOptimizer(NimRules.STANDARD, 10, 500, List.of(new ModuloStrategy(), new OptimalStrategy()), 4, 1);
+
+        new PerformanceBudget("geneticGeneration", 256 * 1024, 5_000).check(() -> sink += optimizer.evolve(5).NextMove(10));
+    }
+}
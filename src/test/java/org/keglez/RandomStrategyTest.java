@@ -100,4 +100,63 @@ class RandomStrategyTest
             loop++;
         }
     }
-}
\ No newline at end of file
+
+
+    /**
+     *  Strategies with the same seed should make the same moves, and their splits should too.
+     */
+    @Test
+    void testSeededMovesRepeat()
+    {
+        // Setup environment.
+        RandomStrategy first = new RandomStrategy(42);
+        RandomStrategy second = new RandomStrategy(42);
+        RandomStrategy firstSplit = first.split();
+        RandomStrategy secondSplit = second.split();
+
+        for (int i = 0; i < 100; i++)
+        {
+            assertEquals(first.NextMove(10), second.NextMove(10));
+            assertEquals(firstSplit.NextMove(10), secondSplit.NextMove(10));
+        }
+
+        assertTrue(first.isSeeded());
+        assertFalse(strategy.isSeeded());
+    }
+
+
+    /**
+     *  Batch moves should follow the same rules as single moves.
+     */
+    @Test
+    void testBatchMoves()
+    {
+        // Setup environment.
+        int[] piles = new int[200];
+
+        for (int i = 0; i < piles.length; i++)
+        {
+            piles[i] = i % 5 - 1;
+        }
+
+        int[] out = new int[piles.length];
+        new RandomStrategy(7).nextMoves(piles, out, piles.length);
+
+        boolean tookTwo = false;
+
+        for (int i = 0; i < piles.length; i++)
+        {
+            if (piles[i] > 1)
+            {
+                assertTrue(out[i] == 1 || out[i] == 2);
+                tookTwo |= out[i] == 2;
+            }
+            else
+            {
+                assertEquals(piles[i] == 1 ? 1 : 0, out[i]);
+            }
+        }
+
+        assertTrue(tookTwo);
+    }
+}
@@ -0,0 +1,72 @@
+package org.keglez;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayRendererTest
+{
+    @TempDir
+    Path output;
+
+
+    /**
+     *  Ensure that a frame is written for the start of the game and after each move.
+     */
+    @Test
+    void testRenderingGame() throws IOException
+    {
+        // Setup environment.
+        ReplayRenderer renderer = new ReplayRenderer(output, 200, 160);
+
+        // Three moves, so four frames.
+        int frames = renderer.renderGame("1", false, "212");
+        assertEquals(4, frames);
+
+        // Check the frames are readable images of the right size.
+        BufferedImage frame = ImageIO.read(output.resolve("save-1/frame-003.png").toFile());
+        assertEquals(200, frame.getWidth());
+        assertEquals(160, frame.getHeight());
+    }
+
+
+    /**
+     *  Ensure that a save without any moves only renders the starting position.
+     */
+    @Test
+    void testRenderingEmptyGame() throws IOException
+    {
+        // Setup environment.
+        ReplayRenderer renderer = new ReplayRenderer(output, 200, 160);
+
+        assertEquals(1, renderer.renderGame("2", true, "0"));
+    }
+
+
+    /**
+     *  Ensure that every save is rendered when rendering in parallel.
+     */
+    @Test
+    void testRenderingAllGames() throws IOException
+    {
+        // Setup environment.
+        ReplayRenderer renderer = new ReplayRenderer(output, 200, 160);
+        List<String[]> saves = List.of(
+                new String[]{"ID", "Date", "Marble Size", "Human Turn", "Moves"},
+                new String[]{"1", "2025-01-23-10-00-00", "6", "true", "22"},
+                new String[]{"2", "2025-01-23-10-00-00", "0", "false", "2121211"});
+
+        int frames = renderer.renderAll(saves, 2);
+
+        assertEquals(3 + 8, frames);
+        assertTrue(Files.exists(output.resolve("save-2/frame-007.png")));
+    }
+}
@@ -0,0 +1,101 @@
+package org.keglez;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StrategyCompilerTest
+{
+    /**
+     *  Ensure that a compiled strategy makes the same moves as the original,
+     *  inside the table and beyond it.
+     */
+    @Test
+    void testCompiledMatchesOriginal()
+    {
+        // Setup environment.
+        MoveStrategy[] strategies = {new OptimalStrategy(), new ModuloStrategy(), new PreDefinedStrategy()};
+
+        for (MoveStrategy original : strategies)
+        {
+            CompiledStrategy compiled = StrategyCompiler.compile(original, 100);
+
+            for (int pile = 0; pile <= 10_000; pile++)
+            {
+                assertEquals(original.NextMove(pile), compiled.NextMove(pile), original.getClass().getSimpleName() + " from " + pile);
+            }
+        }
+    }
+
+
+    /**
+     *  Ensure that the repeating part of a table is found.
+     */
+    @Test
+    void testFindsPeriod()
+    {
+        // Setup environment.
+        CompiledStrategy optimal = StrategyCompiler.compile(new OptimalStrategy(), 100);
+        CompiledStrategy modulo = StrategyCompiler.compile(new ModuloStrategy(), 100);
+
+        assertEquals(3, optimal.getPeriod());
+        assertEquals(1, optimal.getPeriodStart());
+        assertEquals(2, modulo.getPeriod());
+        assertEquals(2, modulo.getPeriodStart());
+
+        // Without a pattern, piles beyond the table take 1.
+        assertEquals(0, StrategyCompiler.findPeriod(new byte[]{1, 2, 2, 1, 1, 1, 2, 2, 2, 1})[1]);
+    }
+
+
+    /**
+     *  Ensure that strategies which aren't deterministic can't be compiled.
+     */
+    @Test
+    void testRejectsRandomStrategies()
+    {
+        assertThrows(IllegalArgumentException.class, () -> StrategyCompiler.compile(new RandomStrategy(), 10));
+    }
+
+
+    /**
+     *  Ensure that a saved table maps back to the same moves.
+     */
+    @Test
+    void testSaveAndLoad(@TempDir Path directory) throws IOException
+    {
+        // Setup environment.
+        Path path = directory.resolve("optimal.nimt");
+        StrategyCompiler.compile(new OptimalStrategy(), 1000).save(path);
+
+        CompiledStrategy loaded = CompiledStrategy.load(path);
+
+        assertEquals(1000, loaded.getMaxPile());
+        assertEquals(3, loaded.getPeriod());
+        assertEquals(20 + 1001, Files.size(path));
+
+        for (int pile = 0; pile <= 5000; pile++)
+        {
+            assertEquals(new OptimalStrategy().NextMove(pile), loaded.NextMove(pile));
+        }
+    }
+
+
+    /**
+     *  Ensure that loading a file which isn't a compiled strategy fails.
+     */
+    @Test
+    void testRejectsOtherFiles(@TempDir Path directory) throws IOException
+    {
+        // Setup environment.
+        Path path = directory.resolve("other.nimt");
+        Files.writeString(path, "not a compiled strategy at all");
+
+        assertThrows(IOException.class, () -> CompiledStrategy.load(path));
+    }
+}
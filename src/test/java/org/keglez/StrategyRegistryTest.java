@@ -0,0 +1,165 @@
+package org.keglez;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StrategyRegistryTest
+{
+    /**
+     *  Ensure that the built in strategies are found by the service loader.
+     */
+    @Test
+    void testBuiltInStrategiesFound()
+    {
+        // Setup environment.
+        StrategyRegistry registry = StrategyRegistry.getInstance();
+
+        assertInstanceOf(RandomStrategy.class, registry.get("Random"));
+        assertInstanceOf(ModuloStrategy.class, registry.get("modulo"));
+        assertInstanceOf(PreDefinedStrategy.class, registry.get("PREDEFINED"));
+        assertNull(registry.get("Unknown"));
+    }
+
+
+    /**
+     *  Ensure that strategies can be found by CLI key and game mode.
+     */
+    @Test
+    void testLookupByKeyAndDifficulty()
+    {
+        // Setup environment.
+        StrategyRegistry registry = StrategyRegistry.getInstance();
+
+        assertEquals("Random", registry.getProviderByKey("r").getName());
+        assertEquals("PreDefined", registry.getProviderByKey("Y").getName());
+        assertEquals("Modulo", registry.getProvider(GameMode.MEDIUM).getName());
+        assertEquals("PreDefined", registry.getProvider(GameMode.HARD).getName());
+
+        // Every strategy for a game mode can be listed, not just the first.
+        List<String> hard = registry.getProviders(GameMode.HARD).stream().map(StrategyProvider::getName).toList();
+        assertEquals("PreDefined", hard.getFirst());
+        assertTrue(hard.containsAll(List.of("Optimal", "Learned", "MCTS", "Adaptive", "Anytime", "Tablebase")));
+    }
+
+
+    /**
+     *  Ensure that stateless strategies are shared, and others are created each time.
+     */
+    @Test
+    void testStatelessStrategiesShared()
+    {
+        // Setup environment.
+        StrategyRegistry registry = StrategyRegistry.getInstance();
+
+        assertSame(registry.get("Modulo"), registry.get("Modulo"));
+        assertSame(registry.get("Random"), registry.get("Random"));
+        assertNotSame(registry.get("MCTS"), registry.get("MCTS"));
+    }
+
+
+    /**
+     *  Ensure that strategies are only created when they are first asked for.
+     */
+    @Test
+    void testStrategiesCreatedLazily()
+    {
+        // Setup environment.
+        int[] created = new int[1];
+        StrategyProvider counted = new StrategyProviders.Modulo()
+        {
+            @Override
+            public MoveStrategy create()
+            {
+                created[0]++;
+                return super.create();
+            }
+        };
+
+        StrategyRegistry registry = new StrategyRegistry(List.of(counted));
+        assertEquals(0, created[0]);
+
+        registry.get("Modulo");
+        registry.get("Modulo");
+        assertEquals(1, created[0]);
+    }
+
+
+    /**
+     *  Ensure that when two providers share a name, the first is kept.
+     */
+    @Test
+    void testDuplicateNameIgnored()
+    {
+        // Setup environment.
+        StrategyProvider duplicate = new StrategyProviders.Modulo()
+        {
+            @Override
+            public MoveStrategy create()
+            {
+                return new RandomStrategy();
+            }
+        };
+
+        StrategyRegistry registry = new StrategyRegistry(List.of(new StrategyProviders.Modulo(), duplicate));
+
+        assertEquals(1, registry.getProviders().size());
+        assertInstanceOf(ModuloStrategy.class, registry.get("Modulo"));
+    }
+
+
+    /**
+     *  Ensure that each set of rules has its own shared strategies.
+     */
+    @Test
+    void testStrategiesKeptForEachRules()
+    {
+        // Setup environment.
+        StrategyRegistry registry = StrategyRegistry.getInstance();
+        MoveStrategy misere = registry.get("Optimal", NimRules.MISERE);
+
+        assertSame(misere, registry.get("Optimal", NimRules.MISERE));
+        assertNotSame(misere, registry.get("Optimal"));
+        assertSame(registry.get("Optimal"), registry.get("Optimal", NimRules.STANDARD));
+
+        // A pile of 2 is won by taking 2 normally, but 1 in misère play.
+        assertEquals(2, registry.get("Optimal").NextMove(2));
+        assertEquals(1, misere.NextMove(2));
+    }
+
+
+    /**
+     *  Ensure that strategies which only know the standard rules are replaced
+     *  by one that plays the chosen rules without blundering.
+     */
+    @Test
+    void testProviderForRules()
+    {
+        // Setup environment.
+        StrategyRegistry registry = StrategyRegistry.getInstance();
+        StrategyProvider modulo = registry.getProvider("Modulo");
+        StrategyProvider preDefined = registry.getProvider("PreDefined");
+
+        assertSame(modulo, registry.getProviderFor(modulo, NimRules.STANDARD));
+        assertFalse(modulo.supports(NimRules.MISERE));
+        assertFalse(preDefined.supports(NimRules.MISERE));
+        assertTrue(registry.getProvider("Random").supports(NimRules.MISERE));
+
+        // Hard is replaced by another hard strategy, which plays misère perfectly.
+        StrategyProvider hard = registry.getProviderFor(preDefined, NimRules.MISERE);
+        assertEquals(GameMode.HARD, hard.getDifficulty());
+
+        MoveStrategy strategy = registry.get(hard.getName(), NimRules.MISERE);
+        NimSolver solver = NimSolver.forRules(NimRules.MISERE);
+
+        for (int pile = 1; pile <= 30; pile++)
+        {
+            assertFalse(solver.isBlunder(pile, strategy.NextMove(pile)), "Blunder from " + pile);
+        }
+
+        // Medium has nothing else, so a harder strategy plays instead.
+        assertTrue(registry.getProviderFor(modulo, NimRules.MISERE).supports(NimRules.MISERE));
+    }
+}
@@ -0,0 +1,115 @@
+package org.keglez;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StrategyVerifierTest
+{
+    /**
+     *  Ensure that the solver agrees with the multiples of 3 rule, and solves variants.
+     */
+    @Test
+    void testSolver()
+    {
+        // Setup environment.
+        NimSolver standard = NimSolver.forRules(NimRules.STANDARD);
+        NimSolver variant = NimSolver.forRules(new NimRules(1, 3, 4));
+
+        for (int pile = 0; pile <= 1000; pile++)
+        {
+            assertEquals(pile % 3 != 0, standard.isWin(pile), "Pile of " + pile);
+
+            // With 1, 3 or 4, the lost piles are those leaving 0 or 2 after dividing by 7.
+            assertEquals(pile % 7 != 0 && pile % 7 != 2, variant.isWin(pile), "Pile of " + pile);
+        }
+
+        assertEquals(2, standard.getWinningMove(5));
+        assertEquals(0, standard.getWinningMove(6));
+        assertEquals(1, standard.getBestMove(6));
+        assertSame(standard, NimSolver.forRules(new NimRules(2, 1)));
+    }
+
+
+    /**
+     *  Ensure that the optimal strategy has no blunders, and wins every won pile.
+     */
+    @Test
+    void testOptimalStrategy()
+    {
+        // Setup environment.
+        StrategyVerifier.Report report = new StrategyVerifier(NimRules.STANDARD, 300, 5, 1).verify(OptimalStrategy::new);
+
+        assertEquals(0, report.getBlunderPiles().length);
+        assertEquals(0, report.getIllegalPiles().length);
+        assertEquals(1.0, report.getAccuracy());
+
+        for (int pile = 1; pile <= 300; pile++)
+        {
+            assertEquals(pile % 3 != 0 ? 1.0 : 0.0, report.getWinRate(pile), "Pile of " + pile);
+        }
+    }
+
+
+    /**
+     *  Ensure that the pre-defined strategy's losing moves and empty moves are found.
+     */
+    @Test
+    void testPreDefinedStrategy()
+    {
+        // Setup environment.
+        StrategyVerifier.Report report = new StrategyVerifier(NimRules.STANDARD, 20, 1, 1).verify(PreDefinedStrategy::new);
+
+        assertArrayEquals(new int[]{7, 8, 10}, report.getBlunderPiles());
+        assertArrayEquals(new int[]{11, 12, 13, 14, 15, 16, 17, 18, 19, 20}, report.getIllegalPiles());
+        assertEquals(1.0, report.getWinRate(5));
+        assertEquals(0.0, report.getWinRate(7));
+    }
+
+
+    /**
+     *  Ensure that a random strategy's blunders are sampled, and the same seed gives the same report.
+     */
+    @Test
+    void testRandomStrategy()
+    {
+        // Setup environment.
+        StrategyVerifier verifier = new StrategyVerifier(NimRules.STANDARD, 30, 200, 9);
+        StrategyVerifier.Report first = verifier.verify(RandomStrategy::new);
+        StrategyVerifier.Report second = verifier.verify(RandomStrategy::new);
+
+        // From a pile of 4 only taking 1 wins, so about half the moves are blunders.
+        assertEquals(0.5, first.getBlunderRate(4), 0.15);
+        assertEquals(0.0, first.getBlunderRate(3));
+        assertEquals(1.0, first.getWinRate(1));
+        assertArrayEquals(first.getBlunderPiles(), second.getBlunderPiles());
+        assertEquals(first.getWinRate(5), second.getWinRate(5));
+    }
+
+
+    /**
+     *  Ensure that misère play is solved separately, with the lost piles one more than a multiple of 3.
+     */
+    @Test
+    void testMisereSolver()
+    {
+        // Setup environment.
+        NimSolver misere = NimSolver.forRules(NimRules.MISERE);
+
+        for (int pile = 0; pile <= 1000; pile++)
+        {
+            assertEquals(pile % 3 != 1, misere.isWin(pile), "Pile of " + pile);
+        }
+
+        assertNotSame(NimSolver.forRules(NimRules.STANDARD), misere);
+        assertSame(misere, NimSolver.forRules(new NimRules(true, 2, 1)));
+
+        // The optimal strategy knows the misère rule.
+        StrategyVerifier.Report report = new StrategyVerifier(NimRules.MISERE, 300, 1, 1).verify(() -> new OptimalStrategy(true));
+
+        assertEquals(0, report.getBlunderPiles().length);
+        assertEquals(1.0, report.getAccuracy());
+        assertEquals(0.0, report.getWinRate(1));
+        assertEquals(1.0, report.getWinRate(2));
+    }
+}
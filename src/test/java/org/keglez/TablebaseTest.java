@@ -0,0 +1,185 @@
+package org.keglez;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TablebaseTest
+{
+    /**
+     *  Ensure that a single pile tablebase agrees with the solver, and has the right distances.
+     */
+    @Test
+    void testSinglePile()
+    {
+        // Setup environment.
+        NimRules rules = new NimRules(1, 3, 4);
+        Tablebase tablebase = Tablebase.generate(rules, 1, 500);
+        NimSolver solver = NimSolver.forRules(rules);
+
+        for (int pile = 0; pile <= 500; pile++)
+        {
+            int expected = solver.isWin(pile) ? Tablebase.WIN : Tablebase.LOSS;
+            assertEquals(expected, tablebase.getResult(tablebase.index(pile)), "Pile of " + pile);
+        }
+
+        // Under the standard rules, 4 is won by leaving 3, which lasts 2 more moves.
+        Tablebase standard = Tablebase.generate(NimRules.STANDARD, 1, 10);
+        assertEquals(0, standard.getDistance(0));
+        assertEquals(1, standard.getDistance(2));
+        assertEquals(2, standard.getDistance(3));
+        assertEquals(3, standard.getDistance(4));
+        assertArrayEquals(new int[]{0, 1}, standard.getBestMove(4));
+        assertNull(standard.getBestMove(0));
+
+        // The amount alone matches the full move, without allocating an array.
+        for (int pile = 1; pile <= 500; pile++)
+        {
+            assertEquals(tablebase.getBestMove(pile)[1], tablebase.getBestMoveAmount(pile), "Pile of " + pile);
+        }
+
+        assertEquals(0, standard.getBestMoveAmount(0));
+    }
+
+
+    /**
+     *  Ensure that positions with several piles are solved, using the
+     *  Sprague-Grundy theorem: a pile of n under the standard rules is worth
+     *  n mod 3, and a position is won when the piles' values XOR to anything but 0.
+     */
+    @Test
+    void testMultiplePiles()
+    {
+        // Setup environment.
+        Tablebase tablebase = Tablebase.generate(NimRules.STANDARD, 3, 20);
+        assertEquals(21 * 21 * 21, tablebase.getPositionCount());
+
+        for (int a = 0; a <= 20; a++)
+        {
+            for (int b = 0; b <= 20; b++)
+            {
+                for (int c = 0; c <= 20; c++)
+                {
+                    int expected = ((a % 3) ^ (b % 3) ^ (c % 3)) != 0 ? Tablebase.WIN : Tablebase.LOSS;
+                    int index = tablebase.index(a, b, c);
+
+                    assertEquals(expected, tablebase.getResult(index), a + ", " + b + ", " + c);
+                    assertEquals(b, tablebase.getPile(index, 1));
+                }
+            }
+        }
+    }
+
+
+    /**
+     *  Ensure that a saved tablebase maps back to the same results.
+     */
+    @Test
+    void testSaveAndLoad(@TempDir Path directory) throws IOException
+    {
+        // Setup environment.
+        Path path = directory.resolve("variant.nimb");
+        Tablebase original = Tablebase.generate(new NimRules(2, 5), 2, 50);
+        original.save(path);
+
+        Tablebase loaded = Tablebase.load(path);
+
+        assertEquals(2, loaded.getPileCount());
+        assertEquals(50, loaded.getMaxPile());
+        assertEquals(original.getRules(), loaded.getRules());
+
+        for (int index = 0; index < original.getPositionCount(); index++)
+        {
+            assertEquals(original.getResult(index), loaded.getResult(index));
+            assertEquals(original.getDistance(index), loaded.getDistance(index));
+        }
+
+        Files.writeString(path, "not a tablebase");
+        assertThrows(IOException.class, () -> Tablebase.load(path));
+    }
+
+
+    /**
+     *  Ensure that a tablebase with a corrupt header is rejected with an
+     *  <code>IOException</code>, rather than an unchecked exception.
+     */
+    @Test
+    void testLoadRejectsCorruptHeaders(@TempDir Path directory) throws IOException
+    {
+        // Setup environment.
+        Path path = directory.resolve("standard.nimb");
+        Tablebase.generate(NimRules.STANDARD, 1, 20).save(path);
+        byte[] saved = Files.readAllBytes(path);
+
+        // The move count, pile count and largest pile are each replaced in turn.
+        int[][] corruptions = {{20, -1}, {20, Integer.MAX_VALUE}, {8, 0}, {12, 1_000_000}, {12, -5}};
+
+        for (int[] corruption : corruptions)
+        {
+            byte[] corrupt = saved.clone();
+            ByteBuffer.wrap(corrupt).order(ByteOrder.LITTLE_ENDIAN).putInt(corruption[0], corruption[1]);
+            Files.write(path, corrupt);
+
+            assertThrows(IOException.class, () -> Tablebase.load(path), "Offset " + corruption[0]);
+        }
+    }
+
+
+    /**
+     *  Ensure that the tablebase strategy never blunders, including in a variant.
+     */
+    @Test
+    void testStrategy()
+    {
+        // Setup environment.
+        TablebaseStrategy standard = new TablebaseStrategy(Tablebase.generate(NimRules.STANDARD, 1, 200));
+        NimRules variant = new NimRules(1, 3, 4);
+        TablebaseStrategy strategy = new TablebaseStrategy(Tablebase.generate(variant, 1, 200));
+
+        for (int pile = 1; pile <= 200; pile++)
+        {
+            assertEquals(new OptimalStrategy().NextMove(pile), standard.NextMove(pile), "Pile of " + pile);
+        }
+
+        StrategyVerifier.Report report = new StrategyVerifier(variant, 200, 1, 1).verify(() -> strategy);
+        assertEquals(0, report.getBlunderPiles().length);
+        assertEquals(1.0, report.getAccuracy());
+        assertEquals(1, standard.NextMove(1000));
+        assertEquals(0, standard.NextMove(0));
+
+        assertThrows(IllegalArgumentException.class, () -> new TablebaseStrategy(Tablebase.generate(NimRules.STANDARD, 2, 5)));
+    }
+
+
+    /**
+     *  Ensure that a misère tablebase agrees with the solver, and keeps its rules when saved.
+     */
+    @Test
+    void testMisere(@TempDir Path directory) throws IOException
+    {
+        // Setup environment.
+        Path path = directory.resolve("misere.nimb");
+        NimRules rules = new NimRules(true, 1, 3, 4);
+        NimSolver solver = NimSolver.forRules(rules);
+        Tablebase tablebase = Tablebase.generate(rules, 1, 200);
+        tablebase.save(path);
+
+        for (int pile = 0; pile <= 200; pile++)
+        {
+            int expected = solver.isWin(pile) ? Tablebase.WIN : Tablebase.LOSS;
+            assertEquals(expected, tablebase.getResult(pile), "Pile of " + pile);
+        }
+
+        assertEquals(rules, Tablebase.load(path).getRules());
+
+        StrategyVerifier.Report report = new StrategyVerifier(rules, 200, 1, 1).verify(() -> new TablebaseStrategy(tablebase));
+        assertEquals(0, report.getBlunderPiles().length);
+    }
+}
@@ -0,0 +1,107 @@
+package org.keglez;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ThumbnailCacheTest
+{
+    @TempDir
+    Path directory;
+
+
+    /**
+     *  Ensure that a rendered thumbnail has the thumbnail size, and is stored on disk.
+     */
+    @Test
+    void testRenderingThumbnail() throws IOException
+    {
+        // Setup environment.
+        ThumbnailCache cache = new ThumbnailCache(directory, 4);
+        String[] save = {"1", "2025-01-23-10-00-00", "6", "true", "22"};
+
+        BufferedImage thumbnail = cache.getThumbnail(save);
+
+        assertEquals(ThumbnailCache.WIDTH, thumbnail.getWidth());
+        assertEquals(ThumbnailCache.HEIGHT, thumbnail.getHeight());
+        assertTrue(Files.exists(directory.resolve(ThumbnailCache.key(save) + ".png")));
+    }
+
+
+    /**
+     *  Ensure that the memory cache never holds more than its maximum size.
+     */
+    @Test
+    void testMemoryCacheIsBounded() throws IOException
+    {
+        // Setup environment.
+        ThumbnailCache cache = new ThumbnailCache(directory, 2);
+
+        for (int i = 1; i <= 5; i++)
+        {
+            cache.getThumbnail(new String[]{String.valueOf(i), "2025-01-23-10-00-00", "8", "true", "2"});
+        }
+
+        assertEquals(2, cache.size());
+    }
+
+
+    /**
+     *  Ensure that the key changes when the content of a save changes.
+     */
+    @Test
+    void testKeyDependsOnContent()
+    {
+        String[] first = {"1", "2025-01-23-10-00-00", "8", "true", "2"};
+        String[] second = {"1", "2025-01-23-10-00-00", "7", "false", "21"};
+
+        assertNotEquals(ThumbnailCache.key(first), ThumbnailCache.key(second));
+
+        // These moves have the same String.hashCode, so a 32-bit hash would mix them up.
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        String[] third = {"1", "2025-01-23-10-00-00", "8", "true", "Aa"};
+        String[] fourth = {"1", "2025-01-23-10-00-00", "8", "true", "BB"};
+
+        assertNotEquals(ThumbnailCache.key(third), ThumbnailCache.key(fourth));
+        assertTrue(ThumbnailCache.key(third).startsWith("1-"));
+    }
+
+
+    /**
+     *  Ensure that thumbnails are loaded from the disk cache by a new cache, rather than rendered again.
+     */
+    @Test
+    void testLoadingFromDisk() throws IOException
+    {
+        // Setup environment.
+        String[] save = {"3", "2025-01-23-10-00-00", "4", "true", "2211"};
+        new ThumbnailCache(directory, 4).getThumbnail(save);
+
+        Path file = directory.resolve(ThumbnailCache.key(save) + ".png");
+        assertTrue(Files.exists(file));
+
+        // Replace the stored thumbnail with a solid red one, which rendering would never make.
+        BufferedImage marker = new BufferedImage(ThumbnailCache.WIDTH, ThumbnailCache.HEIGHT, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = marker.createGraphics();
+        graphics.setColor(Color.RED);
+        graphics.fillRect(0, 0, ThumbnailCache.WIDTH, ThumbnailCache.HEIGHT);
+        graphics.dispose();
+        ImageIO.write(marker, "png", file.toFile());
+
+        // A new cache has an empty memory cache, so it must read from disk.
+        ThumbnailCache cache = new ThumbnailCache(directory, 4);
+        BufferedImage thumbnail = cache.getThumbnail(save);
+
+        assertEquals(ThumbnailCache.WIDTH, thumbnail.getWidth());
+        assertEquals(Color.RED.getRGB(), thumbnail.getRGB(ThumbnailCache.WIDTH / 2, ThumbnailCache.HEIGHT / 2));
+        assertEquals(1, cache.size());
+    }
+}
@@ -0,0 +1,116 @@
+package org.keglez;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TournamentTest
+{
+    /**
+     *  Ensure that the player who takes the last match stick wins.
+     */
+    @Test
+    void testPlayGame()
+    {
+        // Setup environment. Both players always take 1, so the first player takes the last of 3.
+        MoveStrategy takeOne = pile -> 1;
+
+        assertTrue(Tournament.playGame(takeOne, takeOne, 3));
+        assertFalse(Tournament.playGame(takeOne, takeOne, 4));
+    }
+
+
+    /**
+     *  Ensure that a player who makes an illegal move forfeits.
+     */
+    @Test
+    void testIllegalMoveForfeits()
+    {
+        // Setup environment.
+        MoveStrategy takeOne = pile -> 1;
+        MoveStrategy takeNone = pile -> 0;
+
+        assertFalse(Tournament.playGame(takeNone, takeOne, 5));
+        assertTrue(Tournament.playGame(takeOne, takeNone, 5));
+    }
+
+
+    /**
+     *  Ensure that every game is played, in both seat orders.
+     */
+    @Test
+    void testEveryGamePlayed()
+    {
+        // Setup environment.
+        Map<String, Supplier<MoveStrategy>> strategies = new LinkedHashMap<>();
+        strategies.put("Random", RandomStrategy::new);
+        strategies.put("Modulo", ModuloStrategy::new);
+        strategies.put("PreDefined", PreDefinedStrategy::new);
+
+        Tournament tournament = new Tournament(strategies, 1, 10, 50);
+        Tournament.Result result = tournament.run();
+
+        // 3 strategies give 6 ordered pairings, of 10 piles and 50 games each.
+        assertEquals(6 * 10 * 50, result.getTotalGames());
+        assertEquals(2 * tournament.gamesPerPairing(), result.getWins("Modulo", "PreDefined") + result.getWins("PreDefined", "Modulo"));
+    }
+
+
+    /**
+     *  Ensure that a stronger strategy is rated above a weaker one, with a finite confidence interval.
+     */
+    @Test
+    void testRatingsOrder()
+    {
+        // Setup environment. Illegal always forfeits, so it loses every game.
+        Map<String, Supplier<MoveStrategy>> strategies = new LinkedHashMap<>();
+        strategies.put("Illegal", () -> pile -> 0);
+        strategies.put("Modulo", ModuloStrategy::new);
+        strategies.put("PreDefined", PreDefinedStrategy::new);
+
+        Tournament.Result result = new Tournament(strategies, 1, 10, 10).run();
+
+        assertEquals(0, result.getWins("Illegal", "Modulo"));
+        assertTrue(result.getRating("Modulo") > result.getRating("Illegal"));
+        assertTrue(result.getRating("PreDefined") > result.getRating("Illegal"));
+        assertTrue(Double.isFinite(result.getConfidenceInterval("Illegal")));
+        assertTrue(result.getConfidenceInterval("Modulo") > 0);
+    }
+
+
+    /**
+     *  Ensure that two tournaments with the same seed give exactly the same results.
+     */
+    @Test
+    void testSameSeedSameResults()
+    {
+        // Setup environment.
+        Map<String, Supplier<MoveStrategy>> strategies = new LinkedHashMap<>();
+        strategies.put("Random", RandomStrategy::new);
+        strategies.put("Other Random", RandomStrategy::new);
+        strategies.put("Modulo", ModuloStrategy::new);
+
+        Tournament.Result first = new Tournament(strategies, 1, 20, 500, 1234).run();
+        Tournament.Result second = new Tournament(strategies, 1, 20, 500, 1234).run();
+
+        assertEquals(first.getWins("Random", "Other Random"), second.getWins("Random", "Other Random"));
+        assertEquals(first.getWins("Random", "Modulo"), second.getWins("Random", "Modulo"));
+        assertEquals(first.getRating("Random"), second.getRating("Random"));
+    }
+
+
+    /**
+     *  Ensure that a tournament needs at least two strategies.
+     */
+    @Test
+    void testTooFewStrategies()
+    {
+        Map<String, Supplier<MoveStrategy>> strategies = Map.of("Modulo", ModuloStrategy::new);
+
+        assertThrows(IllegalArgumentException.class, () -> new Tournament(strategies, 1, 10, 1));
+    }
+}
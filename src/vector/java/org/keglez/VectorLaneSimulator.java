@@ -0,0 +1,222 @@
+package org.keglez;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ *  This class plays batches of games with the Vector API. Each lane of a
+ *  vector is one game. Every step works out the move for all the lanes,
+ *  applies it, and then masks off the lanes whose games have finished.
+ *
+ *  Only <code>ModuloStrategy</code>, <code>PreDefinedStrategy</code> and
+ *  <code>OptimalStrategy</code> are pure arithmetic on the pile size, so only
+ *  they are run in lanes. Any other pairing falls back to the scalar
+ *  <code>BatchSimulator</code>. It is only compiled by the <code>vector</code>
+ *  profile, and is created through <code>LaneSimulator.create</code>.
+ *
+ *  @author Keegan Hinnigan
+ *  @since 19/10/2026
+ *  @version 1.0
+ */
+public class VectorLaneSimulator implements LaneSimulator
+{
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    // Strategies which can be run in lanes.
+    private static final int MODULO = 0;
+    private static final int PREDEFINED = 1;
+    private static final int OPTIMAL = 2;
+    private static final int UNSUPPORTED = -1;
+
+    // Bit n is set when PreDefinedStrategy takes 2 from a pile of n.
+    private static final int PREDEFINED_TWOS = (1 << 2) | (1 << 5) | (1 << 7) | (1 << 10);
+
+    // The largest pile the divide by 3 multiply is exact for.
+    private static final int MAX_OPTIMAL_PILE = 65535;
+
+    // Class attributes.
+    private final int capacity;
+    private final BatchSimulator fallback;
+
+
+    /**
+     *  Construct a new vector simulator.
+     *
+     *  @param capacity The most games played in one batch.
+     */
+    public VectorLaneSimulator(int capacity)
+    {
+        this.capacity = capacity;
+        this.fallback = new BatchSimulator(capacity);
+    }
+
+
+    /**
+     *  Play a batch of games to the end, a vector of games at a time.
+     *
+     *  @param first The strategy which moves first in every game.
+     *  @param second The strategy which moves second in every game.
+     *  @param startPiles The starting pile size of each game.
+     *  @param count The number of games.
+     *  @return The number of games the first strategy won.
+     */
+    @Override
+    public long play(MoveStrategy first, MoveStrategy second, int[] startPiles, int count)
+    {
+        if (count > capacity)
+        {
+            throw new IllegalArgumentException("A batch of " + count + " games is over the capacity of " + capacity);
+        }
+
+        int firstKind = kindOf(first);
+        int secondKind = kindOf(second);
+
+        if (firstKind == UNSUPPORTED || secondKind == UNSUPPORTED)
+        {
+            return fallback.play(first, second, startPiles, count);
+        }
+
+        long firstWins = 0;
+
+        for (int offset = 0; offset < count; offset += SPECIES.length())
+        {
+            VectorMask<Integer> inRange = SPECIES.indexInRange(offset, count);
+            IntVector piles = IntVector.fromArray(SPECIES, startPiles, offset, inRange);
+
+            // The multiply used for Optimal is only exact for smaller piles.
+            boolean needsDivide = firstKind == OPTIMAL || secondKind == OPTIMAL;
+
+            if (needsDivide && piles.reduceLanes(VectorOperators.MAX, inRange) > MAX_OPTIMAL_PILE)
+            {
+                firstWins += fallback.play(first, second, copyOf(startPiles, offset, inRange.trueCount()), inRange.trueCount());
+                continue;
+            }
+
+            firstWins += playLanes(piles, inRange, firstKind, secondKind);
+        }
+
+        return firstWins;
+    }
+
+
+    /**
+     *  Play one vector of games to the end.
+     *
+     *  @param piles The starting pile of each lane.
+     *  @param inRange The lanes which hold a game.
+     *  @param firstKind The strategy which moves first.
+     *  @param secondKind The strategy which moves second.
+     *  @return The number of games the first strategy won.
+     */
+    private static long playLanes(IntVector piles, VectorMask<Integer> inRange, int firstKind, int secondKind)
+    {
+        // Games which start without any match sticks are lost by the first player.
+        VectorMask<Integer> alive = inRange.and(piles.compare(VectorOperators.GT, 0));
+
+        long firstWins = 0;
+        boolean firstToMove = true;
+
+        while (alive.anyTrue())
+        {
+            IntVector moves = moves(firstToMove ? firstKind : secondKind, piles);
+
+            // The same correction as NimGame.assignMove.
+            moves = moves.blend(1, piles.sub(moves).compare(VectorOperators.EQ, -1));
+
+            // An illegal move forfeits the game.
+            VectorMask<Integer> illegal = moves.compare(VectorOperators.LT, 1)
+                    .or(moves.compare(VectorOperators.GT, 2))
+                    .and(alive);
+
+            piles = piles.lanewise(VectorOperators.SUB, moves, alive);
+            VectorMask<Integer> won = piles.compare(VectorOperators.EQ, 0).and(alive).andNot(illegal);
+
+            firstWins += firstToMove ? won.trueCount() : illegal.trueCount();
+
+            alive = alive.andNot(won).andNot(illegal);
+            firstToMove = !firstToMove;
+        }
+
+        return firstWins;
+    }
+
+
+    /**
+     *  Work out the move in every lane. Every lane still playing holds a pile above 0.
+     *
+     *  @param kind The strategy to move with.
+     *  @param piles The pile in each lane.
+     *  @return The move in each lane.
+     */
+    private static IntVector moves(int kind, IntVector piles)
+    {
+        return switch (kind)
+        {
+            // (pile % 2) + 1, but 1 from a pile of 1.
+            case MODULO -> piles.and(1).add(1).blend(1, piles.compare(VectorOperators.EQ, 1));
+
+            // Look the move up in a bit table, then mask piles outside 1 to 10 to 0.
+            case PREDEFINED -> IntVector.broadcast(SPECIES, PREDEFINED_TWOS)
+                    .lanewise(VectorOperators.LSHR, piles)
+                    .and(1)
+                    .add(1)
+                    .blend(0, piles.compare(VectorOperators.GT, 10));
+
+            // pile % 3, or 1 when that is 0. The divide is done with a multiply.
+            case OPTIMAL ->
+            {
+                IntVector remainder = piles.sub(piles.mul(0xAAAB).lanewise(VectorOperators.LSHR, 17).mul(3));
+                yield remainder.blend(1, remainder.compare(VectorOperators.EQ, 0));
+            }
+
+            default -> throw new IllegalStateException("Unexpected value: " + kind);
+        };
+    }
+
+
+    /**
+     *  Find which lane strategy matches a move strategy. Subclasses could change
+     *  the moves, so only the exact classes are matched, and the lanes only
+     *  play <code>OptimalStrategy</code> when the last match stick wins.
+     *
+     *  @param strategy The move strategy.
+     *  @return The lane strategy, or <code>UNSUPPORTED</code>.
+     */
+    private static int kindOf(MoveStrategy strategy)
+    {
+        Class<?> type = strategy.getClass();
+
+        if (type == ModuloStrategy.class)
+        {
+            return MODULO;
+        }
+        else if (type == PreDefinedStrategy.class)
+        {
+            return PREDEFINED;
+        }
+        else if (type == OptimalStrategy.class && !((OptimalStrategy) strategy).isMisere())
+        {
+            return OPTIMAL;
+        }
+
+        return UNSUPPORTED;
+    }
+
+
+    /**
+     *  Copy part of an array.
+     *
+     *  @param array The array.
+     *  @param offset The first index to copy.
+     *  @param length The number of elements.
+     *  @return The copy.
+     */
+    private static int[] copyOf(int[] array, int offset, int length)
+    {
+        int[] copy = new int[length];
+        System.arraycopy(array, offset, copy, 0, length);
+        return copy;
+    }
+}